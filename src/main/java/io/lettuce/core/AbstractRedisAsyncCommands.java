@@ -215,6 +215,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.clientUnblock(id, type));
     }
 
+    @Override
+    public RedisFuture<String> clientTracking(TrackingArgs args) {
+        return dispatch(commandBuilder.clientTracking(args));
+    }
+
     @Override
     public RedisFuture<String> clusterAddSlots(int... slots) {
         return dispatch(commandBuilder.clusterAddslots(slots));
@@ -675,6 +680,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.get(key));
     }
 
+    @Override
+    public RedisFuture<Long> get(BulkStreamingChannel channel, K key) {
+        return dispatch(commandBuilder.get(channel, key));
+    }
+
     public StatefulConnection<K, V> getConnection() {
         return connection;
     }
@@ -1800,6 +1810,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public RedisFuture<ScoredValues<V>> zrangeScoredValues(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrangeScoredValues(key, start, stop));
+    }
+
     @Override
     public RedisFuture<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return dispatch(commandBuilder.zrangeWithScores(channel, key, start, stop));
@@ -2007,6 +2022,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrevrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public RedisFuture<ScoredValues<V>> zrevrangeScoredValues(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrevrangeScoredValues(key, start, stop));
+    }
+
     @Override
     public RedisFuture<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return dispatch(commandBuilder.zrevrangeWithScores(channel, key, start, stop));
@@ -230,6 +230,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createMono(() -> commandBuilder.clientUnblock(id, type));
     }
 
+    @Override
+    public Mono<String> clientTracking(TrackingArgs args) {
+        return createMono(() -> commandBuilder.clientTracking(args));
+    }
+
     public void close() {
         connection.close();
     }
@@ -733,6 +738,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createMono(() -> commandBuilder.get(key));
     }
 
+    @Override
+    public Mono<Long> get(BulkStreamingChannel channel, K key) {
+        return createMono(() -> commandBuilder.get(channel, key));
+    }
+
     public StatefulConnection<K, V> getConnection() {
         return connection;
     }
@@ -1872,6 +1882,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public Mono<ScoredValues<V>> zrangeScoredValues(K key, long start, long stop) {
+        return createMono(() -> commandBuilder.zrangeScoredValues(key, start, stop));
+    }
+
     @Override
     public Mono<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return createMono(() -> commandBuilder.zrangeWithScores(channel, key, start, stop));
@@ -2075,6 +2090,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrevrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public Mono<ScoredValues<V>> zrevrangeScoredValues(K key, long start, long stop) {
+        return createMono(() -> commandBuilder.zrevrangeScoredValues(key, start, stop));
+    }
+
     @Override
     public Mono<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return createMono(() -> commandBuilder.zrevrangeWithScores(channel, key, start, stop));
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.internal.TimeoutProvider;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Base class for synchronous command implementations that delegate to {@link RedisAsyncCommands} and await command completion
+ * without reflection. Await semantics are the same as the {@link java.lang.reflect.Proxy proxy-based} synchronous API: Command
+ * futures are awaited using the timeout from {@link TimeoutOptions} and commands issued within a transaction return
+ * {@literal null} as their result is reported by {@code EXEC}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ * @see RedisSyncCommandsImpl
+ */
+public abstract class AbstractRedisSyncCommands<K, V> {
+
+    protected final StatefulRedisConnection<K, V> connection;
+
+    protected final RedisAsyncCommands<K, V> async;
+
+    private final TimeoutProvider timeoutProvider;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on.
+     * @param async the asynchronous API to delegate to.
+     */
+    protected AbstractRedisSyncCommands(StatefulRedisConnection<K, V> connection, RedisAsyncCommands<K, V> async) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(async, "RedisAsyncCommands must not be null");
+
+        this.connection = connection;
+        this.async = async;
+        this.timeoutProvider = new TimeoutProvider(() -> connection.getOptions().getTimeoutOptions(),
+                () -> connection.getTimeout().toNanos());
+    }
+
+    /**
+     * Await completion of {@code future}. Returns {@literal null} without awaiting if a transaction is active.
+     *
+     * @param future the command future.
+     * @return the command result or {@literal null} if a transaction is active.
+     */
+    protected <T> T await(RedisFuture<T> future) {
+
+        if (connection.isMulti()) {
+            return null;
+        }
+
+        return awaitTransactionControl(future);
+    }
+
+    /**
+     * Await completion of a transaction control command ({@code MULTI}, {@code EXEC}, {@code DISCARD}) regardless of the
+     * transaction state.
+     *
+     * @param future the command future.
+     * @return the command result.
+     */
+    protected <T> T awaitTransactionControl(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, getTimeoutNs(future), TimeUnit.NANOSECONDS);
+    }
+
+    private long getTimeoutNs(RedisFuture<?> future) {
+
+        if (future instanceof RedisCommand) {
+            return timeoutProvider.getTimeoutNs((RedisCommand<?, ?, ?>) future);
+        }
+
+        return connection.getTimeout().toNanos();
+    }
+}
@@ -45,6 +45,9 @@ public class ClientOptions implements Serializable {
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
     public static final TimeoutOptions DEFAULT_TIMEOUT_OPTIONS = TimeoutOptions.create();
     public static final int DEFAULT_BUFFER_USAGE_RATIO = 3;
+    public static final int DEFAULT_ZERO_COPY_WRITE_THRESHOLD = 0;
+    public static final FlushCoalescingOptions DEFAULT_FLUSH_COALESCING_OPTIONS = FlushCoalescingOptions.create();
+    public static final PubSubDispatchOptions DEFAULT_PUB_SUB_DISPATCH_OPTIONS = PubSubDispatchOptions.create();
 
     private final boolean pingBeforeActivateConnection;
     private final ProtocolVersion protocolVersion;
@@ -59,6 +62,9 @@ public class ClientOptions implements Serializable {
     private final SslOptions sslOptions;
     private final TimeoutOptions timeoutOptions;
     private final int bufferUsageRatio;
+    private final int zeroCopyWriteThreshold;
+    private final FlushCoalescingOptions flushCoalescingOptions;
+    private final PubSubDispatchOptions pubSubDispatchOptions;
 
     protected ClientOptions(Builder builder) {
         this.pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -74,6 +80,9 @@ public class ClientOptions implements Serializable {
         this.sslOptions = builder.sslOptions;
         this.timeoutOptions = builder.timeoutOptions;
         this.bufferUsageRatio = builder.bufferUsageRatio;
+        this.zeroCopyWriteThreshold = builder.zeroCopyWriteThreshold;
+        this.flushCoalescingOptions = builder.flushCoalescingOptions;
+        this.pubSubDispatchOptions = builder.pubSubDispatchOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -90,6 +99,9 @@ public class ClientOptions implements Serializable {
         this.sslOptions = original.getSslOptions();
         this.timeoutOptions = original.getTimeoutOptions();
         this.bufferUsageRatio = original.getBufferUsageRatio();
+        this.zeroCopyWriteThreshold = original.getZeroCopyWriteThreshold();
+        this.flushCoalescingOptions = original.getFlushCoalescingOptions();
+        this.pubSubDispatchOptions = original.getPubSubDispatchOptions();
     }
 
     /**
@@ -138,6 +150,9 @@ public class ClientOptions implements Serializable {
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
         private TimeoutOptions timeoutOptions = DEFAULT_TIMEOUT_OPTIONS;
         private int bufferUsageRatio = DEFAULT_BUFFER_USAGE_RATIO;
+        private int zeroCopyWriteThreshold = DEFAULT_ZERO_COPY_WRITE_THRESHOLD;
+        private FlushCoalescingOptions flushCoalescingOptions = DEFAULT_FLUSH_COALESCING_OPTIONS;
+        private PubSubDispatchOptions pubSubDispatchOptions = DEFAULT_PUB_SUB_DISPATCH_OPTIONS;
 
         protected Builder() {
         }
@@ -330,6 +345,55 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Size threshold in bytes for key and value arguments that are written without copying them into the command buffer.
+         * Arguments of at least {@code zeroCopyWriteThreshold} bytes are wrapped and written alongside the protocol framing
+         * using a {@link io.netty.buffer.CompositeByteBuf} so the transport can use gathering writes. Wrapped arguments must
+         * not be modified until the command is written. Thresholds below {@literal 1024} bytes are raised to {@literal 1024}
+         * bytes. {@literal 0} disables zero-copy writes. See {@link #DEFAULT_ZERO_COPY_WRITE_THRESHOLD}.
+         *
+         * @param zeroCopyWriteThreshold the threshold in bytes, must not be negative.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder zeroCopyWriteThreshold(int zeroCopyWriteThreshold) {
+
+            LettuceAssert.isTrue(zeroCopyWriteThreshold >= 0, "ZeroCopyWriteThreshold must not be negative");
+
+            this.zeroCopyWriteThreshold = zeroCopyWriteThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the {@link FlushCoalescingOptions} to coalesce flushes of auto-flushed commands. See
+         * {@link #DEFAULT_FLUSH_COALESCING_OPTIONS}.
+         *
+         * @param flushCoalescingOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder flushCoalescingOptions(FlushCoalescingOptions flushCoalescingOptions) {
+
+            LettuceAssert.notNull(flushCoalescingOptions, "FlushCoalescingOptions must not be null");
+            this.flushCoalescingOptions = flushCoalescingOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PubSubDispatchOptions} to notify Pub/Sub listeners off the I/O thread. See
+         * {@link #DEFAULT_PUB_SUB_DISPATCH_OPTIONS}.
+         *
+         * @param pubSubDispatchOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+
+            LettuceAssert.notNull(pubSubDispatchOptions, "PubSubDispatchOptions must not be null");
+            this.pubSubDispatchOptions = pubSubDispatchOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -358,7 +422,9 @@ public class ClientOptions implements Serializable {
                 .publishOnScheduler(isPublishOnScheduler()).pingBeforeActivateConnection(isPingBeforeActivateConnection())
                 .protocolVersion(getConfiguredProtocolVersion()).requestQueueSize(getRequestQueueSize())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
-                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions());
+                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .flushCoalescingOptions(getFlushCoalescingOptions()).pubSubDispatchOptions(getPubSubDispatchOptions())
+                .zeroCopyWriteThreshold(getZeroCopyWriteThreshold());
 
         return builder;
     }
@@ -516,6 +582,37 @@ public class ClientOptions implements Serializable {
         return bufferUsageRatio;
     }
 
+    /**
+     * Size threshold in bytes for key and value arguments that are written without copying them into the command buffer.
+     * {@literal 0} if zero-copy writes are disabled.
+     *
+     * @return the zero-copy write threshold in bytes.
+     * @since 6.0
+     */
+    public int getZeroCopyWriteThreshold() {
+        return zeroCopyWriteThreshold;
+    }
+
+    /**
+     * Returns the {@link FlushCoalescingOptions}.
+     *
+     * @return the {@link FlushCoalescingOptions}.
+     * @since 6.0
+     */
+    public FlushCoalescingOptions getFlushCoalescingOptions() {
+        return flushCoalescingOptions;
+    }
+
+    /**
+     * Returns the {@link PubSubDispatchOptions}.
+     *
+     * @return the {@link PubSubDispatchOptions}.
+     * @since 6.0
+     */
+    public PubSubDispatchOptions getPubSubDispatchOptions() {
+        return pubSubDispatchOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
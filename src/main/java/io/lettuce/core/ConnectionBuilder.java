@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 
 import reactor.core.publisher.Mono;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
 import io.lettuce.core.protocol.*;
 import io.lettuce.core.resource.ClientResources;
 import io.netty.bootstrap.Bootstrap;
@@ -31,6 +32,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.util.Timer;
+import io.netty.util.internal.PlatformDependent;
 
 /**
  * Connection builder for connections. This class is part of the internal API.
@@ -80,7 +82,15 @@ public class ConnectionBuilder {
         connection.setOptions(clientOptions);
 
         handlers.add(new ChannelGroupListener(channelGroup, clientResources.eventBus()));
-        handlers.add(new CommandEncoder());
+        CommandLatencyRecorder latencyRecorder = clientResources.commandLatencyRecorder();
+        handlers.add(new CommandEncoder(PlatformDependent.directBufferPreferred(),
+                latencyRecorder.isEnabled() && latencyRecorder.isDetailedLatenciesEnabled(),
+                clientOptions.getZeroCopyWriteThreshold()));
+
+        if (clientOptions.getFlushCoalescingOptions().isEnabled()) {
+            handlers.add(new FlushCoalescingHandler(clientOptions.getFlushCoalescingOptions()));
+        }
+
         handlers.add(getHandshakeHandler());
         handlers.add(commandHandlerSupplier.get());
 
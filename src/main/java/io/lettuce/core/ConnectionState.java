@@ -17,6 +17,7 @@ package io.lettuce.core;
 
 import java.util.List;
 
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.ProtocolVersion;
 
 /**
@@ -35,6 +36,7 @@ public class ConnectionState {
     private volatile int db;
     private volatile boolean readOnly;
     private volatile String clientName;
+    private volatile CommandArgs<?, ?> trackingArgs;
 
     /**
      * Applies settings from {@link RedisURI}.
@@ -165,6 +167,19 @@ public class ConnectionState {
         return clientName;
     }
 
+    /**
+     * Sets the arguments of the last successful {@code CLIENT TRACKING} command to restore key tracking on reconnect.
+     *
+     * @param trackingArgs the {@code CLIENT TRACKING} arguments, {@literal null} if key tracking is disabled.
+     */
+    protected void setTrackingArgs(CommandArgs<?, ?> trackingArgs) {
+        this.trackingArgs = trackingArgs;
+    }
+
+    CommandArgs<?, ?> getTrackingArgs() {
+        return trackingArgs;
+    }
+
     /**
      * HELLO Handshake response.
      */
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to coalesce flushes of auto-flushed commands. With flush coalescing enabled, command writes are flushed at the end
+ * of the current event loop cycle instead of once per command, or earlier once the number of pending commands or encoded bytes
+ * reaches the configured threshold. Coalescing reduces the number of {@code write} system calls for concurrent command
+ * submission without the need to {@link io.lettuce.core.api.StatefulConnection#setAutoFlushCommands(boolean) disable
+ * auto-flush} and to flush commands manually.
+ * <p>
+ * Flush coalescing is disabled by default.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+@SuppressWarnings("serial")
+public class FlushCoalescingOptions implements Serializable {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final int DEFAULT_MAX_COMMANDS = 256;
+
+    public static final int DEFAULT_MAX_BYTES = 64 * 1024;
+
+    private final boolean enabled;
+    private final int maxCommands;
+    private final int maxBytes;
+
+    private FlushCoalescingOptions(boolean enabled, int maxCommands, int maxBytes) {
+
+        this.enabled = enabled;
+        this.maxCommands = maxCommands;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a new {@link FlushCoalescingOptions.Builder} to construct {@link FlushCoalescingOptions}.
+     *
+     * @return a new {@link FlushCoalescingOptions.Builder} to construct {@link FlushCoalescingOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link FlushCoalescingOptions} with default settings (disabled).
+     *
+     * @return a new instance of {@link FlushCoalescingOptions} with default settings.
+     */
+    public static FlushCoalescingOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link FlushCoalescingOptions} with enabled flush coalescing using default thresholds.
+     *
+     * @return a new instance of {@link FlushCoalescingOptions} with enabled flush coalescing.
+     */
+    public static FlushCoalescingOptions enabled() {
+        return builder().enabled().build();
+    }
+
+    /**
+     * Builder for {@link FlushCoalescingOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private int maxCommands = DEFAULT_MAX_COMMANDS;
+        private int maxBytes = DEFAULT_MAX_BYTES;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable flush coalescing. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enabled() {
+            return enabled(true);
+        }
+
+        /**
+         * Configure whether to coalesce flushes. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@literal true} to coalesce flushes; {@literal false} to flush each command write.
+         * @return {@code this}
+         */
+        public Builder enabled(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Number of pending commands that triggers an immediate flush. See {@link #DEFAULT_MAX_COMMANDS}.
+         *
+         * @param maxCommands must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxCommands(int maxCommands) {
+
+            LettuceAssert.isTrue(maxCommands > 0, "Max commands must be greater 0");
+
+            this.maxCommands = maxCommands;
+            return this;
+        }
+
+        /**
+         * Number of pending encoded bytes that triggers an immediate flush. See {@link #DEFAULT_MAX_BYTES}.
+         *
+         * @param maxBytes must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxBytes(int maxBytes) {
+
+            LettuceAssert.isTrue(maxBytes > 0, "Max bytes must be greater 0");
+
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link FlushCoalescingOptions}.
+         *
+         * @return new instance of {@link FlushCoalescingOptions}
+         */
+        public FlushCoalescingOptions build() {
+            return new FlushCoalescingOptions(enabled, maxCommands, maxBytes);
+        }
+    }
+
+    /**
+     * @return {@literal true} if flush coalescing is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return number of pending commands that triggers an immediate flush.
+     */
+    public int getMaxCommands() {
+        return maxCommands;
+    }
+
+    /**
+     * @return number of pending encoded bytes that triggers an immediate flush.
+     */
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+}
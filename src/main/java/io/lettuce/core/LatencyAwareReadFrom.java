@@ -0,0 +1,509 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.ConnectionMetrics;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
+import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+/**
+ * {@link ReadFrom} implementation that routes reads using live per-node response times. Response times are tracked as
+ * peak-sensitive exponentially weighted moving average (EWMA) of command completion latencies: a response slower than the
+ * current average replaces the average immediately while faster responses decay it over {@link Builder#decayTime(Duration)}.
+ * The cost of a node is its average latency weighted by the number of in-flight commands so that a stalled node becomes
+ * expensive before its commands complete.
+ * <p>
+ * Nodes are selected from the nodes that the {@link Builder#readFrom(ReadFrom) underlying} {@link ReadFrom} selects using
+ * power-of-two-choices: two random candidates are compared and the cheaper one is used. Nodes whose average latency exceeds
+ * the fastest node by {@link Builder#outlierFactor(double)} are ejected for {@link Builder#ejectionTime(Duration)}. Ejected
+ * nodes are used only as fallback. Nodes return with cleared statistics after the ejection time.
+ * <p>
+ * {@link LatencyAwareReadFrom} receives latencies and connection state as {@link CommandLatencyRecorder} and
+ * {@link ConnectionMetricsRecorder} and must be registered with
+ * {@link io.lettuce.core.resource.ClientResources.Builder#commandLatencyRecorder(CommandLatencyRecorder)} and
+ * {@link io.lettuce.core.resource.ClientResources.Builder#connectionMetricsRecorder(ConnectionMetricsRecorder)}:
+ *
+ * <pre class="code">
+ * LatencyAwareReadFrom readFrom = LatencyAwareReadFrom.create();
+ *
+ * ClientResources resources = ClientResources.builder().commandLatencyRecorder(readFrom).connectionMetricsRecorder(readFrom)
+ *         .build();
+ *
+ * connection.setReadFrom(readFrom);
+ * </pre>
+ *
+ * Nodes are correlated by host and port of their {@link RedisURI} and the remote address of the connection. Latencies of
+ * blocking commands such as {@code BLPOP}, {@code XREAD} or {@code WAIT} and of Pub/Sub commands are not recorded as their
+ * completion time does not reflect the responsiveness of a node.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class LatencyAwareReadFrom extends ReadFrom implements CommandLatencyRecorder, ConnectionMetricsRecorder {
+
+    public static final Duration DEFAULT_DECAY_TIME = Duration.ofSeconds(5);
+    public static final double DEFAULT_OUTLIER_FACTOR = 3;
+    public static final Duration DEFAULT_OUTLIER_THRESHOLD = Duration.ofMillis(1);
+    public static final Duration DEFAULT_EJECTION_TIME = Duration.ofSeconds(5);
+
+    private static final Set<CommandType> IGNORED_COMMANDS = EnumSet.of(CommandType.BLPOP, CommandType.BRPOP,
+            CommandType.BRPOPLPUSH, CommandType.BZPOPMIN, CommandType.BZPOPMAX, CommandType.XREAD, CommandType.XREADGROUP,
+            CommandType.WAIT, CommandType.MONITOR, CommandType.SUBSCRIBE, CommandType.UNSUBSCRIBE, CommandType.PSUBSCRIBE,
+            CommandType.PUNSUBSCRIBE);
+
+    private final ReadFrom readFrom;
+    private final long decayTimeNs;
+    private final double outlierFactor;
+    private final long outlierThresholdNs;
+    private final long ejectionTimeNs;
+
+    private final Map<String, NodeStatistics> statisticsByNode = new ConcurrentHashMap<>();
+    private final Map<SocketAddress, NodeStatistics> statisticsByAddress = new ConcurrentHashMap<>();
+
+    protected LatencyAwareReadFrom(Builder builder) {
+
+        this.readFrom = builder.readFrom;
+        this.decayTimeNs = builder.decayTime.toNanos();
+        this.outlierFactor = builder.outlierFactor;
+        this.outlierThresholdNs = builder.outlierThreshold.toNanos();
+        this.ejectionTimeNs = builder.ejectionTime.toNanos();
+    }
+
+    /**
+     * Returns a new {@link LatencyAwareReadFrom.Builder} to construct {@link LatencyAwareReadFrom}.
+     *
+     * @return a new {@link LatencyAwareReadFrom.Builder} to construct {@link LatencyAwareReadFrom}.
+     */
+    public static LatencyAwareReadFrom.Builder builder() {
+        return new LatencyAwareReadFrom.Builder();
+    }
+
+    /**
+     * Create a new {@link LatencyAwareReadFrom} using default settings selecting from {@link ReadFrom#ANY any node}.
+     *
+     * @return a new instance of {@link LatencyAwareReadFrom}.
+     */
+    public static LatencyAwareReadFrom create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new {@link LatencyAwareReadFrom} using default settings selecting from nodes that are selected by
+     * {@code readFrom}.
+     *
+     * @param readFrom the {@link ReadFrom} to select read candidates, must not be {@literal null}.
+     * @return a new instance of {@link LatencyAwareReadFrom}.
+     */
+    public static LatencyAwareReadFrom create(ReadFrom readFrom) {
+        return builder().readFrom(readFrom).build();
+    }
+
+    /**
+     * Builder for {@link LatencyAwareReadFrom}.
+     */
+    public static class Builder {
+
+        private ReadFrom readFrom = ReadFrom.ANY;
+        private Duration decayTime = DEFAULT_DECAY_TIME;
+        private double outlierFactor = DEFAULT_OUTLIER_FACTOR;
+        private Duration outlierThreshold = DEFAULT_OUTLIER_THRESHOLD;
+        private Duration ejectionTime = DEFAULT_EJECTION_TIME;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the {@link ReadFrom} that selects read candidates. Defaults to {@link ReadFrom#ANY}.
+         *
+         * @param readFrom the {@link ReadFrom} to select read candidates, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder readFrom(ReadFrom readFrom) {
+
+            LettuceAssert.notNull(readFrom, "ReadFrom must not be null");
+
+            this.readFrom = readFrom;
+            return this;
+        }
+
+        /**
+         * Set the decay time of the latency average. Larger values smooth latency over a longer period of time. Defaults to
+         * {@literal 5 seconds}. See {@link #DEFAULT_DECAY_TIME}.
+         *
+         * @param decayTime the decay time, must not be {@literal null} and greater zero.
+         * @return {@code this}
+         */
+        public Builder decayTime(Duration decayTime) {
+
+            LettuceAssert.notNull(decayTime, "Decay time must not be null");
+            LettuceAssert.isTrue(!decayTime.isNegative() && !decayTime.isZero(), "Decay time must be greater zero");
+
+            this.decayTime = decayTime;
+            return this;
+        }
+
+        /**
+         * Set the factor by which the latency average of a node must exceed the fastest node to eject the node. Defaults to
+         * {@literal 3}. See {@link #DEFAULT_OUTLIER_FACTOR}.
+         *
+         * @param outlierFactor the outlier factor, must be greater {@literal 1}.
+         * @return {@code this}
+         */
+        public Builder outlierFactor(double outlierFactor) {
+
+            LettuceAssert.isTrue(outlierFactor > 1, "Outlier factor must be greater 1");
+
+            this.outlierFactor = outlierFactor;
+            return this;
+        }
+
+        /**
+         * Set the minimum latency average for a node to be considered an outlier. Avoids ejection of nodes due to jitter at low
+         * latencies. Defaults to {@literal 1 millisecond}. See {@link #DEFAULT_OUTLIER_THRESHOLD}.
+         *
+         * @param outlierThreshold the outlier threshold, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder outlierThreshold(Duration outlierThreshold) {
+
+            LettuceAssert.notNull(outlierThreshold, "Outlier threshold must not be null");
+
+            this.outlierThreshold = outlierThreshold;
+            return this;
+        }
+
+        /**
+         * Set the duration for which outlier nodes are ejected. Defaults to {@literal 5 seconds}. See
+         * {@link #DEFAULT_EJECTION_TIME}.
+         *
+         * @param ejectionTime the ejection time, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder ejectionTime(Duration ejectionTime) {
+
+            LettuceAssert.notNull(ejectionTime, "Ejection time must not be null");
+
+            this.ejectionTime = ejectionTime;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link LatencyAwareReadFrom}.
+         *
+         * @return new instance of {@link LatencyAwareReadFrom}.
+         */
+        public LatencyAwareReadFrom build() {
+            return new LatencyAwareReadFrom(this);
+        }
+    }
+
+    @Override
+    public List<RedisNodeDescription> select(Nodes nodes) {
+
+        List<RedisNodeDescription> candidates = readFrom.select(nodes);
+
+        if (candidates.size() < 2) {
+            return candidates;
+        }
+
+        long now = System.nanoTime();
+        NodeStatistics[] statistics = new NodeStatistics[candidates.size()];
+        double fastest = Double.MAX_VALUE;
+
+        for (int i = 0; i < statistics.length; i++) {
+
+            NodeStatistics node = statisticsByNode.get(getKey(candidates.get(i)));
+            statistics[i] = node;
+
+            if (node != null && !node.isEjected(now) && node.hasLatency()) {
+                fastest = Math.min(fastest, node.getLatency());
+            }
+        }
+
+        List<RedisNodeDescription> available = new ArrayList<>(candidates.size());
+        List<NodeStatistics> availableStatistics = new ArrayList<>(candidates.size());
+        List<RedisNodeDescription> ejected = new ArrayList<>(0);
+
+        for (int i = 0; i < statistics.length; i++) {
+
+            NodeStatistics node = statistics[i];
+
+            if (node != null && (node.isEjected(now) || isOutlier(node, fastest))) {
+
+                node.eject(now + ejectionTimeNs);
+                ejected.add(candidates.get(i));
+                continue;
+            }
+
+            available.add(candidates.get(i));
+            availableStatistics.add(node);
+        }
+
+        if (available.isEmpty()) {
+            return candidates;
+        }
+
+        List<RedisNodeDescription> result = new ArrayList<>(candidates.size());
+        int selected = selectPowerOfTwoChoices(availableStatistics);
+
+        result.add(available.get(selected));
+        for (int i = 0; i < available.size(); i++) {
+            if (i != selected) {
+                result.add(available.get(i));
+            }
+        }
+
+        result.addAll(ejected);
+
+        return result;
+    }
+
+    private boolean isOutlier(NodeStatistics node, double fastest) {
+
+        if (!node.hasLatency() || fastest == Double.MAX_VALUE) {
+            return false;
+        }
+
+        double latency = node.getLatency();
+        return latency > outlierThresholdNs && latency > fastest * outlierFactor;
+    }
+
+    private static int selectPowerOfTwoChoices(List<NodeStatistics> statistics) {
+
+        int size = statistics.size();
+
+        if (size == 1) {
+            return 0;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+
+        if (second >= first) {
+            second++;
+        }
+
+        return getCost(statistics.get(first)) <= getCost(statistics.get(second)) ? first : second;
+    }
+
+    private static double getCost(NodeStatistics statistics) {
+
+        // nodes without latency information are probed first.
+        return statistics == null ? 0 : statistics.getCost();
+    }
+
+    @Override
+    protected boolean isOrderSensitive() {
+        return true;
+    }
+
+    @Override
+    protected boolean isDynamic() {
+        return true;
+    }
+
+    @Override
+    public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+            long firstResponseLatency, long completionLatency) {
+
+        if (remote == null || IGNORED_COMMANDS.contains(commandType)) {
+            return;
+        }
+
+        getStatistics(remote).record(completionLatency, System.nanoTime());
+    }
+
+    @Override
+    public void connectionActivated(ConnectionMetrics connection) {
+
+        SocketAddress remote = connection.remoteAddress();
+
+        if (remote != null) {
+            getStatistics(remote).connections.add(connection);
+        }
+    }
+
+    @Override
+    public void connectionDeactivated(ConnectionMetrics connection) {
+
+        for (NodeStatistics statistics : statisticsByNode.values()) {
+            statistics.connections.remove(connection);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns the latency average for {@code node}.
+     *
+     * @param node the node.
+     * @return the latency average in {@link java.util.concurrent.TimeUnit#NANOSECONDS} or {@literal -1} if no latency was
+     *         recorded for {@code node}.
+     */
+    public long getLatency(RedisNodeDescription node) {
+
+        NodeStatistics statistics = statisticsByNode.get(getKey(node));
+        return statistics != null && statistics.hasLatency() ? (long) statistics.getLatency() : -1;
+    }
+
+    private NodeStatistics getStatistics(SocketAddress remote) {
+
+        NodeStatistics statistics = statisticsByAddress.get(remote);
+
+        if (statistics == null) {
+            statistics = statisticsByAddress.computeIfAbsent(remote,
+                    it -> statisticsByNode.computeIfAbsent(getKey(it), key -> new NodeStatistics(decayTimeNs)));
+        }
+
+        return statistics;
+    }
+
+    private static String getKey(RedisNodeDescription node) {
+
+        RedisURI uri = node.getUri();
+        return uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static String getKey(SocketAddress remote) {
+
+        if (remote instanceof InetSocketAddress) {
+
+            InetSocketAddress address = (InetSocketAddress) remote;
+            return address.getHostString() + ":" + address.getPort();
+        }
+
+        return remote.toString();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [readFrom=").append(readFrom);
+        sb.append(", decayTime=").append(Duration.ofNanos(decayTimeNs));
+        sb.append(", outlierFactor=").append(outlierFactor);
+        sb.append(", outlierThreshold=").append(Duration.ofNanos(outlierThresholdNs));
+        sb.append(", ejectionTime=").append(Duration.ofNanos(ejectionTimeNs));
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Latency statistics of a single node.
+     */
+    static class NodeStatistics {
+
+        private final long decayTimeNs;
+        private final Set<ConnectionMetrics> connections = new CopyOnWriteArraySet<>();
+
+        private double latency = -1;
+        private long lastUpdateNs;
+        private volatile long ejectedUntilNs;
+
+        NodeStatistics(long decayTimeNs) {
+            this.decayTimeNs = decayTimeNs;
+        }
+
+        synchronized void record(long latencyNs, long now) {
+
+            if (latency < 0 || latencyNs > latency) {
+                latency = latencyNs;
+            } else {
+
+                double weight = Math.exp(-(now - lastUpdateNs) / (double) decayTimeNs);
+                latency = latency * weight + latencyNs * (1 - weight);
+            }
+
+            lastUpdateNs = now;
+        }
+
+        synchronized boolean hasLatency() {
+            return latency >= 0;
+        }
+
+        synchronized double getLatency() {
+            return latency;
+        }
+
+        double getCost() {
+
+            double latency = getLatency();
+
+            if (latency < 0) {
+                return 0;
+            }
+
+            int inFlight = 0;
+            for (ConnectionMetrics connection : connections) {
+                inFlight += connection.getInFlightCommands();
+            }
+
+            return latency * (inFlight + 1);
+        }
+
+        boolean isEjected(long now) {
+
+            long ejectedUntil = this.ejectedUntilNs;
+
+            if (ejectedUntil == 0) {
+                return false;
+            }
+
+            if (ejectedUntil - now > 0) {
+                return true;
+            }
+
+            // return with cleared statistics to probe the node again.
+            synchronized (this) {
+                if (this.ejectedUntilNs == ejectedUntil) {
+                    this.ejectedUntilNs = 0;
+                    this.latency = -1;
+                }
+            }
+
+            return false;
+        }
+
+        void eject(long until) {
+
+            if (ejectedUntilNs == 0) {
+                ejectedUntilNs = until;
+            }
+        }
+    }
+
+}
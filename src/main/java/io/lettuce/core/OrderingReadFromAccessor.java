@@ -41,4 +41,15 @@ public abstract class OrderingReadFromAccessor {
     public static boolean isOrderSensitive(ReadFrom readFrom) {
         return readFrom.isOrderSensitive();
     }
+
+    /**
+     * Returns whether the selection of this {@link ReadFrom} can change between invocations and must not be cached.
+     *
+     * @return {@literal true} if the selection must not be cached.
+     * @since 6.0
+     * @see ReadFrom#isDynamic()
+     */
+    public static boolean isDynamic(ReadFrom readFrom) {
+        return readFrom.isDynamic();
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to dispatch Pub/Sub notifications to {@link io.lettuce.core.pubsub.RedisPubSubListener listeners}. By default,
+ * listeners are notified on the I/O thread that decodes the message so a slow listener delays reading responses of all
+ * connections that share the I/O thread. With dispatching enabled, notifications of a connection are queued and listeners
+ * are notified on the {@link io.lettuce.core.resource.ClientResources#eventExecutorGroup() computation thread pool}.
+ * Notifications of a connection are delivered in the order in which they were received and therefore retain ordering per
+ * channel and pattern.
+ * <p>
+ * The queue is bounded by {@link Builder#queueCapacity(int)} and applies the {@link OverflowPolicy} once the queue is full.
+ * <p>
+ * Dispatching is disabled by default.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+@SuppressWarnings("serial")
+public class PubSubDispatchOptions implements Serializable {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.PAUSE_READING;
+
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private PubSubDispatchOptions(boolean enabled, int queueCapacity, OverflowPolicy overflowPolicy) {
+
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     *
+     * @return a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link PubSubDispatchOptions} with default settings (disabled).
+     *
+     * @return a new instance of {@link PubSubDispatchOptions} with default settings.
+     */
+    public static PubSubDispatchOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link PubSubDispatchOptions} with enabled dispatching using default settings.
+     *
+     * @return a new instance of {@link PubSubDispatchOptions} with enabled dispatching.
+     */
+    public static PubSubDispatchOptions enabled() {
+        return builder().enabled().build();
+    }
+
+    /**
+     * Builder for {@link PubSubDispatchOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable dispatching. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enabled() {
+            return enabled(true);
+        }
+
+        /**
+         * Configure whether to dispatch notifications off the I/O thread. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@literal true} to dispatch notifications on the computation thread pool; {@literal false} to notify
+         *        listeners on the I/O thread.
+         * @return {@code this}
+         */
+        public Builder enabled(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Number of notifications that can be queued per connection before applying the {@link OverflowPolicy}. See
+         * {@link #DEFAULT_QUEUE_CAPACITY}.
+         *
+         * @param queueCapacity must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder queueCapacity(int queueCapacity) {
+
+            LettuceAssert.isTrue(queueCapacity > 0, "Queue capacity must be greater 0");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Policy to apply when the queue is full. See {@link #DEFAULT_OVERFLOW_POLICY}.
+         *
+         * @param overflowPolicy must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link PubSubDispatchOptions}.
+         *
+         * @return new instance of {@link PubSubDispatchOptions}
+         */
+        public PubSubDispatchOptions build() {
+            return new PubSubDispatchOptions(enabled, queueCapacity, overflowPolicy);
+        }
+    }
+
+    /**
+     * @return {@literal true} if notifications are dispatched off the I/O thread.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return number of notifications that can be queued per connection.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return the policy to apply when the queue is full.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Policy to apply when the notification queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Discard the oldest queued notification to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discard the new notification.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Queue the new notification and stop reading from the connection until the queue is drained to half of its
+         * capacity. Notifications that were already read from the connection are queued beyond the capacity.
+         */
+        PAUSE_READING;
+    }
+
+}
@@ -100,6 +100,18 @@ public abstract class ReadFrom {
         return false;
     }
 
+    /**
+     * Returns whether the selection of this {@link ReadFrom} can change between invocations for the same nodes, for example
+     * because it considers runtime statistics. Code using a dynamic {@link ReadFrom} must not cache the selection.
+     *
+     * @return {@literal true} if the selection must not be cached or {@literal false} if the selection can be cached until
+     *         the nodes change.
+     * @since 6.0
+     */
+    protected boolean isDynamic() {
+        return false;
+    }
+
     /**
      * Retrieve the {@link ReadFrom} preset by name.
      *
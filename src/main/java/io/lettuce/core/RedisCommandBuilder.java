@@ -285,6 +285,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(CLIENT, new IntegerOutput<>(codec), args);
     }
 
+    Command<K, V, String> clientTracking(TrackingArgs trackingArgs) {
+        LettuceAssert.notNull(trackingArgs, "TrackingArgs " + MUST_NOT_BE_NULL);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).add(TRACKING);
+        trackingArgs.build(args);
+        return createCommand(CLIENT, new StatusOutput<>(codec), args);
+    }
+
     Command<K, V, String> clusterAddslots(int[] slots) {
         notEmptySlots(slots);
 
@@ -850,6 +858,13 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(GET, new ValueOutput<>(codec), key);
     }
 
+    Command<K, V, Long> get(BulkStreamingChannel channel, K key) {
+        notNullKey(key);
+        notNull(channel);
+
+        return createCommand(GET, new BulkStreamingOutput<>(codec, channel), key);
+    }
+
     Command<K, V, Long> getbit(K key, long offset) {
         notNullKey(key);
 
@@ -2630,6 +2645,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZRANGE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValues<V>> zrangeScoredValues(K key, long start, long stop) {
+        notNullKey(key);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key).add(start).add(stop).add(WITHSCORES);
+        return createCommand(ZRANGE, new ScoredValuesOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         notNullKey(key);
         notNull(channel);
@@ -2905,6 +2928,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZREVRANGE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValues<V>> zrevrangeScoredValues(K key, long start, long stop) {
+        notNullKey(key);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key).add(start).add(stop).add(WITHSCORES);
+        return createCommand(ZREVRANGE, new ScoredValuesOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         notNullKey(key);
         LettuceAssert.notNull(channel, "ValueStreamingChannel " + MUST_NOT_BE_NULL);
@@ -3231,6 +3262,10 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(channel, "KeyValueStreamingChannel " + MUST_NOT_BE_NULL);
     }
 
+    static void notNull(BulkStreamingChannel channel) {
+        LettuceAssert.notNull(channel, "BulkStreamingChannel " + MUST_NOT_BE_NULL);
+    }
+
     static void notNullMinMax(String min, String max) {
         LettuceAssert.notNull(min, "Min " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(max, "Max " + MUST_NOT_BE_NULL);
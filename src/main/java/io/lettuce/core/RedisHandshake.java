@@ -24,7 +24,10 @@ import java.util.concurrent.CompletionStage;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ConnectionInitializer;
 import io.lettuce.core.protocol.ProtocolVersion;
 import io.netty.channel.Channel;
@@ -198,6 +201,11 @@ class RedisHandshake implements ConnectionInitializer {
             postHandshake.add(new AsyncCommand<>(this.commandBuilder.readOnly()));
         }
 
+        if (connectionState.getTrackingArgs() != null) {
+            postHandshake.add(new AsyncCommand<>(new Command<>(CommandType.CLIENT, new StatusOutput<>(StringCodec.UTF8),
+                    (CommandArgs) connectionState.getTrackingArgs())));
+        }
+
         if (postHandshake.isEmpty()) {
             return CompletableFuture.completedFuture(null);
         }
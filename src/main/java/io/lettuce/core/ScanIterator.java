@@ -22,10 +22,21 @@ import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.Flux;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisHashReactiveCommands;
+import io.lettuce.core.api.reactive.RedisKeyReactiveCommands;
+import io.lettuce.core.api.reactive.RedisSetReactiveCommands;
+import io.lettuce.core.api.reactive.RedisSortedSetReactiveCommands;
+import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.api.sync.RedisHashCommands;
 import io.lettuce.core.api.sync.RedisKeyCommands;
 import io.lettuce.core.api.sync.RedisSetCommands;
 import io.lettuce.core.api.sync.RedisSortedSetCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
@@ -39,13 +50,16 @@ import io.lettuce.core.internal.LettuceAssert;
  * <p>
  * Data structure scanning is progressive and stateful and demand-aware. It supports full iterations (until all received cursors
  * are exhausted) and premature termination. Subsequent scan commands to fetch the cursor data get only issued if the caller
- * signals demand by consuming the {@link ScanIterator}.
+ * signals demand by consuming the {@link ScanIterator}. Methods accepting a {@code readAhead} argument fetch a bounded number
+ * of elements ahead of the caller so that the next page is requested while the current page is consumed. Read-ahead stops
+ * once all cursors are exhausted or when the iterator is {@link #close() closed}. Close read-ahead iterators that are not
+ * consumed until the end to stop issuing scan commands.
  *
  * @param <T> Element type
  * @author Mark Paluch
  * @since 4.4
  */
-public abstract class ScanIterator<T> implements Iterator<T> {
+public abstract class ScanIterator<T> implements Iterator<T>, AutoCloseable {
 
     private ScanIterator() {
     }
@@ -78,6 +92,36 @@ public abstract class ScanIterator<T> implements Iterator<T> {
         return scan(commands, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over keys in the keyspace with read-ahead. This method uses {@code SCAN} to perform an iterative
+     * scan.
+     * <p>
+     * Up to {@code readAhead} elements are fetched ahead of the caller so the next {@code SCAN} is issued while the current
+     * page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a cursor
+     * request in flight. Read-ahead requires {@code commands} to be obtained from a {@link StatefulRedisConnection} or
+     * {@link StatefulRedisClusterConnection}, other implementations scan without read-ahead.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to fetch ahead of the caller, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 6.0
+     */
+    public static <K, V> ScanIterator<K> scan(RedisKeyCommands<K, V> commands, ScanArgs scanArgs, int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        RedisKeyReactiveCommands<K, V> reactive = getReactiveCommands(commands);
+
+        if (reactive == null) {
+            return scan(commands, scanArgs);
+        }
+
+        return new ReadAheadScanIterator<>(ScanStream.scan(reactive, scanArgs), readAhead);
+    }
+
     private static <K, V> ScanIterator<K> scan(RedisKeyCommands<K, V> commands, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
@@ -136,6 +180,38 @@ public abstract class ScanIterator<T> implements Iterator<T> {
         return hscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key} with read-ahead. This method uses {@code HSCAN}
+     * to perform an iterative scan.
+     * <p>
+     * Up to {@code readAhead} elements are fetched ahead of the caller so the next {@code HSCAN} is issued while the current
+     * page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a cursor
+     * request in flight. Read-ahead requires {@code commands} to be obtained from a {@link StatefulRedisConnection} or
+     * {@link StatefulRedisClusterConnection}, other implementations scan without read-ahead.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to fetch ahead of the caller, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 6.0
+     */
+    public static <K, V> ScanIterator<KeyValue<K, V>> hscan(RedisHashCommands<K, V> commands, K key, ScanArgs scanArgs,
+            int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        RedisHashReactiveCommands<K, V> reactive = getReactiveCommands(commands);
+
+        if (reactive == null) {
+            return hscan(commands, key, scanArgs);
+        }
+
+        return new ReadAheadScanIterator<>(ScanStream.hscan(reactive, key, scanArgs), readAhead);
+    }
+
     private static <K, V> ScanIterator<KeyValue<K, V>> hscan(RedisHashCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -196,6 +272,37 @@ public abstract class ScanIterator<T> implements Iterator<T> {
         return sscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key} with read-ahead. This method uses {@code SSCAN}
+     * to perform an iterative scan.
+     * <p>
+     * Up to {@code readAhead} elements are fetched ahead of the caller so the next {@code SSCAN} is issued while the current
+     * page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a cursor
+     * request in flight. Read-ahead requires {@code commands} to be obtained from a {@link StatefulRedisConnection} or
+     * {@link StatefulRedisClusterConnection}, other implementations scan without read-ahead.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to fetch ahead of the caller, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 6.0
+     */
+    public static <K, V> ScanIterator<V> sscan(RedisSetCommands<K, V> commands, K key, ScanArgs scanArgs, int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        RedisSetReactiveCommands<K, V> reactive = getReactiveCommands(commands);
+
+        if (reactive == null) {
+            return sscan(commands, key, scanArgs);
+        }
+
+        return new ReadAheadScanIterator<>(ScanStream.sscan(reactive, key, scanArgs), readAhead);
+    }
+
     private static <K, V> ScanIterator<V> sscan(RedisSetCommands<K, V> commands, K key, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
@@ -255,6 +362,38 @@ public abstract class ScanIterator<T> implements Iterator<T> {
         return zscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over scored values in a sorted set identified by {@code key} with read-ahead. This method uses
+     * {@code ZSCAN} to perform an iterative scan.
+     * <p>
+     * Up to {@code readAhead} elements are fetched ahead of the caller so the next {@code ZSCAN} is issued while the current
+     * page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a cursor
+     * request in flight. Read-ahead requires {@code commands} to be obtained from a {@link StatefulRedisConnection} or
+     * {@link StatefulRedisClusterConnection}, other implementations scan without read-ahead.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to fetch ahead of the caller, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 6.0
+     */
+    public static <K, V> ScanIterator<ScoredValue<V>> zscan(RedisSortedSetCommands<K, V> commands, K key, ScanArgs scanArgs,
+            int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        RedisSortedSetReactiveCommands<K, V> reactive = getReactiveCommands(commands);
+
+        if (reactive == null) {
+            return zscan(commands, key, scanArgs);
+        }
+
+        return new ReadAheadScanIterator<>(ScanStream.zscan(reactive, key, scanArgs), readAhead);
+    }
+
     private static <K, V> ScanIterator<ScoredValue<V>> zscan(RedisSortedSetCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -284,12 +423,96 @@ public abstract class ScanIterator<T> implements Iterator<T> {
     }
 
     /**
-     * Returns a sequential {@code Stream} with this {@link ScanIterator} as its source.
+     * Returns a sequential {@code Stream} with this {@link ScanIterator} as its source. Closing the {@link Stream} closes
+     * this {@link ScanIterator}.
      *
      * @return a {@link Stream} for this {@link ScanIterator}.
      */
     public Stream<T> stream() {
-        return StreamSupport.stream(Spliterators.spliterator(this, 0, 0), false);
+        return StreamSupport.stream(Spliterators.spliterator(this, 0, 0), false).onClose(this::close);
+    }
+
+    /**
+     * Close this {@link ScanIterator}. Iterators using read-ahead cancel fetching ahead so that no further scan commands are
+     * issued. Closing iterators without read-ahead has no effect.
+     *
+     * @since 6.0
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Obtain the reactive API for the given synchronous commands to issue scan commands without blocking the caller.
+     *
+     * @param commands the synchronous commands.
+     * @return the reactive commands or {@literal null} if the reactive API cannot be obtained.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T getReactiveCommands(Object commands) {
+
+        if (commands instanceof RedisCommands) {
+            return (T) ((RedisCommands<?, ?>) commands).getStatefulConnection().reactive();
+        }
+
+        if (commands instanceof RedisAdvancedClusterCommands) {
+            return (T) ((RedisAdvancedClusterCommands<?, ?>) commands).getStatefulConnection().reactive();
+        }
+
+        return null;
+    }
+
+    /**
+     * {@link ScanIterator} consuming a {@link ScanStream} through a bounded prefetch buffer.
+     *
+     * @param <T>
+     */
+    private static class ReadAheadScanIterator<T> extends ScanIterator<T> {
+
+        private final Iterator<T> delegate;
+
+        private volatile Subscription subscription;
+
+        private volatile boolean closed;
+
+        ReadAheadScanIterator(Flux<T> stream, int readAhead) {
+            this.delegate = stream.doOnSubscribe(this::onSubscribe).toIterable(readAhead).iterator();
+        }
+
+        private void onSubscribe(Subscription subscription) {
+
+            this.subscription = subscription;
+
+            if (closed) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !closed && delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+
+            if (closed) {
+                throw new NoSuchElementException();
+            }
+
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+
+            closed = true;
+
+            Subscription subscription = this.subscription;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
     }
 
     /**
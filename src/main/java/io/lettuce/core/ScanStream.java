@@ -25,11 +25,15 @@ import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
 import io.lettuce.core.api.reactive.RedisHashReactiveCommands;
 import io.lettuce.core.api.reactive.RedisKeyReactiveCommands;
 import io.lettuce.core.api.reactive.RedisSetReactiveCommands;
 import io.lettuce.core.api.reactive.RedisSortedSetReactiveCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
@@ -42,7 +46,11 @@ import io.lettuce.core.internal.LettuceAssert;
  * <p>
  * Data structure scanning is progressive and stateful and demand-aware. It supports full iterations (until all received cursors
  * are exhausted) and premature termination. Subsequent scan commands to fetch the cursor data get only issued if the subscriber
- * signals demand.
+ * signals demand. Methods accepting a {@code readAhead} argument keep a bounded number of elements buffered ahead of the
+ * subscriber so that the next page is requested while the current page is consumed.
+ * <p>
+ * Redis Cluster keyspaces can be scanned {@link #parallelScan(RedisAdvancedClusterReactiveCommands, ScanArgs, int) in
+ * parallel} by running {@code SCAN} on multiple upstream nodes concurrently.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -80,6 +88,29 @@ public abstract class ScanStream {
         return scan(commands, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over keys in the keyspace with read-ahead. This method uses {@code SCAN} to perform an iterative
+     * scan.
+     * <p>
+     * Up to {@code readAhead} elements are buffered ahead of the subscriber so the next {@code SCAN} is issued while the
+     * current page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a
+     * cursor request in flight.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to buffer ahead of the subscriber, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.0
+     */
+    public static <K, V> Flux<K> scan(RedisKeyReactiveCommands<K, V> commands, ScanArgs scanArgs, int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        return scan(commands, scanArgs).limitRate(readAhead);
+    }
+
     private static <K, V> Flux<K> scan(RedisKeyReactiveCommands<K, V> commands, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
@@ -93,6 +124,100 @@ public abstract class ScanStream {
         });
     }
 
+    /**
+     * Iterate over keys in the keyspace of a Redis Cluster by scanning up to {@code concurrency} upstream nodes in parallel.
+     * This method uses {@code SCAN} on each upstream node and merges the keys of all nodes into a single {@link Flux} without
+     * any ordering guarantees across nodes. Pages of each node are prefetched into a bounded buffer so that the next
+     * {@code SCAN} is issued while the current page is consumed.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param concurrency maximum number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.0
+     */
+    public static <K, V> Flux<K> parallelScan(RedisAdvancedClusterReactiveCommands<K, V> commands, int concurrency) {
+        return parallelScan(commands, Optional.empty(), concurrency, Queues.SMALL_BUFFER_SIZE);
+    }
+
+    /**
+     * Iterate over keys in the keyspace of a Redis Cluster by scanning up to {@code concurrency} upstream nodes in parallel.
+     * This method uses {@code SCAN} on each upstream node and merges the keys of all nodes into a single {@link Flux} without
+     * any ordering guarantees across nodes. Pages of each node are prefetched into a bounded buffer so that the next
+     * {@code SCAN} is issued while the current page is consumed.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param concurrency maximum number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.0
+     */
+    public static <K, V> Flux<K> parallelScan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            int concurrency) {
+
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return parallelScan(commands, Optional.of(scanArgs), concurrency, Queues.SMALL_BUFFER_SIZE);
+    }
+
+    /**
+     * Iterate over keys in the keyspace of a Redis Cluster by scanning up to {@code concurrency} upstream nodes in parallel.
+     * This method uses {@code SCAN} on each upstream node and merges the keys of all nodes into a single {@link Flux} without
+     * any ordering guarantees across nodes. Up to {@code prefetch} keys are buffered per node. The next {@code SCAN} page is
+     * requested while the current page is consumed if {@code prefetch} exceeds the page size ({@link ScanArgs#limit(long)}).
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param concurrency maximum number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @param prefetch number of keys to buffer per node, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.0
+     */
+    public static <K, V> Flux<K> parallelScan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            int concurrency, int prefetch) {
+
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return parallelScan(commands, Optional.of(scanArgs), concurrency, prefetch);
+    }
+
+    private static <K, V> Flux<K> parallelScan(RedisAdvancedClusterReactiveCommands<K, V> commands,
+            Optional<ScanArgs> scanArgs, int concurrency, int prefetch) {
+
+        LettuceAssert.notNull(commands, "RedisAdvancedClusterReactiveCommands must not be null");
+        LettuceAssert.isTrue(concurrency > 0, "Concurrency must be greater 0");
+        LettuceAssert.isTrue(prefetch > 0, "Prefetch must be greater 0");
+
+        StatefulRedisClusterConnection<K, V> connection = commands.getStatefulConnection();
+
+        return Flux.defer(() -> Flux.fromIterable(getUpstreamNodeIds(connection))).flatMap(
+                nodeId -> Mono.fromCompletionStage(() -> connection.getConnectionAsync(nodeId))
+                        .flatMapMany(it -> scan(it.reactive(), scanArgs)),
+                concurrency, prefetch);
+    }
+
+    private static List<String> getUpstreamNodeIds(StatefulRedisClusterConnection<?, ?> connection) {
+
+        List<String> nodeIds = new ArrayList<>();
+
+        for (RedisClusterNode node : connection.getPartitions()) {
+            if (node.is(RedisClusterNode.NodeFlag.MASTER)) {
+                nodeIds.add(node.getNodeId());
+            }
+        }
+
+        if (nodeIds.isEmpty()) {
+            throw new RedisException("No available nodes for a scan");
+        }
+
+        return nodeIds;
+    }
+
     /**
      * Sequentially iterate over entries in a hash identified by {@code key}. This method uses {@code HSCAN} to perform an
      * iterative scan.
@@ -125,6 +250,31 @@ public abstract class ScanStream {
         return hscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key} with read-ahead. This method uses {@code HSCAN}
+     * to perform an iterative scan.
+     * <p>
+     * Up to {@code readAhead} elements are buffered ahead of the subscriber so the next {@code HSCAN} is issued while the
+     * current page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a
+     * cursor request in flight.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to buffer ahead of the subscriber, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.0
+     */
+    public static <K, V> Flux<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        return hscan(commands, key, scanArgs).limitRate(readAhead);
+    }
+
     private static <K, V> Flux<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -181,6 +331,30 @@ public abstract class ScanStream {
         return sscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key} with read-ahead. This method uses {@code SSCAN}
+     * to perform an iterative scan.
+     * <p>
+     * Up to {@code readAhead} elements are buffered ahead of the subscriber so the next {@code SSCAN} is issued while the
+     * current page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a
+     * cursor request in flight.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to buffer ahead of the subscriber, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.0
+     */
+    public static <K, V> Flux<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs, int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        return sscan(commands, key, scanArgs).limitRate(readAhead);
+    }
+
     private static <K, V> Flux<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisSetReactiveCommands must not be null");
@@ -227,6 +401,31 @@ public abstract class ScanStream {
         return zscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Sequentially iterate over elements in a sorted set identified by {@code key} with read-ahead. This method uses
+     * {@code ZSCAN} to perform an iterative scan.
+     * <p>
+     * Up to {@code readAhead} elements are buffered ahead of the subscriber so the next {@code ZSCAN} is issued while the
+     * current page is consumed. Choose {@code readAhead} larger than the page size ({@link ScanArgs#limit(long)}) to keep a
+     * cursor request in flight.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param scanArgs the scan arguments, must not be {@literal null}.
+     * @param readAhead number of elements to buffer ahead of the subscriber, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.0
+     */
+    public static <K, V> Flux<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            int readAhead) {
+
+        LettuceAssert.isTrue(readAhead > 0, "ReadAhead must be greater 0");
+
+        return zscan(commands, key, scanArgs).limitRate(readAhead);
+    }
+
     private static <K, V> Flux<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Values and their associated scores held in parallel structures. Scores are kept in a primitive {@code double[]} to avoid
+ * boxing and the allocation of a {@link ScoredValue} object per element.
+ *
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ScoredValues<V> {
+
+    private static final ScoredValues<Object> EMPTY = new ScoredValues<>(Collections.emptyList(), new double[0]);
+
+    private final List<V> values;
+
+    private final double[] scores;
+
+    /**
+     * Create new {@link ScoredValues} from {@code values} and {@code scores}. The score at index {@code i} belongs to the value
+     * at index {@code i}.
+     *
+     * @param values the values.
+     * @param scores the scores.
+     */
+    public ScoredValues(List<V> values, double[] scores) {
+
+        LettuceAssert.notNull(values, "Values must not be null");
+        LettuceAssert.notNull(scores, "Scores must not be null");
+        LettuceAssert.isTrue(values.size() == scores.length, "Values and scores must have the same size");
+
+        this.values = values;
+        this.scores = scores;
+    }
+
+    /**
+     * Returns an empty {@link ScoredValues} instance.
+     *
+     * @param <V> Value type.
+     * @return empty {@link ScoredValues}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ScoredValues<V> empty() {
+        return (ScoredValues<V>) EMPTY;
+    }
+
+    /**
+     * @return the number of values.
+     */
+    public int size() {
+        return scores.length;
+    }
+
+    /**
+     * @return {@literal true} if there are no values.
+     */
+    public boolean isEmpty() {
+        return scores.length == 0;
+    }
+
+    /**
+     * @param index the element index.
+     * @return the value at {@code index}.
+     */
+    public V getValue(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * @param index the element index.
+     * @return the score at {@code index}.
+     */
+    public double getScore(int index) {
+        return scores[index];
+    }
+
+    /**
+     * @return the values.
+     */
+    public List<V> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the scores. The array is not copied so changes to the array are reflected in this object.
+     *
+     * @return the scores.
+     */
+    public double[] getScores() {
+        return scores;
+    }
+
+    /**
+     * Convert this object to a {@link List} of {@link ScoredValue}.
+     *
+     * @return the {@link List} of {@link ScoredValue}.
+     */
+    public List<ScoredValue<V>> toList() {
+
+        List<ScoredValue<V>> result = new ArrayList<>(scores.length);
+
+        for (int i = 0; i < scores.length; i++) {
+            result.add(ScoredValue.fromNullable(scores[i], values.get(i)));
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName()).append(" [");
+
+        for (int i = 0; i < scores.length; i++) {
+
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('(').append(scores[i]).append(", ").append(values.get(i)).append(')');
+        }
+
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
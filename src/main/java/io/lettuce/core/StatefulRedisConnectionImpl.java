@@ -26,9 +26,9 @@ import java.util.stream.Collectors;
 
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
-import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.MultiOutput;
@@ -52,20 +52,36 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
     protected final RedisAsyncCommandsImpl<K, V> async;
     protected final RedisReactiveCommandsImpl<K, V> reactive;
     private final ConnectionState state = new ConnectionState();
+    private final PushHandler pushHandler;
 
     protected MultiOutput<K, V> multi;
 
     /**
-     * Initialize a new connection.
+     * Initialize a new connection without push message support. {@link PushListener Listeners} added to this connection are
+     * not notified.
      *
-     * @param writer the channel writer
+     * @param writer the channel writer.
      * @param codec Codec used to encode/decode keys and values.
      * @param timeout Maximum time to wait for a response.
      */
     public StatefulRedisConnectionImpl(RedisChannelWriter writer, RedisCodec<K, V> codec, Duration timeout) {
+        this(writer, NoOpPushHandler.INSTANCE, codec, timeout);
+    }
+
+    /**
+     * Initialize a new connection.
+     *
+     * @param writer the channel writer.
+     * @param pushHandler the handler for push notifications.
+     * @param codec Codec used to encode/decode keys and values.
+     * @param timeout Maximum time to wait for a response.
+     */
+    public StatefulRedisConnectionImpl(RedisChannelWriter writer, PushHandler pushHandler, RedisCodec<K, V> codec,
+            Duration timeout) {
 
         super(writer, timeout);
 
+        this.pushHandler = pushHandler;
         this.codec = codec;
         this.async = newRedisAsyncCommandsImpl();
         this.sync = newRedisSyncCommandsImpl();
@@ -78,12 +94,13 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
     }
 
     /**
-     * Create a new instance of {@link RedisCommands}. Can be overriden to extend.
+     * Create a new instance of {@link RedisCommands}. Can be overriden to extend. Defaults to {@link RedisSyncCommandsImpl}
+     * that calls {@link #async()} without reflection.
      *
      * @return a new instance
      */
     protected RedisCommands<K, V> newRedisSyncCommandsImpl() {
-        return syncHandler(async(), RedisCommands.class, RedisClusterCommands.class);
+        return new RedisSyncCommandsImpl<>(this, async());
     }
 
     /**
@@ -114,6 +131,26 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return sync;
     }
 
+    /**
+     * Add a new listener to consume push messages.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     */
+    @Override
+    public void addListener(PushListener listener) {
+        pushHandler.addListener(listener);
+    }
+
+    /**
+     * Remove an existing listener.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     */
+    @Override
+    public void removeListener(PushListener listener) {
+        pushHandler.removeListener(listener);
+    }
+
     @Override
     public boolean isMulti() {
         return multi != null;
@@ -182,6 +219,16 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
             });
         }
 
+        if (local.getType().name().equals(CLIENT.name())
+                && CommandArgsAccessor.containsKeyword(command.getArgs(), CommandKeyword.TRACKING)) {
+            local = attachOnComplete(local, status -> {
+                if ("OK".equals(status)) {
+                    boolean enabled = CommandArgsAccessor.containsKeyword(command.getArgs(), CommandKeyword.ON);
+                    state.setTrackingArgs(enabled ? command.getArgs() : null);
+                }
+            });
+        }
+
         if (local.getType().name().equals(READONLY.name())) {
             local = attachOnComplete(local, status -> {
                 if ("OK".equals(status)) {
@@ -41,14 +41,19 @@ public class TimeoutOptions implements Serializable {
 
     public static final boolean DEFAULT_TIMEOUT_COMMANDS = false;
 
+    public static final boolean DEFAULT_SCHEDULE_ON_TIMER = false;
+
     private final boolean timeoutCommands;
     private final boolean applyConnectionTimeout;
+    private final boolean scheduleOnTimer;
     private final TimeoutSource source;
 
-    private TimeoutOptions(boolean timeoutCommands, boolean applyConnectionTimeout, TimeoutSource source) {
+    private TimeoutOptions(boolean timeoutCommands, boolean applyConnectionTimeout, boolean scheduleOnTimer,
+            TimeoutSource source) {
 
         this.timeoutCommands = timeoutCommands;
         this.applyConnectionTimeout = applyConnectionTimeout;
+        this.scheduleOnTimer = scheduleOnTimer;
         this.source = source;
     }
 
@@ -95,6 +100,7 @@ public class TimeoutOptions implements Serializable {
 
         private boolean timeoutCommands = DEFAULT_TIMEOUT_COMMANDS;
         private boolean applyConnectionTimeout = false;
+        private boolean scheduleOnTimer = DEFAULT_SCHEDULE_ON_TIMER;
         private TimeoutSource source;
 
         /**
@@ -118,6 +124,35 @@ public class TimeoutOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Schedule command timeouts on the {@link io.lettuce.core.resource.ClientResources#timer() hashed wheel timer}
+         * instead of the {@link io.lettuce.core.resource.ClientResources#eventExecutorGroup() computation pool}. Disabled by
+         * default, see {@link #DEFAULT_SCHEDULE_ON_TIMER}.
+         *
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder scheduleOnTimer() {
+            return scheduleOnTimer(true);
+        }
+
+        /**
+         * Configure whether to schedule command timeouts on the {@link io.lettuce.core.resource.ClientResources#timer() hashed
+         * wheel timer}. The timer buckets timeouts by its tick duration and does not allocate a scheduled task on the
+         * computation pool for each command. Timeouts expire with the precision of the timer tick. Disabled by default, see
+         * {@link #DEFAULT_SCHEDULE_ON_TIMER}.
+         *
+         * @param enabled {@literal true} to schedule timeouts on the timer; {@literal false} to schedule timeouts using the
+         *        computation pool.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder scheduleOnTimer(boolean enabled) {
+
+            this.scheduleOnTimer = enabled;
+            return this;
+        }
+
         /**
          * Set a fixed timeout for all commands.
          *
@@ -169,7 +204,7 @@ public class TimeoutOptions implements Serializable {
                 }
             }
 
-            return new TimeoutOptions(timeoutCommands, applyConnectionTimeout, source);
+            return new TimeoutOptions(timeoutCommands, applyConnectionTimeout, scheduleOnTimer, source);
         }
     }
 
@@ -187,6 +222,15 @@ public class TimeoutOptions implements Serializable {
         return applyConnectionTimeout;
     }
 
+    /**
+     * @return {@literal true} to schedule command timeouts on the {@link io.lettuce.core.resource.ClientResources#timer()
+     *         timer}.
+     * @since 6.0
+     */
+    public boolean isScheduleOnTimer() {
+        return scheduleOnTimer;
+    }
+
     /**
      * @return the timeout source to determine the timeout for a {@link RedisCommand}. Can be {@literal null} if
      *         {@link #isTimeoutCommands()} is {@literal false}.
@@ -16,6 +16,7 @@
 package io.lettuce.core.api;
 
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.protocol.ConnectionWatchdog;
@@ -59,4 +60,20 @@ public interface StatefulRedisConnection<K, V> extends StatefulConnection<K, V>
      * @return the reactive API for the underlying connection.
      */
     RedisReactiveCommands<K, V> reactive();
+
+    /**
+     * Add a new {@link PushListener listener} to consume push messages. Push messages are received only when using RESP3.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @since 6.0
+     */
+    void addListener(PushListener listener);
+
+    /**
+     * Remove an existing {@link PushListener listener}.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @since 6.0
+     */
+    void removeListener(PushListener listener);
 }
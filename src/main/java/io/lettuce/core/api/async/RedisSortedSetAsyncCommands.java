@@ -319,6 +319,18 @@ public interface RedisSortedSetAsyncCommands<K, V> {
      */
     RedisFuture<List<ScoredValue<V>>> zrangeWithScores(K key, long start, long stop);
 
+    /**
+     * Return a range of members with scores in a sorted set, by index. Scores are returned as primitive {@code double[]}
+     * parallel to the members.
+     *
+     * @param key the key
+     * @param start the start
+     * @param stop the stop
+     * @return ScoredValues&lt;V&gt; members and scores in the specified range.
+     * @since 6.0
+     */
+    RedisFuture<ScoredValues<V>> zrangeScoredValues(K key, long start, long stop);
+
     /**
      * Stream over a range of members with scores in a sorted set, by index.
      *
@@ -799,6 +811,18 @@ public interface RedisSortedSetAsyncCommands<K, V> {
      */
     RedisFuture<List<ScoredValue<V>>> zrevrangeWithScores(K key, long start, long stop);
 
+    /**
+     * Return a range of members with scores in a sorted set, by index, with scores ordered from high to low. Scores are
+     * returned as primitive {@code double[]} parallel to the members.
+     *
+     * @param key the key
+     * @param start the start
+     * @param stop the stop
+     * @return ScoredValues&lt;V&gt; members and scores in the specified range.
+     * @since 6.0
+     */
+    RedisFuture<ScoredValues<V>> zrevrangeScoredValues(K key, long start, long stop);
+
     /**
      * Stream over a range of members with scores in a sorted set, by index, with scores ordered from high to low.
      *
@@ -0,0 +1,4 @@
+/**
+ * Connection-oriented push message API (RESP3 push frames).
+ */
+package io.lettuce.core.api.push;
@@ -21,6 +21,7 @@ import java.util.Map;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.KillArgs;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.UnblockType;
 import io.lettuce.core.protocol.CommandType;
 
@@ -90,6 +91,16 @@ public interface RedisServerReactiveCommands<K, V> {
      */
     Mono<Long> clientUnblock(long id, UnblockType type);
 
+    /**
+     * Enables the tracking feature of the Redis server, that is used for server assisted client side caching. Tracking
+     * messages are either sent when using the RESP3 protocol or to a different connection in case of using RESP2.
+     *
+     * @param args for the CLIENT TRACKING operation.
+     * @return String simple-string-reply {@code OK}.
+     * @since 6.0
+     */
+    Mono<String> clientTracking(TrackingArgs args);
+
     /**
      * Stop processing commands from clients for some time.
      *
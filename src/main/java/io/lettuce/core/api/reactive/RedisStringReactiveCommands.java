@@ -23,6 +23,7 @@ import io.lettuce.core.BitFieldArgs;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.SetArgs;
 import io.lettuce.core.Value;
+import io.lettuce.core.output.BulkStreamingChannel;
 import io.lettuce.core.output.KeyValueStreamingChannel;
 
 /**
@@ -206,6 +207,17 @@ public interface RedisStringReactiveCommands<K, V> {
      */
     Mono<V> get(K key);
 
+    /**
+     * Get the value of a key and stream it in chunks to the {@code channel} as it arrives from Redis. The value is not
+     * buffered in memory as a whole.
+     *
+     * @param channel the channel receiving the value chunks.
+     * @param key the key.
+     * @return Long the length of the value, or {@literal null} when {@code key} does not exist.
+     * @since 6.0
+     */
+    Mono<Long> get(BulkStreamingChannel channel, K key);
+
     /**
      * Returns the bit value at offset in the string value stored at key.
      *
@@ -19,6 +19,8 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.FlushCoalescingOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
@@ -39,9 +41,13 @@ public class ClusterClientOptions extends ClientOptions {
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
     public static final boolean DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP = true;
     public static final int DEFAULT_MAX_REDIRECTS = 5;
+    public static final boolean DEFAULT_GROUP_MULTI_KEY_COMMANDS_BY_NODE = false;
+    public static final boolean DEFAULT_SHARD_PUB_SUB_SUBSCRIPTIONS = false;
 
     private final boolean validateClusterNodeMembership;
     private final int maxRedirects;
+    private final boolean groupMultiKeyCommandsByNode;
+    private final boolean shardPubSubSubscriptions;
     private final ClusterTopologyRefreshOptions topologyRefreshOptions;
 
     protected ClusterClientOptions(Builder builder) {
@@ -50,6 +56,8 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.maxRedirects = builder.maxRedirects;
+        this.groupMultiKeyCommandsByNode = builder.groupMultiKeyCommandsByNode;
+        this.shardPubSubSubscriptions = builder.shardPubSubSubscriptions;
 
         ClusterTopologyRefreshOptions refreshOptions = builder.topologyRefreshOptions;
 
@@ -70,6 +78,8 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.maxRedirects = original.maxRedirects;
+        this.groupMultiKeyCommandsByNode = original.groupMultiKeyCommandsByNode;
+        this.shardPubSubSubscriptions = original.shardPubSubSubscriptions;
         this.topologyRefreshOptions = original.topologyRefreshOptions;
     }
 
@@ -116,7 +126,10 @@ public class ClusterClientOptions extends ClientOptions {
                 .requestQueueSize(clientOptions.getRequestQueueSize()).socketOptions(clientOptions.getSocketOptions())
                 .sslOptions(clientOptions.getSslOptions())
                 .suspendReconnectOnProtocolFailure(clientOptions.isSuspendReconnectOnProtocolFailure())
-                .timeoutOptions(clientOptions.getTimeoutOptions());
+                .timeoutOptions(clientOptions.getTimeoutOptions())
+                .flushCoalescingOptions(clientOptions.getFlushCoalescingOptions())
+                .pubSubDispatchOptions(clientOptions.getPubSubDispatchOptions())
+                .zeroCopyWriteThreshold(clientOptions.getZeroCopyWriteThreshold());
 
         return builder;
     }
@@ -138,6 +151,8 @@ public class ClusterClientOptions extends ClientOptions {
         private boolean closeStaleConnections = DEFAULT_CLOSE_STALE_CONNECTIONS;
         private boolean validateClusterNodeMembership = DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP;
         private int maxRedirects = DEFAULT_MAX_REDIRECTS;
+        private boolean groupMultiKeyCommandsByNode = DEFAULT_GROUP_MULTI_KEY_COMMANDS_BY_NODE;
+        private boolean shardPubSubSubscriptions = DEFAULT_SHARD_PUB_SUB_SUBSCRIPTIONS;
         private ClusterTopologyRefreshOptions topologyRefreshOptions = null;
 
         protected Builder() {
@@ -167,6 +182,35 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Group the per-slot commands of multi-key commands ({@literal MGET}, {@literal DEL}, {@literal EXISTS}) spanning
+         * multiple slots by their target node and write these with a single flush per node connection. Defaults to
+         * {@literal false}. See {@link ClusterClientOptions#DEFAULT_GROUP_MULTI_KEY_COMMANDS_BY_NODE}.
+         *
+         * @param groupMultiKeyCommandsByNode {@literal true} to group multi-key commands by node.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder groupMultiKeyCommandsByNode(boolean groupMultiKeyCommandsByNode) {
+            this.groupMultiKeyCommandsByNode = groupMultiKeyCommandsByNode;
+            return this;
+        }
+
+        /**
+         * Spread channel subscriptions of {@link io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection} across
+         * node connections. Each channel is subscribed on the master node that serves the slot of the channel name and moved
+         * to the new slot owner on topology changes. Pattern subscriptions remain on the default connection. Defaults to
+         * {@literal false}. See {@link ClusterClientOptions#DEFAULT_SHARD_PUB_SUB_SUBSCRIPTIONS}.
+         *
+         * @param shardPubSubSubscriptions {@literal true} to shard channel subscriptions by slot.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder shardPubSubSubscriptions(boolean shardPubSubSubscriptions) {
+            this.shardPubSubSubscriptions = shardPubSubSubscriptions;
+            return this;
+        }
+
         /**
          * Sets the {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
          *
@@ -256,6 +300,24 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder flushCoalescingOptions(FlushCoalescingOptions flushCoalescingOptions) {
+            super.flushCoalescingOptions(flushCoalescingOptions);
+            return this;
+        }
+
+        @Override
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+            super.pubSubDispatchOptions(pubSubDispatchOptions);
+            return this;
+        }
+
+        @Override
+        public Builder zeroCopyWriteThreshold(int zeroCopyWriteThreshold) {
+            super.zeroCopyWriteThreshold(zeroCopyWriteThreshold);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -286,7 +348,11 @@ public class ClusterClientOptions extends ClientOptions {
                 .protocolVersion(getConfiguredProtocolVersion()).requestQueueSize(getRequestQueueSize())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
                 .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .flushCoalescingOptions(getFlushCoalescingOptions()).pubSubDispatchOptions(getPubSubDispatchOptions())
+                .zeroCopyWriteThreshold(getZeroCopyWriteThreshold())
                 .validateClusterNodeMembership(isValidateClusterNodeMembership()).maxRedirects(getMaxRedirects())
+                .groupMultiKeyCommandsByNode(isGroupMultiKeyCommandsByNode())
+                .shardPubSubSubscriptions(isShardPubSubSubscriptions())
                 .topologyRefreshOptions(getTopologyRefreshOptions());
 
         return builder;
@@ -343,6 +409,28 @@ public class ClusterClientOptions extends ClientOptions {
         return maxRedirects;
     }
 
+    /**
+     * Group the per-slot commands of multi-key commands spanning multiple slots by their target node. Defaults to
+     * {@literal false}. See {@link ClusterClientOptions#DEFAULT_GROUP_MULTI_KEY_COMMANDS_BY_NODE}.
+     *
+     * @return {@literal true} if multi-key commands are grouped by node.
+     * @since 6.0
+     */
+    public boolean isGroupMultiKeyCommandsByNode() {
+        return groupMultiKeyCommandsByNode;
+    }
+
+    /**
+     * Spread channel subscriptions across node connections by the slot of the channel name. Defaults to {@literal false}.
+     * See {@link ClusterClientOptions#DEFAULT_SHARD_PUB_SUB_SUBSCRIPTIONS}.
+     *
+     * @return {@literal true} if channel subscriptions are sharded by slot.
+     * @since 6.0
+     */
+    public boolean isShardPubSubSubscriptions() {
+        return shardPubSubSubscriptions;
+    }
+
     /**
      * The {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
      *
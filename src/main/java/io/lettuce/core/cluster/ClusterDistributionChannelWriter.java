@@ -252,6 +252,9 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
         }
 
+        // group slots served by the same node to write these with a single flush per node connection
+        Map<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> writers = new LinkedHashMap<>();
+
         for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
 
             SlotIntent slotIntent = entry.getKey();
@@ -265,10 +268,21 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             }
 
             if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-                channelWriter.write(entry.getValue());
+
+                List<ClusterCommand<K, V, ?>> nodeCommands = writers.get(channelWriter);
+
+                if (nodeCommands == null) {
+                    writers.put(channelWriter, entry.getValue());
+                } else {
+                    nodeCommands.addAll(entry.getValue());
+                }
             }
         }
 
+        for (Map.Entry<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> entry : writers.entrySet()) {
+            entry.getKey().write(entry.getValue());
+        }
+
         clusterCommands.forEach(this::write);
         defaultCommands.forEach(defaultWriter::write);
 
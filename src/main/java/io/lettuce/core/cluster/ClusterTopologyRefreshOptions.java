@@ -41,6 +41,8 @@ public class ClusterTopologyRefreshOptions {
             .ofSeconds(DEFAULT_ADAPTIVE_REFRESH_TIMEOUT);
     public static final int DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS = 5;
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
+    public static final int DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE = 0;
+    public static final boolean DEFAULT_INCREMENTAL_REFRESH = false;
 
     private final boolean periodicRefreshEnabled;
     private final Duration refreshPeriod;
@@ -49,6 +51,8 @@ public class ClusterTopologyRefreshOptions {
     private final Set<RefreshTrigger> adaptiveRefreshTriggers;
     private final Duration adaptiveRefreshTimeout;
     private final int refreshTriggersReconnectAttempts;
+    private final int refreshSourcesSampleSize;
+    private final boolean incrementalRefresh;
 
     protected ClusterTopologyRefreshOptions(Builder builder) {
 
@@ -59,6 +63,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTriggers = Collections.unmodifiableSet(new HashSet<>(builder.adaptiveRefreshTriggers));
         this.adaptiveRefreshTimeout = builder.adaptiveRefreshTimeout;
         this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
+        this.refreshSourcesSampleSize = builder.refreshSourcesSampleSize;
+        this.incrementalRefresh = builder.incrementalRefresh;
     }
 
     protected ClusterTopologyRefreshOptions(ClusterTopologyRefreshOptions original) {
@@ -70,6 +76,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTriggers = Collections.unmodifiableSet(new HashSet<>(original.adaptiveRefreshTriggers));
         this.adaptiveRefreshTimeout = original.adaptiveRefreshTimeout;
         this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
+        this.refreshSourcesSampleSize = original.refreshSourcesSampleSize;
+        this.incrementalRefresh = original.incrementalRefresh;
     }
 
     /**
@@ -121,6 +129,8 @@ public class ClusterTopologyRefreshOptions {
         private Set<RefreshTrigger> adaptiveRefreshTriggers = new HashSet<>(DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         private Duration adaptiveRefreshTimeout = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_DURATION;
         private int refreshTriggersReconnectAttempts = DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS;
+        private int refreshSourcesSampleSize = DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE;
+        private boolean incrementalRefresh = DEFAULT_INCREMENTAL_REFRESH;
 
         private Builder() {
         }
@@ -323,6 +333,43 @@ public class ClusterTopologyRefreshOptions {
             return this;
         }
 
+        /**
+         * Limit the number of nodes that are queried for the cluster topology when using
+         * {@link #dynamicRefreshSources(boolean) dynamic refresh sources}. A random sample of {@code refreshSourcesSampleSize}
+         * known nodes is queried on each topology refresh instead of all nodes and additional node discovery is skipped. This
+         * can be useful when using Redis Cluster with many nodes. Defaults to {@literal 0} (query all nodes). See
+         * {@link #DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE}.
+         *
+         * @param refreshSourcesSampleSize number of nodes to query, {@literal 0} to query all nodes. Must not be negative.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder refreshSourcesSampleSize(int refreshSourcesSampleSize) {
+
+            LettuceAssert.isTrue(refreshSourcesSampleSize >= 0, "Refresh sources sample size must not be negative");
+
+            this.refreshSourcesSampleSize = refreshSourcesSampleSize;
+            return this;
+        }
+
+        /**
+         * Enables incremental topology refresh. The topology refresh requests the compact {@code CLUSTER SLOTS} format from a
+         * single node and skips retrieving {@code CLUSTER NODES} from all nodes if the slot assignment did not change since the
+         * previous refresh. Latency and connected clients of each node are still refreshed using {@code INFO CLIENTS}; with a
+         * {@link #refreshSourcesSampleSize(int) sample size}, only sampled nodes are refreshed and the remaining nodes keep
+         * their previous metrics. Node state changes that do not affect the slot assignment (e.g. a failing replica) are
+         * picked up with the next change of the slot assignment. Defaults to {@literal false}. See
+         * {@link #DEFAULT_INCREMENTAL_REFRESH}.
+         *
+         * @param incrementalRefresh {@literal true} to skip topology retrieval if the slot assignment is unchanged.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder incrementalRefresh(boolean incrementalRefresh) {
+            this.incrementalRefresh = incrementalRefresh;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterTopologyRefreshOptions}
          *
@@ -406,6 +453,28 @@ public class ClusterTopologyRefreshOptions {
         return refreshTriggersReconnectAttempts;
     }
 
+    /**
+     * Number of nodes to query for the cluster topology when using dynamic refresh sources. {@literal 0} queries all nodes.
+     * See {@link #DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE}.
+     *
+     * @return number of nodes to query for the cluster topology.
+     * @since 6.0
+     */
+    public int getRefreshSourcesSampleSize() {
+        return refreshSourcesSampleSize;
+    }
+
+    /**
+     * Flag, whether to skip topology retrieval if the slot assignment reported by {@code CLUSTER SLOTS} is unchanged since the
+     * previous refresh. See {@link #DEFAULT_INCREMENTAL_REFRESH}.
+     *
+     * @return {@literal true} if incremental topology refresh is enabled.
+     * @since 6.0
+     */
+    public boolean useIncrementalRefresh() {
+        return incrementalRefresh;
+    }
+
     /**
      * Available refresh triggers to signal early topology refreshing.
      */
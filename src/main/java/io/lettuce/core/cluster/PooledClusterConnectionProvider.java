@@ -15,16 +15,13 @@
  */
 package io.lettuce.core.cluster;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import io.lettuce.core.*;
 import io.lettuce.core.api.StatefulConnection;
@@ -55,8 +52,6 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     // Contains NodeId-identified and HostAndPort-identified connections.
     private final Object stateLock = new Object();
     private final boolean debugEnabled = logger.isDebugEnabled();
-    private final CompletableFuture<StatefulRedisConnection<K, V>> writers[] = new CompletableFuture[SlotHash.SLOT_COUNT];
-    private final CompletableFuture<StatefulRedisConnection<K, V>> readers[][] = new CompletableFuture[SlotHash.SLOT_COUNT][];
     private final RedisClusterClient redisClusterClient;
     private final ClusterNodeConnectionFactory<K, V> connectionFactory;
     private final RedisChannelWriter clusterWriter;
@@ -65,6 +60,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private final AsyncConnectionProvider<ConnectionKey, StatefulRedisConnection<K, V>, ConnectionFuture<StatefulRedisConnection<K, V>>> connectionProvider;
 
     private Partitions partitions;
+    private volatile RoutingTable<K, V> routingTable = RoutingTable.empty();
     private boolean autoFlushCommands = true;
     private ReadFrom readFrom;
 
@@ -105,34 +101,29 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
+        RoutingTable<K, V> table = getRoutingTable(slot); // avoid races when reconfiguring partitions.
+        int owner = table.getOwner(slot);
+
+        if (owner == RoutingTable.UNCOVERED) {
+            clusterEventListener.onUncoveredSlot(slot);
+            return Futures.failed(new PartitionSelectorException("Cannot determine a partition for slot " + slot + ".",
+                    partitions.clone()));
         }
 
+        CompletableFuture<StatefulRedisConnection<K, V>> writer = table.getWriter(owner);
+
         if (writer == null) {
-            RedisClusterNode partition = partitions.getPartitionBySlot(slot);
-            if (partition == null) {
-                clusterEventListener.onUncoveredSlot(slot);
-                return Futures.failed(new PartitionSelectorException("Cannot determine a partition for slot " + slot + ".",
-                        partitions.clone()));
-            }
 
             // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
             // host because the nodeId can be handled by a different host.
-            RedisURI uri = partition.getUri();
+            RedisURI uri = table.getOwnerNode(owner).getUri();
             ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort());
 
             ConnectionFuture<StatefulRedisConnection<K, V>> future = getConnectionAsync(key);
 
             return future.thenApply(connection -> {
 
-                synchronized (stateLock) {
-                    if (writers[slot] == null) {
-                        writers[slot] = CompletableFuture.completedFuture(connection);
-                    }
-                }
-
+                table.setWriter(owner, CompletableFuture.completedFuture(connection));
                 return connection;
             }).toCompletableFuture();
         }
@@ -142,25 +133,24 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
-
-        boolean cached = true;
+        RoutingTable<K, V> table = getRoutingTable(slot); // avoid races when reconfiguring partitions.
+        int owner = table.getOwner(slot);
 
-        synchronized (stateLock) {
-            readerCandidates = readers[slot];
+        if (owner == RoutingTable.UNCOVERED) {
+            clusterEventListener.onUncoveredSlot(slot);
+            return Futures.failed(new PartitionSelectorException(String.format(
+                    "Cannot determine a partition to read for slot %d.", slot), partitions.clone()));
         }
 
-        if (readerCandidates == null) {
+        // dynamic ReadFrom selections depend on runtime statistics. Connections are cached per owner but ordered for each read.
+        boolean dynamic = OrderingReadFromAccessor.isDynamic(readFrom);
+        Readers<K, V> readers = table.getReaders(owner);
+        List<RedisNodeDescription> selection = null;
 
-            RedisClusterNode master = partitions.getPartitionBySlot(slot);
-            if (master == null) {
-                clusterEventListener.onUncoveredSlot(slot);
-                return Futures.failed(new PartitionSelectorException(String.format(
-                        "Cannot determine a partition to read for slot %d.", slot), partitions.clone()));
-            }
+        if (readers == null || dynamic) {
 
-            List<RedisNodeDescription> candidates = getReadCandidates(master);
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
+            List<RedisNodeDescription> candidates = table.getReadCandidates(owner);
+            selection = readFrom.select(new ReadFrom.Nodes() {
                 @Override
                 public List<RedisNodeDescription> getNodes() {
                     return candidates;
@@ -178,11 +168,23 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                         "Cannot determine a partition to read for slot %d with setting %s.", slot, readFrom), partitions
                         .clone()));
             }
+        }
+
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[] = null;
+
+        if (readers != null) {
+            readerCandidates = dynamic ? readers.getConnections(selection) : readers.getConnections();
+        }
+
+        boolean cached = true;
 
+        if (readerCandidates == null) {
             readerCandidates = getReadFromConnections(selection);
             cached = false;
         }
 
+        List<RedisNodeDescription> selectedNodes = selection;
+
         CompletableFuture<StatefulRedisConnection<K, V>> selectedReaderCandidates[] = readerCandidates;
 
         if (cached) {
@@ -243,9 +245,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     for (int i = 0; i < toCache.length; i++) {
                         toCache[i] = CompletableFuture.completedFuture(statefulRedisConnections[i]);
                     }
-                    synchronized (stateLock) {
-                        readers[slot] = toCache;
-                    }
+                    table.setReaders(owner, new Readers<>(selectedNodes, toCache));
 
                     if (!orderSensitive) {
 
@@ -267,6 +267,33 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                 });
     }
 
+    /**
+     * Obtain the current {@link RoutingTable}. Recreates the routing table if {@link Partitions} were changed without
+     * notifying this provider through {@link #setPartitions(Partitions)}.
+     *
+     * @param slot the slot to route.
+     * @return the current {@link RoutingTable}.
+     */
+    private RoutingTable<K, V> getRoutingTable(int slot) {
+
+        RoutingTable<K, V> table = this.routingTable;
+
+        if (table.isCurrent(partitions, slot)) {
+            return table;
+        }
+
+        synchronized (stateLock) {
+
+            table = this.routingTable;
+            if (!table.isCurrent(partitions, slot)) {
+                table = RoutingTable.create(partitions, table, true);
+                this.routingTable = table;
+            }
+        }
+
+        return table;
+    }
+
     private boolean isOrderSensitive(Object[] connections) {
         return OrderingReadFromAccessor.isOrderSensitive(readFrom) || connections.length == 1;
     }
@@ -331,17 +358,6 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return readerCandidates;
     }
 
-    private List<RedisNodeDescription> getReadCandidates(RedisClusterNode master) {
-
-        return partitions.stream() //
-                .filter(partition -> isReadCandidate(master, partition)) //
-                .collect(Collectors.toList());
-    }
-
-    private boolean isReadCandidate(RedisClusterNode master, RedisClusterNode partition) {
-        return master.getNodeId().equals(partition.getNodeId()) || master.getNodeId().equals(partition.getSlaveOf());
-    }
-
     @Override
     public StatefulRedisConnection<K, V> getConnection(Intent intent, String nodeId) {
 
@@ -449,7 +465,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     @Override
     public CompletableFuture<Void> closeAsync() {
 
-        resetFastConnectionCache();
+        this.routingTable = RoutingTable.empty();
 
         return connectionProvider.close();
     }
@@ -461,6 +477,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     /**
      * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Swaps the {@link RoutingTable} and retains cached connections for nodes that keep serving their slots.
      *
      * @param partitions the new partitions.
      */
@@ -475,6 +492,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             }
             this.partitions = partitions;
             this.connectionFactory.setPartitions(partitions);
+            this.routingTable = RoutingTable.create(partitions, this.routingTable, true);
         }
 
         if (reconfigurePartitions) {
@@ -488,8 +506,6 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private void reconfigurePartitions() {
 
-        resetFastConnectionCache();
-
         if (redisClusterClient.expireStaleConnections()) {
             closeStaleConnections();
         }
@@ -551,7 +567,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         synchronized (stateLock) {
             this.readFrom = readFrom;
-            Arrays.fill(readers, null);
+            if (this.partitions != null) {
+                this.routingTable = RoutingTable.create(this.partitions, this.routingTable, false);
+            }
         }
     }
 
@@ -568,20 +586,6 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return connectionProvider.getConnectionCount();
     }
 
-    /**
-     * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
-     * cache.
-     *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
-     */
-    private void resetFastConnectionCache() {
-
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
-        }
-    }
-
     private static RuntimeException connectionAttemptRejected(String message) {
 
         return new UnknownPartitionException("Connection to " + message
@@ -683,4 +687,279 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     getSocketAddressSupplier(key));
         }
     }
+
+    /**
+     * Immutable slot-to-node routing table. Slots map to an owner index and connections are cached per owner instead of per
+     * slot. A new {@link RoutingTable} is created on each topology change and retains cached connections of owners whose
+     * address (and read candidates) did not change so only slots that moved to a different node resolve a new connection.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    static class RoutingTable<K, V> {
+
+        static final int UNCOVERED = -1;
+
+        private static final RoutingTable<?, ?> EMPTY = new RoutingTable<>(new RedisClusterNode[0], newUncoveredSlots(),
+                new List[0]);
+
+        private final RedisClusterNode[] owners;
+        private final int[] slotOwners;
+        private final List<RedisNodeDescription>[] readCandidates;
+        private final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers;
+        private final AtomicReferenceArray<Readers<K, V>> readers;
+
+        private RoutingTable(RedisClusterNode[] owners, int[] slotOwners, List<RedisNodeDescription>[] readCandidates) {
+
+            this.owners = owners;
+            this.slotOwners = slotOwners;
+            this.readCandidates = readCandidates;
+            this.writers = new AtomicReferenceArray<>(owners.length);
+            this.readers = new AtomicReferenceArray<>(owners.length);
+        }
+
+        static <K, V> RoutingTable<K, V> empty() {
+            return (RoutingTable) EMPTY;
+        }
+
+        /**
+         * Create a new {@link RoutingTable} from {@link Partitions}.
+         *
+         * @param partitions the partitions.
+         * @param previous the previous routing table to retain cached connections from.
+         * @param retainReaders {@literal true} to retain cached read connections, {@literal false} to retain only write
+         *        connections.
+         * @return the new {@link RoutingTable}.
+         */
+        static <K, V> RoutingTable<K, V> create(Partitions partitions, RoutingTable<K, V> previous, boolean retainReaders) {
+
+            Map<RedisClusterNode, Integer> ownerIndex = new IdentityHashMap<>();
+            List<RedisClusterNode> owners = new ArrayList<>();
+            int[] slotOwners = newUncoveredSlots();
+
+            for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+                RedisClusterNode node = partitions.getPartitionBySlot(slot);
+
+                if (node == null) {
+                    continue;
+                }
+
+                Integer index = ownerIndex.get(node);
+                if (index == null) {
+                    index = owners.size();
+                    ownerIndex.put(node, index);
+                    owners.add(node);
+                }
+
+                slotOwners[slot] = index;
+            }
+
+            RoutingTable<K, V> table = new RoutingTable<>(owners.toArray(new RedisClusterNode[0]), slotOwners,
+                    getReadCandidates(partitions, owners));
+
+            table.retain(previous, retainReaders);
+            return table;
+        }
+
+        private static List<RedisNodeDescription>[] getReadCandidates(Partitions partitions, List<RedisClusterNode> owners) {
+
+            Map<String, Integer> ownerIndex = new HashMap<>(owners.size() * 2);
+            List<RedisNodeDescription>[] readCandidates = new List[owners.size()];
+
+            for (int i = 0; i < owners.size(); i++) {
+
+                readCandidates[i] = new ArrayList<>();
+                if (owners.get(i).getNodeId() != null) {
+                    ownerIndex.put(owners.get(i).getNodeId(), i);
+                }
+            }
+
+            for (RedisClusterNode partition : partitions) {
+
+                Integer index = partition.getNodeId() != null ? ownerIndex.get(partition.getNodeId()) : null;
+                Integer masterIndex = partition.getSlaveOf() != null ? ownerIndex.get(partition.getSlaveOf()) : null;
+
+                if (index != null) {
+                    readCandidates[index].add(partition);
+                }
+
+                if (masterIndex != null && !masterIndex.equals(index)) {
+                    readCandidates[masterIndex].add(partition);
+                }
+            }
+
+            return readCandidates;
+        }
+
+        private void retain(RoutingTable<K, V> previous, boolean retainReaders) {
+
+            if (previous.owners.length == 0) {
+                return;
+            }
+
+            Map<String, Integer> previousOwners = new HashMap<>(previous.owners.length * 2);
+
+            for (int i = 0; i < previous.owners.length; i++) {
+
+                String address = getAddress(previous.owners[i]);
+                if (address != null) {
+                    previousOwners.put(address, i);
+                }
+            }
+
+            for (int i = 0; i < owners.length; i++) {
+
+                String address = getAddress(owners[i]);
+                Integer index = address != null ? previousOwners.get(address) : null;
+
+                if (index == null) {
+                    continue;
+                }
+
+                writers.set(i, previous.writers.get(index));
+
+                if (retainReaders && isSameReadCandidates(readCandidates[i], previous.readCandidates[index])) {
+                    readers.set(i, previous.readers.get(index));
+                }
+            }
+        }
+
+        private static boolean isSameReadCandidates(List<RedisNodeDescription> candidates,
+                List<RedisNodeDescription> previous) {
+
+            if (candidates.size() != previous.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < candidates.size(); i++) {
+
+                RedisNodeDescription candidate = candidates.get(i);
+                RedisNodeDescription previousCandidate = previous.get(i);
+
+                if (candidate.getRole() != previousCandidate.getRole()
+                        || !Objects.equals(getAddress(candidate), getAddress(previousCandidate))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static String getAddress(RedisNodeDescription node) {
+
+            RedisURI uri = node.getUri();
+            return uri != null ? uri.getHost() + ":" + uri.getPort() : null;
+        }
+
+        private static int[] newUncoveredSlots() {
+
+            int[] slotOwners = new int[SlotHash.SLOT_COUNT];
+            Arrays.fill(slotOwners, UNCOVERED);
+            return slotOwners;
+        }
+
+        /**
+         * @param partitions the partitions.
+         * @param slot the slot.
+         * @return {@literal true} if this routing table maps {@code slot} to the same node as {@link Partitions}.
+         */
+        boolean isCurrent(Partitions partitions, int slot) {
+
+            int owner = slotOwners[slot];
+            return partitions.getPartitionBySlot(slot) == (owner == UNCOVERED ? null : owners[owner]);
+        }
+
+        /**
+         * @param slot the slot.
+         * @return the owner index or {@link #UNCOVERED} if the slot is not covered.
+         */
+        int getOwner(int slot) {
+            return slotOwners[slot];
+        }
+
+        RedisClusterNode getOwnerNode(int owner) {
+            return owners[owner];
+        }
+
+        List<RedisNodeDescription> getReadCandidates(int owner) {
+            return readCandidates[owner];
+        }
+
+        CompletableFuture<StatefulRedisConnection<K, V>> getWriter(int owner) {
+            return writers.get(owner);
+        }
+
+        void setWriter(int owner, CompletableFuture<StatefulRedisConnection<K, V>> writer) {
+            writers.compareAndSet(owner, null, writer);
+        }
+
+        Readers<K, V> getReaders(int owner) {
+            return readers.get(owner);
+        }
+
+        void setReaders(int owner, Readers<K, V> toCache) {
+            readers.set(owner, toCache);
+        }
+    }
+
+    /**
+     * Cached read connections of an owner along with the nodes they connect to. Allows reordering cached connections
+     * according to a {@link OrderingReadFromAccessor#isDynamic(ReadFrom) dynamic} {@link ReadFrom} selection.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    static class Readers<K, V> {
+
+        private final List<RedisNodeDescription> nodes;
+        private final CompletableFuture<StatefulRedisConnection<K, V>>[] connections;
+
+        Readers(List<RedisNodeDescription> nodes, CompletableFuture<StatefulRedisConnection<K, V>>[] connections) {
+            this.nodes = nodes;
+            this.connections = connections;
+        }
+
+        CompletableFuture<StatefulRedisConnection<K, V>>[] getConnections() {
+            return connections;
+        }
+
+        /**
+         * @param selection the selected nodes.
+         * @return cached connections in the order of {@code selection} or {@literal null} if a selected node has no cached
+         *         connection.
+         */
+        CompletableFuture<StatefulRedisConnection<K, V>>[] getConnections(List<RedisNodeDescription> selection) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>>[] result = new CompletableFuture[selection.size()];
+
+            for (int i = 0; i < result.length; i++) {
+
+                int index = indexOf(selection.get(i));
+
+                if (index == -1) {
+                    return null;
+                }
+
+                result[i] = connections[index];
+            }
+
+            return result;
+        }
+
+        private int indexOf(RedisNodeDescription node) {
+
+            for (int i = 0; i < nodes.size(); i++) {
+
+                RedisNodeDescription cached = nodes.get(i);
+
+                if (cached == node || (cached.getRole() == node.getRole()
+                        && Objects.equals(RoutingTable.getAddress(cached), RoutingTable.getAddress(node)))) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
 }
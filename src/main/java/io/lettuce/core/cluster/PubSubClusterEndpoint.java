@@ -36,6 +36,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
     private final UpstreamMessageListener upstream = new UpstreamMessageListener();
 
     private volatile boolean nodeMessagePropagation = false;
+    private volatile boolean shardedSubscriptions = false;
     private volatile RedisClusterNode clusterNode;
 
     /**
@@ -74,6 +75,10 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         this.nodeMessagePropagation = nodeMessagePropagation;
     }
 
+    void setShardedSubscriptions(boolean shardedSubscriptions) {
+        this.shardedSubscriptions = shardedSubscriptions;
+    }
+
     void setClusterNode(RedisClusterNode clusterNode) {
         this.clusterNode = clusterNode;
     }
@@ -109,7 +114,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void message(RedisClusterNode node, K channel, V message) {
 
-            if (nodeMessagePropagation) {
+            if (isPropagating()) {
                 super.message(node, channel, message);
             }
         }
@@ -117,7 +122,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void message(RedisClusterNode node, K pattern, K channel, V message) {
 
-            if (nodeMessagePropagation) {
+            if (isPropagating()) {
                 super.message(node, pattern, channel, message);
             }
         }
@@ -125,7 +130,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void subscribed(RedisClusterNode node, K channel, long count) {
 
-            if (nodeMessagePropagation) {
+            if (isPropagating()) {
                 super.subscribed(node, channel, count);
             }
         }
@@ -133,7 +138,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void psubscribed(RedisClusterNode node, K pattern, long count) {
 
-            if (nodeMessagePropagation) {
+            if (isPropagating()) {
                 super.psubscribed(node, pattern, count);
             }
         }
@@ -141,7 +146,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void unsubscribed(RedisClusterNode node, K channel, long count) {
 
-            if (nodeMessagePropagation) {
+            if (isPropagating()) {
                 super.unsubscribed(node, channel, count);
             }
         }
@@ -149,12 +154,16 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void punsubscribed(RedisClusterNode node, K pattern, long count) {
 
-            if (nodeMessagePropagation) {
+            if (isPropagating()) {
                 super.punsubscribed(node, pattern, count);
             }
         }
     }
 
+    private boolean isPropagating() {
+        return nodeMessagePropagation || shardedSubscriptions;
+    }
+
     private class NotifyingMessageListener extends RedisClusterPubSubAdapter<K, V> {
 
         @Override
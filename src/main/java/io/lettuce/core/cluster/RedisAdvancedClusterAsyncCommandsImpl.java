@@ -47,10 +47,13 @@ import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.output.IntegerOutput;
 import io.lettuce.core.output.KeyStreamingChannel;
+import io.lettuce.core.output.KeyValueListOutput;
 import io.lettuce.core.output.KeyValueStreamingChannel;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -170,6 +173,11 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.del(keys);
         }
 
+        if (isGroupMultiKeyCommandsByNode()) {
+            return MultiNodeExecution.aggregateAsync(dispatchBySlot(partitioned,
+                    slotKeys -> new Command<>(CommandType.DEL, new IntegerOutput<>(codec), keyArgs(slotKeys))));
+        }
+
         Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
 
         for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
@@ -193,6 +201,11 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.exists(keys);
         }
 
+        if (isGroupMultiKeyCommandsByNode()) {
+            return MultiNodeExecution.aggregateAsync(dispatchBySlot(partitioned,
+                    slotKeys -> new Command<>(CommandType.EXISTS, new IntegerOutput<>(codec), keyArgs(slotKeys))));
+        }
+
         Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
 
         for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
@@ -290,11 +303,19 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         }
 
         Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = new HashMap<>();
+        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions;
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<KeyValue<K, V>>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
+        if (isGroupMultiKeyCommandsByNode()) {
+            executions = dispatchBySlot(partitioned, slotKeys -> new Command<>(CommandType.MGET,
+                    new KeyValueListOutput<>(codec, slotKeys), keyArgs(slotKeys)));
+        } else {
+
+            executions = new HashMap<>();
+
+            for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+                RedisFuture<List<KeyValue<K, V>>> mget = super.mget(entry.getValue());
+                executions.put(entry.getKey(), mget);
+            }
         }
 
         // restore order of key
@@ -507,6 +528,42 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
                 .thenApply(StatefulRedisConnection::async);
     }
 
+    /**
+     * Dispatch one command per slot as a single batch so that the commands are written with one flush per node connection.
+     *
+     * @param partitioned keys partitioned by slot.
+     * @param commandFactory function to create the command for the keys of a slot.
+     * @return the executions by slot.
+     */
+    private <T> Map<Integer, RedisFuture<T>> dispatchBySlot(Map<Integer, List<K>> partitioned,
+            Function<List<K>, RedisCommand<K, V, T>> commandFactory) {
+
+        Map<Integer, RedisFuture<T>> executions = new HashMap<>(partitioned.size());
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>(partitioned.size());
+
+        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(commandFactory.apply(entry.getValue()));
+            commands.add(command);
+            executions.put(entry.getKey(), command);
+        }
+
+        getStatefulConnection().dispatch(commands);
+
+        return executions;
+    }
+
+    private CommandArgs<K, V> keyArgs(List<K> keys) {
+        return new CommandArgs<>(codec).addKeys(keys);
+    }
+
+    private boolean isGroupMultiKeyCommandsByNode() {
+
+        ClientOptions options = getStatefulConnection().getOptions();
+
+        return options instanceof ClusterClientOptions && ((ClusterClientOptions) options).isGroupMultiKeyCommandsByNode();
+    }
+
     @Override
     public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
         return (StatefulRedisClusterConnection<K, V>) super.getConnection();
@@ -340,6 +340,12 @@ public class RedisClusterClient extends AbstractRedisClient {
             for (RedisClusterNode partition : TopologyComparators.sortByUri(partitions)) {
                 uris.add(partition.getUri());
             }
+
+            int sampleSize = getClusterClientOptions().getTopologyRefreshOptions().getRefreshSourcesSampleSize();
+            if (sampleSize > 0 && uris.size() > sampleSize) {
+                Collections.shuffle(uris);
+                uris = new ArrayList<>(uris.subList(0, sampleSize));
+            }
             seed = uris;
         }
         return seed;
@@ -530,7 +536,8 @@ public class RedisClusterClient extends AbstractRedisClient {
             writer = new CommandExpiryWriter(writer, getClusterClientOptions(), getResources());
         }
 
-        StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<>(writer, codec, getDefaultTimeout());
+        StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<>(writer, endpoint, codec,
+                getDefaultTimeout());
 
         ConnectionFuture<StatefulRedisConnection<K, V>> connectionFuture = connectStatefulAsync(connection, endpoint,
                 getFirstUri(), socketAddressSupplier,
@@ -706,6 +713,11 @@ public class RedisClusterClient extends AbstractRedisClient {
                 clusterWriter, codec, connection.getUpstreamListener(), topologyRefreshScheduler);
 
         clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        if (getClusterClientOptions().isShardPubSubSubscriptions()) {
+            connection.setShardedSubscriptions(new ShardedPubSubSubscriptions<>(codec, pooledClusterConnectionProvider));
+        }
+
         connection.setPartitions(partitions);
 
         Supplier<CommandHandler> commandHandlerSupplier = () -> new PubSubCommandHandler<>(getClusterClientOptions(),
@@ -933,8 +945,14 @@ public class RedisClusterClient extends AbstractRedisClient {
 
     private CompletionStage<Partitions> fetchPartitions(Iterable<RedisURI> topologyRefreshSource) {
 
+        ClusterTopologyRefreshOptions topologyRefreshOptions = getClusterClientOptions().getTopologyRefreshOptions();
+
+        // node sampling queries a subset of nodes on purpose, discovery would query all nodes again
+        boolean discovery = useDynamicRefreshSources() && topologyRefreshOptions.getRefreshSourcesSampleSize() == 0;
+
         CompletionStage<Map<RedisURI, Partitions>> topology = refresh.loadViews(topologyRefreshSource,
-                getClusterClientOptions().getSocketOptions().getConnectTimeout(), useDynamicRefreshSources());
+                getClusterClientOptions().getSocketOptions().getConnectTimeout(), discovery,
+                topologyRefreshOptions.useIncrementalRefresh());
 
         return topology.thenApply(partitions -> {
 
@@ -61,6 +61,30 @@ public class RedisClusterPubSubAsyncCommandsImpl<K, V> extends RedisPubSubAsyncC
         super(connection, codec);
     }
 
+    @Override
+    public RedisFuture<Void> subscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+
+        if (subscriptions != null) {
+            return subscriptions.subscribe(channels);
+        }
+
+        return super.subscribe(channels);
+    }
+
+    @Override
+    public RedisFuture<Void> unsubscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+
+        if (subscriptions != null) {
+            return subscriptions.unsubscribe(channels);
+        }
+
+        return super.unsubscribe(channels);
+    }
+
     @Override
     public RedisFuture<Set<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
 
@@ -24,6 +24,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import io.lettuce.core.GeoArgs;
 import io.lettuce.core.GeoWithin;
 import io.lettuce.core.RedisURI;
@@ -60,6 +61,30 @@ public class RedisClusterPubSubReactiveCommandsImpl<K, V> extends RedisPubSubRea
         super(connection, codec);
     }
 
+    @Override
+    public Mono<Void> subscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+
+        if (subscriptions != null) {
+            return Mono.defer(() -> Mono.fromCompletionStage(subscriptions.subscribe(channels)));
+        }
+
+        return super.subscribe(channels);
+    }
+
+    @Override
+    public Mono<Void> unsubscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+
+        if (subscriptions != null) {
+            return Mono.defer(() -> Mono.fromCompletionStage(subscriptions.unsubscribe(channels)));
+        }
+
+        return super.unsubscribe(channels);
+    }
+
     @Override
     public Flux<V> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
 
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Channel subscriptions that are spread across node connections of a Redis Cluster. Each channel is subscribed on the
+ * connection to the master node that serves the slot of the channel name. Subscriptions are moved to the new slot owner after
+ * a topology change using {@link #setPartitions(Partitions)}.
+ * <p>
+ * Node connections are obtained from {@link AsyncClusterConnectionProvider} so they are shared with
+ * {@link io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection#getConnection(String) node-specific}
+ * connections and resubscribe their channels on reconnect.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class ShardedPubSubSubscriptions<K, V> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ShardedPubSubSubscriptions.class);
+
+    private final Map<ByteBuffer, Subscription<K>> subscriptions = new LinkedHashMap<>();
+
+    private final RedisCodec<K, V> codec;
+
+    private final AsyncClusterConnectionProvider connectionProvider;
+
+    private Partitions partitions;
+
+    ShardedPubSubSubscriptions(RedisCodec<K, V> codec, AsyncClusterConnectionProvider connectionProvider) {
+        this.codec = codec;
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Subscribe to {@code channels} using the connections of the nodes that serve the channel slots.
+     *
+     * @param channels the channels.
+     * @return future that completes once all nodes confirmed the subscription.
+     */
+    synchronized RedisFuture<Void> subscribe(K... channels) {
+
+        Map<ByteBuffer, Subscription<K>> resolved = new LinkedHashMap<>();
+
+        for (K channel : channels) {
+
+            ByteBuffer key = encode(channel);
+            int slot = SlotHash.getSlot(key.duplicate());
+            RedisClusterNode owner = getOwner(slot);
+
+            if (owner == null) {
+                return new PipelinedRedisFuture<>(
+                        Futures.failed(new RedisException(String.format("Cannot determine a partition for slot %d.", slot))));
+            }
+
+            resolved.put(key, new Subscription<>(channel, slot, owner.getNodeId()));
+        }
+
+        Map<String, List<K>> byNode = new LinkedHashMap<>();
+
+        resolved.forEach((key, subscription) -> {
+            subscriptions.put(key, subscription);
+            byNode.computeIfAbsent(subscription.nodeId, it -> new ArrayList<>()).add(subscription.channel);
+        });
+
+        return execute(byNode, RedisPubSubAsyncCommands::subscribe);
+    }
+
+    /**
+     * Unsubscribe from {@code channels}. Unsubscribes from all channels that were subscribed through
+     * {@link #subscribe(Object[])} if {@code channels} is empty.
+     *
+     * @param channels the channels.
+     * @return future that completes once all nodes confirmed the unsubscription.
+     */
+    synchronized RedisFuture<Void> unsubscribe(K... channels) {
+
+        Map<String, List<K>> byNode = new LinkedHashMap<>();
+
+        if (channels.length == 0) {
+
+            for (Subscription<K> subscription : subscriptions.values()) {
+                addUnsubscribe(byNode, subscription);
+            }
+
+            subscriptions.clear();
+            return execute(byNode, RedisPubSubAsyncCommands::unsubscribe);
+        }
+
+        for (K channel : channels) {
+
+            ByteBuffer key = encode(channel);
+            Subscription<K> subscription = subscriptions.remove(key);
+
+            if (subscription != null) {
+                addUnsubscribe(byNode, subscription);
+                continue;
+            }
+
+            RedisClusterNode owner = getOwner(SlotHash.getSlot(key.duplicate()));
+            if (owner != null) {
+                byNode.computeIfAbsent(owner.getNodeId(), it -> new ArrayList<>()).add(channel);
+            }
+        }
+
+        return execute(byNode, RedisPubSubAsyncCommands::unsubscribe);
+    }
+
+    /**
+     * Update the topology and move subscriptions whose slot is served by a different node. A subscription is assigned to its
+     * new node once the node confirmed the subscription. Subscriptions that could not be moved retain their previous node and
+     * are moved again with the next topology update.
+     *
+     * @param partitions the updated topology.
+     */
+    synchronized void setPartitions(Partitions partitions) {
+
+        this.partitions = partitions;
+
+        Map<String, List<K>> unsubscribe = new LinkedHashMap<>();
+        Map<String, List<K>> subscribe = new LinkedHashMap<>();
+        int moved = 0;
+
+        for (Subscription<K> subscription : subscriptions.values()) {
+
+            RedisClusterNode owner = getOwner(subscription.slot);
+
+            if (owner == null || owner.getNodeId().equals(subscription.movingTo)
+                    || (subscription.movingTo == null && owner.getNodeId().equals(subscription.nodeId))) {
+                continue;
+            }
+
+            for (String previous : Arrays.asList(subscription.nodeId, subscription.movingTo)) {
+                if (previous != null && !previous.equals(owner.getNodeId())
+                        && partitions.getPartitionByNodeId(previous) != null) {
+                    unsubscribe.computeIfAbsent(previous, it -> new ArrayList<>()).add(subscription.channel);
+                }
+            }
+
+            subscription.movingTo = owner.getNodeId();
+            subscribe.computeIfAbsent(owner.getNodeId(), it -> new ArrayList<>()).add(subscription.channel);
+            moved++;
+        }
+
+        if (moved == 0) {
+            return;
+        }
+
+        logger.debug("Moving {} channel subscriptions after topology change", moved);
+
+        execute(unsubscribe, RedisPubSubAsyncCommands::unsubscribe).exceptionally(e -> {
+            logger.warn("Cannot unsubscribe moved channels from previous node", e);
+            return null;
+        });
+
+        subscribe.forEach((nodeId, channels) -> {
+
+            execute(Collections.singletonMap(nodeId, channels), RedisPubSubAsyncCommands::subscribe)
+                    .whenComplete((ignore, e) -> completeMove(nodeId, channels, e));
+        });
+    }
+
+    private synchronized void completeMove(String nodeId, List<K> channels, Throwable failure) {
+
+        if (failure != null) {
+            logger.warn("Cannot subscribe moved channels on node {}, retrying on next topology change", nodeId, failure);
+        }
+
+        for (K channel : channels) {
+
+            Subscription<K> subscription = subscriptions.get(encode(channel));
+
+            if (subscription == null || !nodeId.equals(subscription.movingTo)) {
+                continue;
+            }
+
+            if (failure == null) {
+                subscription.nodeId = nodeId;
+            }
+
+            subscription.movingTo = null;
+        }
+    }
+
+    /**
+     * @return the nodeId serving the subscription for {@code channel} or {@literal null} if not subscribed.
+     */
+    synchronized String getNodeId(K channel) {
+
+        Subscription<K> subscription = subscriptions.get(encode(channel));
+        return subscription != null ? subscription.nodeId : null;
+    }
+
+    private void addUnsubscribe(Map<String, List<K>> byNode, Subscription<K> subscription) {
+
+        byNode.computeIfAbsent(subscription.nodeId, it -> new ArrayList<>()).add(subscription.channel);
+
+        if (subscription.movingTo != null && !subscription.movingTo.equals(subscription.nodeId)) {
+            byNode.computeIfAbsent(subscription.movingTo, it -> new ArrayList<>()).add(subscription.channel);
+        }
+    }
+
+    private RedisClusterNode getOwner(int slot) {
+
+        RedisClusterNode node = partitions != null ? partitions.getPartitionBySlot(slot) : null;
+        return node != null && node.getNodeId() != null ? node : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisFuture<Void> execute(Map<String, List<K>> byNode,
+            BiFunction<RedisPubSubAsyncCommands<K, V>, K[], RedisFuture<Void>> function) {
+
+        Map<String, CompletionStage<Void>> executions = new LinkedHashMap<>();
+
+        byNode.forEach((nodeId, channels) -> {
+
+            CompletableFuture<StatefulRedisPubSubConnection<K, V>> connection = (CompletableFuture) connectionProvider
+                    .getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, nodeId);
+
+            executions.put(nodeId,
+                    connection.thenCompose(it -> function.apply(it.async(), (K[]) channels.toArray())));
+        });
+
+        return new PipelinedRedisFuture<>(executions, it -> null);
+    }
+
+    private ByteBuffer encode(K channel) {
+
+        ByteBuffer encoded = codec.encodeKey(channel);
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.duplicate().get(bytes);
+
+        return ByteBuffer.wrap(bytes);
+    }
+
+    static class Subscription<K> {
+
+        final K channel;
+
+        final int slot;
+
+        String nodeId;
+
+        String movingTo;
+
+        Subscription(K channel, int slot, String nodeId) {
+            this.channel = channel;
+            this.slot = slot;
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(channel);
+        }
+    }
+}
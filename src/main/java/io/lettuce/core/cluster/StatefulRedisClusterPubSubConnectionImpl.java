@@ -48,6 +48,7 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
     private final PubSubClusterEndpoint<K, V> endpoint;
     private volatile Partitions partitions;
     private volatile CommandSet commandSet;
+    private volatile ShardedPubSubSubscriptions<K, V> shardedSubscriptions;
 
     /**
      * Initialize a new connection.
@@ -110,6 +111,15 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
         this.commandSet = commandSet;
     }
 
+    ShardedPubSubSubscriptions<K, V> getShardedSubscriptions() {
+        return shardedSubscriptions;
+    }
+
+    void setShardedSubscriptions(ShardedPubSubSubscriptions<K, V> shardedSubscriptions) {
+        this.shardedSubscriptions = shardedSubscriptions;
+        this.endpoint.setShardedSubscriptions(shardedSubscriptions != null);
+    }
+
     @Override
     protected List<RedisFuture<Void>> resubscribe() {
 
@@ -166,6 +176,10 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
     public void setPartitions(Partitions partitions) {
         this.partitions = partitions;
         getClusterDistributionChannelWriter().setPartitions(partitions);
+
+        if (shardedSubscriptions != null) {
+            shardedSubscriptions.setPartitions(partitions);
+        }
     }
 
     public Partitions getPartitions() {
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import io.lettuce.core.KillArgs;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.UnblockType;
 import io.lettuce.core.protocol.CommandType;
 
@@ -89,6 +90,16 @@ public interface NodeSelectionServerAsyncCommands<K, V> {
      */
     AsyncExecutions<Long> clientUnblock(long id, UnblockType type);
 
+    /**
+     * Enables the tracking feature of the Redis server, that is used for server assisted client side caching. Tracking
+     * messages are either sent when using the RESP3 protocol or to a different connection in case of using RESP2.
+     *
+     * @param args for the CLIENT TRACKING operation.
+     * @return String simple-string-reply {@code OK}.
+     * @since 6.0
+     */
+    AsyncExecutions<String> clientTracking(TrackingArgs args);
+
     /**
      * Stop processing commands from clients for some time.
      *
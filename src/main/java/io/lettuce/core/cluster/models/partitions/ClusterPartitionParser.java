@@ -22,7 +22,6 @@ import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.internal.HostAndPort;
-import io.lettuce.core.internal.LettuceLists;
 
 /**
  * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
@@ -34,7 +33,7 @@ public class ClusterPartitionParser {
 
     public static final String CONNECTED = "connected";
 
-    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
+    private static final char TOKEN_SLOT_IN_TRANSITION = '[';
     private static final char TOKEN_NODE_SEPARATOR = '\n';
     private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
 
@@ -61,7 +60,8 @@ public class ClusterPartitionParser {
     }
 
     /**
-     * Parse partition lines into Partitions object.
+     * Parse partition lines into Partitions object. Parsing runs in a single pass over {@code nodes} without splitting the
+     * input into intermediate lines or tokens. Slot and flag buffers are reused across nodes.
      *
      * @param nodes output of CLUSTER NODES
      * @return the partitions object.
@@ -71,17 +71,35 @@ public class ClusterPartitionParser {
 
         try {
 
-            String[] lines = nodes.split(Character.toString(TOKEN_NODE_SEPARATOR));
-            List<RedisClusterNode> mappedNodes = new ArrayList<>(lines.length);
+            List<RedisClusterNode> mappedNodes = new ArrayList<>();
+            BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
+            Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
 
-            for (String line : lines) {
+            int length = nodes.length();
+            int lineStart = 0;
 
-                if (line.isEmpty()) {
-                    continue;
+            while (lineStart < length) {
 
+                int lineEnd = nodes.indexOf(TOKEN_NODE_SEPARATOR, lineStart);
+                if (lineEnd == -1) {
+                    lineEnd = length;
                 }
-                mappedNodes.add(ClusterPartitionParser.parseNode(line));
+
+                int end = lineEnd;
+                if (end > lineStart && nodes.charAt(end - 1) == '\r') {
+                    end--;
+                }
+
+                if (end > lineStart) {
+
+                    slots.clear();
+                    flags.clear();
+                    mappedNodes.add(parseNode(nodes, lineStart, end, slots, flags));
+                }
+
+                lineStart = lineEnd + 1;
             }
+
             result.addAll(mappedNodes);
         } catch (Exception e) {
             throw new RedisException("Cannot parse " + nodes, e);
@@ -90,107 +108,158 @@ public class ClusterPartitionParser {
         return result;
     }
 
-    private static RedisClusterNode parseNode(String nodeInformation) {
-
-        Iterator<String> iterator = Arrays.asList(nodeInformation.split(" ")).iterator();
+    private static RedisClusterNode parseNode(String line, int start, int end, BitSet slots,
+            Set<RedisClusterNode.NodeFlag> flags) {
 
-        String nodeId = iterator.next();
+        int tokenEnd = requireToken(line, start, end);
+        String nodeId = line.substring(start, tokenEnd);
         boolean connected = false;
         RedisURI uri = null;
 
-        String hostAndPortPart = iterator.next();
-        if (hostAndPortPart.contains("@")) {
-            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
+        start = tokenEnd + 1;
+        tokenEnd = requireToken(line, start, end);
+
+        int hostAndPortEnd = line.indexOf('@', start);
+        if (hostAndPortEnd == -1 || hostAndPortEnd > tokenEnd) {
+            hostAndPortEnd = tokenEnd;
         }
 
-        HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
+        HostAndPort hostAndPort = HostAndPort.parseCompat(line.substring(start, hostAndPortEnd));
 
         if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
             uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
         }
 
-        String flags = iterator.next();
-        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
+        start = tokenEnd + 1;
+        tokenEnd = requireToken(line, start, end);
+        readFlags(line, start, tokenEnd, flags);
 
-        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+        start = tokenEnd + 1;
+        tokenEnd = requireToken(line, start, end); // (nodeId or -)
+        String replicaOf = tokenEnd - start == 1 && line.charAt(start) == '-' ? null : line.substring(start, tokenEnd);
 
-        String replicaOfString = iterator.next(); // (nodeId or -)
-        String replicaOf = "-".equals(replicaOfString) ? null : replicaOfString;
+        start = tokenEnd + 1;
+        tokenEnd = nextToken(line, start, end);
+        long pingSentTs = readLong(line, start, tokenEnd, 0);
 
-        long pingSentTs = getLongFromIterator(iterator, 0);
-        long pongReceivedTs = getLongFromIterator(iterator, 0);
-        long configEpoch = getLongFromIterator(iterator, 0);
+        start = tokenEnd + 1;
+        tokenEnd = nextToken(line, start, end);
+        long pongReceivedTs = readLong(line, start, tokenEnd, 0);
 
-        String connectedFlags = iterator.next(); // "connected" : "disconnected"
+        start = tokenEnd + 1;
+        tokenEnd = nextToken(line, start, end);
+        long configEpoch = readLong(line, start, tokenEnd, 0);
 
-        if (CONNECTED.equals(connectedFlags)) {
+        start = tokenEnd + 1;
+        tokenEnd = requireToken(line, start, end); // "connected" : "disconnected"
+
+        if (tokenEnd - start == CONNECTED.length() && line.startsWith(CONNECTED, start)) {
             connected = true;
         }
 
-        List<String> slotStrings = LettuceLists.newList(iterator); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
-        BitSet slots = readSlots(slotStrings);
+        readSlots(line, tokenEnd + 1, end, slots); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
 
-        RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, replicaOf, pingSentTs, pongReceivedTs,
-                configEpoch, slots, nodeFlags);
+        return new RedisClusterNode(uri, nodeId, connected, replicaOf, pingSentTs, pongReceivedTs, configEpoch, slots, flags);
+    }
 
-        return partition;
+    private static void readFlags(String line, int start, int end, Set<RedisClusterNode.NodeFlag> flags) {
 
-    }
+        while (start < end) {
+
+            int flagEnd = line.indexOf(',', start);
+            if (flagEnd == -1 || flagEnd > end) {
+                flagEnd = end;
+            }
 
-    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
+            for (Map.Entry<String, RedisClusterNode.NodeFlag> entry : FLAG_MAPPING.entrySet()) {
 
-        Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
-        for (String flagString : flagStrings) {
-            if (FLAG_MAPPING.containsKey(flagString)) {
-                flags.add(FLAG_MAPPING.get(flagString));
+                String flag = entry.getKey();
+                if (flag.length() == flagEnd - start && line.startsWith(flag, start)) {
+                    flags.add(entry.getValue());
+                    break;
+                }
             }
+
+            start = flagEnd + 1;
         }
 
         if (flags.contains(RedisClusterNode.NodeFlag.SLAVE)) {
             flags.add(RedisClusterNode.NodeFlag.REPLICA);
         }
-
-        return Collections.unmodifiableSet(flags);
     }
 
-    private static BitSet readSlots(List<String> slotStrings) {
+    private static void readSlots(String line, int start, int end, BitSet slots) {
+
+        while (start < end) {
 
-        BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
-        for (String slotString : slotStrings) {
+            int tokenEnd = nextToken(line, start, end);
 
-            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+            if (tokenEnd == start || line.charAt(start) == TOKEN_SLOT_IN_TRANSITION) {
                 // not interesting
+                start = tokenEnd + 1;
                 continue;
-
             }
 
-            if (slotString.contains("-")) {
-                // slot range
-                Iterator<String> it = Arrays.asList(slotString.split("\\-")).iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
+            int rangeSeparator = line.indexOf('-', start);
 
-                for (int slot = from; slot <= to; slot++) {
-                    slots.set(slot);
+            if (rangeSeparator != -1 && rangeSeparator < tokenEnd) {
+                // slot range
+                int from = (int) readLong(line, start, rangeSeparator, 0);
+                int to = (int) readLong(line, rangeSeparator + 1, tokenEnd, 0);
 
-                }
-                continue;
+                slots.set(from, to + 1);
+            } else {
+                slots.set((int) readLong(line, start, tokenEnd, 0));
             }
 
-            slots.set(Integer.parseInt(slotString));
+            start = tokenEnd + 1;
+        }
+    }
+
+    private static int requireToken(String line, int start, int end) {
+
+        if (start > end) {
+            throw new NoSuchElementException("Unexpected end of line: " + line.substring(0, end));
+        }
+
+        return nextToken(line, start, end);
+    }
+
+    private static int nextToken(String line, int start, int end) {
+
+        if (start >= end) {
+            return end;
         }
 
-        return slots;
+        int tokenEnd = line.indexOf(' ', start);
+        return tokenEnd == -1 || tokenEnd > end ? end : tokenEnd;
     }
 
-    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
-        if (iterator.hasNext()) {
-            Object object = iterator.next();
-            if (object instanceof String) {
-                return Long.parseLong((String) object);
+    private static long readLong(String line, int start, int end, long defaultValue) {
+
+        if (start >= end) {
+            return defaultValue;
+        }
+
+        boolean negative = line.charAt(start) == '-';
+        int index = negative ? start + 1 : start;
+
+        if (index == end) {
+            throw new NumberFormatException("Cannot parse number: " + line.substring(start, end));
+        }
+
+        long result = 0;
+        for (; index < end; index++) {
+
+            int digit = line.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Cannot parse number: " + line.substring(start, end));
             }
+
+            result = result * 10 + digit;
         }
-        return defaultValue;
+
+        return negative ? -result : result;
     }
 
 }
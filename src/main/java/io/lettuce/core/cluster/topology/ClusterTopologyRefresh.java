@@ -52,4 +52,22 @@ public interface ClusterTopologyRefresh {
      * @return mapping between {@link RedisURI} and {@link Partitions}
      */
     CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout, boolean discovery);
+
+    /**
+     * Load topology views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Partitions contain
+     * an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first. If
+     * {@code incremental} is {@literal true}, implementations may return the previously loaded views without retrieving the
+     * full topology if the slot assignment did not change.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param connectTimeout connect timeout
+     * @param discovery {@literal true} to discover additional nodes
+     * @param incremental {@literal true} to skip topology retrieval if the slot assignment is unchanged
+     * @return mapping between {@link RedisURI} and {@link Partitions}
+     * @since 6.0
+     */
+    default CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout,
+            boolean discovery, boolean incremental) {
+        return loadViews(seed, connectTimeout, discovery);
+    }
 }
@@ -24,6 +24,7 @@ import io.lettuce.core.internal.ExceptionFactory;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ArrayOutput;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
@@ -112,7 +113,35 @@ class Connections {
     }
 
     /*
-     * Initiate {@code CLUSTER NODES} on all connections and return the {@link Requests}.
+     * Initiate {@code CLUSTER SLOTS} on the first connection and return the request.
+     *
+     * @return the request or {@literal null} if no connection is present.
+     */
+    public TimedAsyncCommand<String, String, List<Object>> requestSlots(long timeout, TimeUnit timeUnit) {
+
+        StatefulRedisConnection<String, String> connection;
+
+        synchronized (this.connections) {
+
+            if (this.connections.isEmpty()) {
+                return null;
+            }
+
+            connection = this.connections.values().iterator().next();
+        }
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.SLOTS);
+        Command<String, String, List<Object>> command = new Command<>(CommandType.CLUSTER, new ArrayOutput<>(StringCodec.UTF8),
+                args);
+        TimedAsyncCommand<String, String, List<Object>> timedCommand = new TimedAsyncCommand<>(command);
+
+        dispatch(connection, timedCommand, timeout, timeUnit);
+
+        return timedCommand;
+    }
+
+    /*
+     * Initiate a command on all connections and return the {@link Requests}.
      *
      * @return the {@link Requests}.
      */
@@ -120,18 +149,13 @@ class Connections {
             TimeUnit timeUnit) {
 
         Requests requests = new Requests();
-        Duration timeoutDuration = Duration.ofNanos(timeUnit.toNanos(timeout));
 
         synchronized (this.connections) {
             for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : this.connections.entrySet()) {
 
                 TimedAsyncCommand<String, String, String> timedCommand = commandFactory.get();
 
-                clientResources.timer().newTimeout(it -> {
-                    timedCommand.completeExceptionally(ExceptionFactory.createTimeoutException(timeoutDuration));
-                }, timeout, timeUnit);
-
-                entry.getValue().dispatch(timedCommand);
+                dispatch(entry.getValue(), timedCommand, timeout, timeUnit);
                 requests.addRequest(entry.getKey(), timedCommand);
             }
         }
@@ -139,6 +163,18 @@ class Connections {
         return requests;
     }
 
+    private void dispatch(StatefulRedisConnection<String, String> connection, TimedAsyncCommand<String, String, ?> command,
+            long timeout, TimeUnit timeUnit) {
+
+        Duration timeoutDuration = Duration.ofNanos(timeUnit.toNanos(timeout));
+
+        clientResources.timer().newTimeout(it -> {
+            command.completeExceptionally(ExceptionFactory.createTimeoutException(timeoutDuration));
+        }, timeout, timeUnit);
+
+        connection.dispatch(command);
+    }
+
     public Connections retainAll(Set<RedisURI> connectionsToRetain) {
 
         Set<RedisURI> keys = new LinkedHashSet<>(connections.keySet());
@@ -30,6 +30,8 @@ import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.cluster.models.slots.ClusterSlotRange;
+import io.lettuce.core.cluster.models.slots.ClusterSlotsParser;
 import io.lettuce.core.cluster.topology.TopologyComparators.SortAction;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.ExceptionFactory;
@@ -54,6 +56,9 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
     private final NodeConnectionFactory nodeConnectionFactory;
     private final ClientResources clientResources;
 
+    // slot assignment digest and topology views of the previous incremental refresh
+    private volatile TopologySnapshot snapshot;
+
     public DefaultClusterTopologyRefresh(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources) {
         this.nodeConnectionFactory = nodeConnectionFactory;
         this.clientResources = clientResources;
@@ -70,6 +75,24 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
      */
     public CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout,
             boolean discovery) {
+        return loadViews(seed, connectTimeout, discovery, false);
+    }
+
+    /**
+     * Load partition views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Partitions contain
+     * an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first. Incremental
+     * loading requests {@code CLUSTER SLOTS} from the first connected node and returns a copy of the previously loaded views
+     * with refreshed latency and client counts if the node reports the same slot assignment as during the previous refresh.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param connectTimeout connect timeout
+     * @param discovery {@literal true} to discover additional nodes
+     * @param incremental {@literal true} to skip topology retrieval if the slot assignment is unchanged
+     * @return mapping between {@link RedisURI} and {@link Partitions}
+     */
+    @Override
+    public CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout,
+            boolean discovery, boolean incremental) {
 
         if (!isEventLoopActive()) {
             return CompletableFuture.completedFuture(Collections.emptyMap());
@@ -80,67 +103,286 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
         long connectionTimeout = commandTimeoutNs + connectTimeout.toNanos();
         openConnections(tracker, seed, connectionTimeout, TimeUnit.NANOSECONDS);
 
-        CompletableFuture<NodeTopologyViews> composition = tracker.whenComplete(map -> {
+        return tracker.whenComplete(map -> {
             return new Connections(clientResources, map);
         }).thenCompose(connections -> {
 
-            Requests requestedTopology = connections.requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS);
-            Requests requestedClients = connections.requestClients(commandTimeoutNs, TimeUnit.NANOSECONDS);
-            return CompletableFuture.allOf(requestedTopology.allCompleted(), requestedClients.allCompleted())
-                    .thenCompose(ignore -> {
+            if (!incremental) {
+                return loadViews(tracker, connections, seed, discovery, commandTimeoutNs, connectionTimeout)
+                        .thenApply(NodeTopologyViews::toMap);
+            }
 
-                        NodeTopologyViews views = getNodeSpecificViews(requestedTopology, requestedClients);
+            TopologySnapshot snapshot = this.snapshot;
+            TimedAsyncCommand<String, String, List<Object>> requestedSlots = connections.requestSlots(commandTimeoutNs,
+                    TimeUnit.NANOSECONDS);
+            Requests requestedClients = snapshot != null ? connections.requestClients(commandTimeoutNs, TimeUnit.NANOSECONDS)
+                    : new Requests();
 
-                        if (discovery && isEventLoopActive()) {
+            CompletableFuture<?> slotsCompleted = requestedSlots != null ? requestedSlots.exceptionally(throwable -> null)
+                    : CompletableFuture.completedFuture(null);
 
-                            Set<RedisURI> allKnownUris = views.getClusterNodes();
-                            Set<RedisURI> discoveredNodes = difference(allKnownUris, toSet(seed));
+            return CompletableFuture.allOf(slotsCompleted, requestedClients.allCompleted()).thenApply(ignore -> {
 
-                            if (discoveredNodes.isEmpty()) {
-                                return CompletableFuture.completedFuture(views);
-                            }
+                Long digest = getSlotsDigest(requestedSlots);
 
-                            openConnections(tracker, discoveredNodes, connectionTimeout, TimeUnit.NANOSECONDS);
+                if (digest == null) {
+                    return null;
+                }
 
-                            return tracker.whenComplete(map -> {
-                                return new Connections(clientResources, map).retainAll(discoveredNodes);
-                            }).thenCompose(newConnections -> {
+                Map<RedisURI, Partitions> views = snapshot != null && snapshot.digest == digest
+                        ? refreshMetrics(snapshot.views, requestedClients)
+                        : null;
 
-                                Requests additionalTopology = newConnections
-                                        .requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS).mergeWith(requestedTopology);
-                                Requests additionalClients = newConnections
-                                        .requestClients(commandTimeoutNs, TimeUnit.NANOSECONDS).mergeWith(requestedClients);
-                                return CompletableFuture
-                                        .allOf(additionalTopology.allCompleted(), additionalClients.allCompleted())
-                                        .thenApply(ignore2 -> {
+                return new TopologySnapshot(digest, views);
+            }).handle((current, throwable) -> {
 
-                                            return getNodeSpecificViews(additionalTopology, additionalClients);
-                                        });
-                            });
-                        }
+                if (throwable != null) {
+                    return tracker.close()
+                            .thenCompose(it -> Futures.<Map<RedisURI, Partitions>> failed(Exceptions.unwrap(throwable)));
+                }
 
-                        return CompletableFuture.completedFuture(views);
-                    }).whenComplete((ignore, throwable) -> {
+                if (current != null && current.views != null) {
 
-                        if (throwable != null) {
-                            try {
-                                tracker.close();
-                            } catch (Exception e) {
-                                logger.debug("Cannot close ClusterTopologyRefresh connections", e);
-                            }
+                    logger.debug("Slot assignment unchanged, skipping topology retrieval");
+                    this.snapshot = new TopologySnapshot(current.digest, copy(current.views));
+                    return tracker.close().thenApply(it -> current.views);
+                }
+
+                return loadViews(tracker, connections, seed, discovery, commandTimeoutNs, connectionTimeout)
+                        .thenApply(views -> {
+
+                            Map<RedisURI, Partitions> result = views.toMap();
+                            this.snapshot = current != null ? new TopologySnapshot(current.digest, copy(result)) : null;
+                            return result;
+                        });
+            }).thenCompose(Function.identity());
+        });
+    }
+
+    private CompletableFuture<NodeTopologyViews> loadViews(ConnectionTracker tracker, Connections connections,
+            Iterable<RedisURI> seed, boolean discovery, long commandTimeoutNs, long connectionTimeout) {
+
+        Requests requestedTopology = connections.requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS);
+        Requests requestedClients = connections.requestClients(commandTimeoutNs, TimeUnit.NANOSECONDS);
+        return CompletableFuture.allOf(requestedTopology.allCompleted(), requestedClients.allCompleted())
+                .thenCompose(ignore -> {
+
+                    NodeTopologyViews views = getNodeSpecificViews(requestedTopology, requestedClients);
+
+                    if (discovery && isEventLoopActive()) {
+
+                        Set<RedisURI> allKnownUris = views.getClusterNodes();
+                        Set<RedisURI> discoveredNodes = difference(allKnownUris, toSet(seed));
+
+                        if (discoveredNodes.isEmpty()) {
+                            return CompletableFuture.completedFuture(views);
                         }
-                    }).thenCompose((it) -> tracker.close().thenApply(ignore -> it)).thenCompose(it -> {
 
-                        if (it.isEmpty()) {
-                            Exception exception = tryFail(requestedTopology, tracker, seed);
-                            return Futures.failed(exception);
+                        openConnections(tracker, discoveredNodes, connectionTimeout, TimeUnit.NANOSECONDS);
+
+                        return tracker.whenComplete(map -> {
+                            return new Connections(clientResources, map).retainAll(discoveredNodes);
+                        }).thenCompose(newConnections -> {
+
+                            Requests additionalTopology = newConnections
+                                    .requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS).mergeWith(requestedTopology);
+                            Requests additionalClients = newConnections.requestClients(commandTimeoutNs, TimeUnit.NANOSECONDS)
+                                    .mergeWith(requestedClients);
+                            return CompletableFuture.allOf(additionalTopology.allCompleted(), additionalClients.allCompleted())
+                                    .thenApply(ignore2 -> {
+
+                                        return getNodeSpecificViews(additionalTopology, additionalClients);
+                                    });
+                        });
+                    }
+
+                    return CompletableFuture.completedFuture(views);
+                }).whenComplete((ignore, throwable) -> {
+
+                    if (throwable != null) {
+                        try {
+                            tracker.close();
+                        } catch (Exception e) {
+                            logger.debug("Cannot close ClusterTopologyRefresh connections", e);
                         }
+                    }
+                }).thenCompose((it) -> tracker.close().thenApply(ignore -> it)).thenCompose(it -> {
 
-                        return CompletableFuture.completedFuture(it);
-                    });
-        });
+                    if (it.isEmpty()) {
+                        Exception exception = tryFail(requestedTopology, tracker, seed);
+                        return Futures.failed(exception);
+                    }
+
+                    return CompletableFuture.completedFuture(it);
+                });
+    }
+
+    /**
+     * Compute a digest of the slot assignment reported by {@code CLUSTER SLOTS}. The digest considers slot ranges and node
+     * Ids only so it does not depend on the node that reported the slot assignment.
+     *
+     * @param request the {@code CLUSTER SLOTS} request, can be {@literal null}.
+     * @return the digest or {@literal null} if the request is absent or failed.
+     */
+    static Long getSlotsDigest(TimedAsyncCommand<String, String, List<Object>> request) {
+
+        if (request == null || !request.isDone() || request.isCompletedExceptionally()) {
+            return null;
+        }
+
+        return getSlotsDigest(ClusterSlotsParser.parse(request.join()));
+    }
+
+    private static long getSlotsDigest(List<ClusterSlotRange> ranges) {
+
+        long digest = 1;
+
+        for (ClusterSlotRange range : ranges) {
+
+            digest = 31 * digest + range.getFrom();
+            digest = 31 * digest + range.getTo();
+            digest = 31 * digest + getNodeDigest(range.getMasterNode());
+
+            List<String> replicas = new ArrayList<>(range.getReplicaNodes().size());
+            for (RedisClusterNode replica : range.getReplicaNodes()) {
+                replicas.add(getNodeKey(replica));
+            }
+
+            Collections.sort(replicas);
+            for (String replica : replicas) {
+                digest = 31 * digest + replica.hashCode();
+            }
+        }
+
+        return digest;
+    }
+
+    private static int getNodeDigest(RedisClusterNode node) {
+        return node == null ? 0 : getNodeKey(node).hashCode();
+    }
+
+    private static String getNodeKey(RedisClusterNode node) {
+
+        if (node.getNodeId() != null) {
+            return node.getNodeId();
+        }
+
+        return node.getUri().getHost() + ":" + node.getUri().getPort();
+    }
+
+    /**
+     * Copy {@code views} and update latency and connected clients of each node that was requested with {@code INFO CLIENTS}.
+     * The latency of a node is the duration of its {@code INFO CLIENTS} request. Nodes outside of the current refresh sources
+     * retain their previous metrics so sampled refresh sources do not force a full topology retrieval.
+     *
+     * @param views the previously loaded views.
+     * @param requestedClients the {@code INFO CLIENTS} requests.
+     * @return the updated views or {@literal null} if a requested node did not respond.
+     */
+    static Map<RedisURI, Partitions> refreshMetrics(Map<RedisURI, Partitions> views, Requests requestedClients) {
+
+        Map<String, Long> latencies = new HashMap<>();
+        Map<String, Integer> clientCountByNodeId = new HashMap<>();
+
+        for (Map.Entry<RedisURI, Partitions> entry : views.entrySet()) {
+
+            RedisClusterNode ownPartition = getOwnPartition(entry.getValue());
+            TimedAsyncCommand<String, String, String> request = ownPartition != null
+                    ? getRequest(requestedClients, entry.getKey(), ownPartition)
+                    : null;
+
+            if (request == null) {
+                continue;
+            }
+
+            if (!request.isDone() || request.isCompletedExceptionally()) {
+                return null;
+            }
+
+            latencies.put(ownPartition.getNodeId(), request.duration());
+            clientCountByNodeId.put(ownPartition.getNodeId(), NodeTopologyView.getClients(request.join()));
+        }
+
+        Map<RedisURI, Partitions> result = copy(views);
+        SortAction sortAction = SortAction.getSortAction();
+
+        for (Partitions partitions : result.values()) {
+
+            for (RedisClusterNode node : partitions) {
+
+                if (latencies.containsKey(node.getNodeId())) {
+                    ((RedisClusterNodeSnapshot) node).setLatencyNs(latencies.get(node.getNodeId()));
+                    ((RedisClusterNodeSnapshot) node).setConnectedClients(clientCountByNodeId.get(node.getNodeId()));
+                }
+            }
+
+            sortAction.sort(partitions);
+            partitions.updateCache();
+        }
+
+        return result;
+    }
+
+    private static RedisClusterNode getOwnPartition(Partitions partitions) {
+
+        for (RedisClusterNode partition : partitions) {
+            if (partition.is(RedisClusterNode.NodeFlag.MYSELF)) {
+                return partition;
+            }
+        }
+
+        return null;
+    }
+
+    private static TimedAsyncCommand<String, String, String> getRequest(Requests requests, RedisURI viewUri,
+            RedisClusterNode node) {
+
+        TimedAsyncCommand<String, String, String> request = requests.getRequest(viewUri);
+
+        if (request == null && node.getUri() != null) {
+            request = requests.getRequest(node.getUri());
+        }
+
+        for (RedisURI alias : node.getAliases()) {
+
+            if (request != null) {
+                break;
+            }
+
+            request = requests.getRequest(alias);
+        }
+
+        return request;
+    }
+
+    private static Map<RedisURI, Partitions> copy(Map<RedisURI, Partitions> views) {
+
+        Map<RedisURI, Partitions> result = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
+
+        for (Map.Entry<RedisURI, Partitions> entry : views.entrySet()) {
+
+            List<RedisClusterNode> nodes = new ArrayList<>(entry.getValue().size());
 
-        return composition.thenApply(NodeTopologyViews::toMap);
+            for (RedisClusterNode node : entry.getValue()) {
+
+                RedisClusterNodeSnapshot copy = new RedisClusterNodeSnapshot(node);
+
+                if (node instanceof RedisClusterNodeSnapshot) {
+                    copy.setLatencyNs(((RedisClusterNodeSnapshot) node).getLatencyNs());
+                    copy.setConnectedClients(((RedisClusterNodeSnapshot) node).getConnectedClients());
+                }
+
+                nodes.add(copy);
+            }
+
+            Partitions partitions = new Partitions();
+            partitions.addAll(nodes);
+            partitions.updateCache();
+
+            result.put(entry.getKey(), partitions);
+        }
+
+        return result;
     }
 
     private Exception tryFail(Requests requestedTopology, ConnectionTracker tracker, Iterable<RedisURI> seed) {
@@ -466,6 +708,20 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
         }
     }
 
+    /**
+     * Topology views along with the digest of the slot assignment that was reported when the views were loaded.
+     */
+    static class TopologySnapshot {
+
+        private final long digest;
+        private final Map<RedisURI, Partitions> views;
+
+        TopologySnapshot(long digest, Map<RedisURI, Partitions> views) {
+            this.digest = digest;
+            this.views = views;
+        }
+    }
+
     static class CannotRetrieveClusterPartitions extends RedisException {
 
         private final Map<RedisURI, String> failure;
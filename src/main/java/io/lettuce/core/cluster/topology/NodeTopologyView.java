@@ -93,7 +93,7 @@ class NodeTopologyView {
         return false;
     }
 
-    private int getClients(String rawClientsOutput) {
+    static int getClients(String rawClientsOutput) {
         String[] rows = rawClientsOutput.trim().split("\\n");
         for (String row : rows) {
 
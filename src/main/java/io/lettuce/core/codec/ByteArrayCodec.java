@@ -25,7 +25,8 @@ import io.netty.buffer.ByteBuf;
  * @author Mark Paluch
  * @since 3.3
  */
-public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEncoder<byte[], byte[]> {
+public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEncoder<byte[], byte[]>,
+        FromByteBufDecoder<byte[], byte[]> {
 
     public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
     private static final byte[] EMPTY = new byte[0];
@@ -53,6 +54,11 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEnco
         return ((byte[]) keyOrValue).length;
     }
 
+    @Override
+    public boolean isEstimateExact() {
+        return true;
+    }
+
     @Override
     public byte[] decodeKey(ByteBuffer bytes) {
         return getBytes(bytes);
@@ -63,6 +69,16 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEnco
         return getBytes(bytes);
     }
 
+    @Override
+    public byte[] decodeKey(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
+    @Override
+    public byte[] decodeValue(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
     @Override
     public ByteBuffer encodeKey(byte[] key) {
 
@@ -90,4 +106,17 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEnco
         buffer.get(b);
         return b;
     }
+
+    private static byte[] getBytes(ByteBuf buffer) {
+
+        int remaining = buffer.readableBytes();
+
+        if (remaining == 0) {
+            return EMPTY;
+        }
+
+        byte[] b = new byte[remaining];
+        buffer.getBytes(buffer.readerIndex(), b);
+        return b;
+    }
 }
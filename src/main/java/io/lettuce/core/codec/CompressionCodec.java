@@ -15,26 +15,66 @@
  */
 package io.lettuce.core.codec;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.FastThreadLocal;
 
 /**
  * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using GZIP
  * or Deflate. See {@link io.lettuce.core.codec.CompressionCodec.CompressionType} for supported compression types.
+ * <p>
+ * Compression uses {@link Deflater} and {@link Inflater} instances that are retained per thread and writes compressed values
+ * directly into the command buffer through {@link ToByteBufEncoder}. Retained instances are released when the thread-local
+ * state is removed, for example when a Netty {@link io.netty.util.concurrent.FastThreadLocalThread} terminates.
  *
  * @author Mark Paluch
  */
 public abstract class CompressionCodec {
 
+    /**
+     * Header byte of values stored uncompressed by a codec created with
+     * {@link #valueCompressor(RedisCodec, CompressionType, int)}.
+     */
+    static final byte UNCOMPRESSED = 0;
+
+    /**
+     * Header byte of values stored compressed by a codec created with
+     * {@link #valueCompressor(RedisCodec, CompressionType, int)}.
+     */
+    static final byte COMPRESSED = 1;
+
+    private static final byte[] GZIP_HEADER = new byte[] { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    private static final FastThreadLocal<CompressionContext> CONTEXT = new FastThreadLocal<CompressionContext>() {
+
+        @Override
+        protected CompressionContext initialValue() {
+            return new CompressionContext();
+        }
+
+        @Override
+        protected void onRemoval(CompressionContext value) {
+            value.end();
+        }
+    };
+
     private CompressionCodec() {
     }
 
@@ -51,17 +91,43 @@ public abstract class CompressionCodec {
     public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType) {
         LettuceAssert.notNull(delegate, "RedisCodec must not be null");
         LettuceAssert.notNull(compressionType, "CompressionType must not be null");
-        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType);
+        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType, -1);
     }
 
-    private static class CompressingValueCodecWrapper implements RedisCodec<Object, Object> {
+    /**
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec} if their encoded size is at least
+     * {@code compressionThreshold} bytes. Smaller values are stored uncompressed. Each value is prefixed with a header byte
+     * indicating whether the value is compressed, therefore values are not compatible with codecs created through
+     * {@link #valueCompressor(RedisCodec, CompressionType)}.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
+     * @param compressionType the compression type, must not be {@literal null}.
+     * @param compressionThreshold minimum size in bytes of values to compress, must not be negative.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Value-compressing codec.
+     * @since 6.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType,
+            int compressionThreshold) {
+        LettuceAssert.notNull(delegate, "RedisCodec must not be null");
+        LettuceAssert.notNull(compressionType, "CompressionType must not be null");
+        LettuceAssert.isTrue(compressionThreshold >= 0, "Compression threshold must not be negative");
+        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType, compressionThreshold);
+    }
+
+    private static class CompressingValueCodecWrapper implements RedisCodec<Object, Object>, ToByteBufEncoder<Object, Object> {
 
-        private RedisCodec<Object, Object> delegate;
-        private CompressionType compressionType;
+        private final RedisCodec<Object, Object> delegate;
+        private final CompressionType compressionType;
+        private final int compressionThreshold;
 
-        public CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, CompressionType compressionType) {
+        public CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, CompressionType compressionType,
+                int compressionThreshold) {
             this.delegate = delegate;
             this.compressionType = compressionType;
+            this.compressionThreshold = compressionThreshold;
         }
 
         @Override
@@ -71,11 +137,7 @@ public abstract class CompressionCodec {
 
         @Override
         public Object decodeValue(ByteBuffer bytes) {
-            try {
-                return delegate.decodeValue(decompress(bytes));
-            } catch (IOException e) {
-                throw new IllegalStateException(e);
-            }
+            return delegate.decodeValue(decompress(bytes));
         }
 
         @Override
@@ -85,99 +147,362 @@ public abstract class CompressionCodec {
 
         @Override
         public ByteBuffer encodeValue(Object value) {
-            try {
-                return compress(delegate.encodeValue(value));
-            } catch (IOException e) {
-                throw new IllegalStateException(e);
+
+            ByteBuf target = Unpooled.buffer(estimateSize(value) + 16);
+            encodeValue(value, target);
+
+            return target.nioBuffer();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void encodeKey(Object key, ByteBuf target) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                ((ToByteBufEncoder<Object, Object>) delegate).encodeKey(key, target);
+            } else {
+                target.writeBytes(delegate.encodeKey(key));
             }
         }
 
-        private ByteBuffer compress(ByteBuffer source) throws IOException {
-            if (source.remaining() == 0) {
-                return source;
+        @Override
+        @SuppressWarnings("unchecked")
+        public void encodeValue(Object value, ByteBuf target) {
+
+            if (!(delegate instanceof ToByteBufEncoder)) {
+
+                ByteBuffer source = delegate.encodeValue(value);
+
+                if (source.hasArray()) {
+                    compress(source.array(), source.arrayOffset() + source.position(), source.remaining(), target);
+                } else {
+
+                    byte[] bytes = new byte[source.remaining()];
+                    source.get(bytes);
+                    compress(bytes, 0, bytes.length, target);
+                }
+                return;
             }
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() / 2);
-            OutputStream compressor = null;
+            ToByteBufEncoder<Object, Object> encoder = (ToByteBufEncoder<Object, Object>) delegate;
+            ByteBuf source = target.alloc().heapBuffer(encoder.estimateSize(value));
 
             try {
-                try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source)) {
-                    if (compressionType == CompressionType.GZIP) {
-                        compressor = new GZIPOutputStream(outputStream);
-                    }
-
-                    if (compressionType == CompressionType.DEFLATE) {
-                        compressor = new DeflaterOutputStream(outputStream);
-                    }
-                    copy(sourceStream, compressor);
-                } finally {
-
-                    if (compressor != null) {
-                        compressor.close();
-                    }
+                encoder.encodeValue(value, source);
+                compress(source.array(), source.arrayOffset() + source.readerIndex(), source.readableBytes(), target);
+            } finally {
+                source.release();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int estimateSize(Object keyOrValue) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                return ((ToByteBufEncoder<Object, Object>) delegate).estimateSize(keyOrValue);
+            }
+
+            return 0;
+        }
+
+        /**
+         * Compressed values differ in size from the estimate of the delegate so they require a temporary buffer.
+         */
+        @Override
+        public boolean isEstimateExact() {
+            return false;
+        }
+
+        private void compress(byte[] source, int offset, int length, ByteBuf target) {
+
+            if (length == 0) {
+                return;
+            }
+
+            if (compressionThreshold >= 0) {
+
+                if (length < compressionThreshold) {
+                    target.writeByte(UNCOMPRESSED).writeBytes(source, offset, length);
+                    return;
                 }
 
-                return ByteBuffer.wrap(outputStream.toByteArray());
-            } finally {
-                outputStream.close();
+                target.writeByte(COMPRESSED);
+            }
+
+            CompressionContext context = CONTEXT.get();
+
+            if (compressionType == CompressionType.GZIP) {
+
+                target.writeBytes(GZIP_HEADER);
+                deflate(context.gzipDeflater, context.buffer, source, offset, length, target);
+
+                CRC32 crc = context.crc;
+                crc.reset();
+                crc.update(source, offset, length);
+
+                target.writeIntLE((int) crc.getValue()).writeIntLE(length);
+            }
+
+            if (compressionType == CompressionType.DEFLATE) {
+                deflate(context.deflater, context.buffer, source, offset, length, target);
             }
         }
 
-        private ByteBuffer decompress(ByteBuffer source) throws IOException {
+        private ByteBuffer decompress(ByteBuffer source) {
+
             if (source.remaining() == 0) {
                 return source;
             }
 
-            InputStream decompressor = null;
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() * 2);
+            if (compressionThreshold >= 0) {
+
+                byte header = source.get(source.position());
+
+                if (header == UNCOMPRESSED) {
+
+                    ByteBuffer uncompressed = source.duplicate();
+                    uncompressed.position(uncompressed.position() + 1);
+                    return uncompressed;
+                }
+
+                if (header != COMPRESSED) {
+                    throw new IllegalStateException(String.format("Unknown compression header: %d", header));
+                }
+            }
+
+            byte[] bytes;
+            int offset;
+            int length;
+
+            if (source.hasArray()) {
+                bytes = source.array();
+                offset = source.arrayOffset() + source.position();
+                length = source.remaining();
+            } else {
+                bytes = new byte[source.remaining()];
+                source.duplicate().get(bytes);
+                offset = 0;
+                length = bytes.length;
+            }
+
+            if (compressionThreshold >= 0) {
+                offset++;
+                length--;
+            }
 
             try {
-                try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);) {
 
-                    if (compressionType == CompressionType.GZIP) {
-                        decompressor = new GZIPInputStream(sourceStream);
-                    }
+                if (compressionType == CompressionType.GZIP) {
+                    return gunzip(CONTEXT.get(), bytes, offset, length);
+                }
+
+                return inflate(CONTEXT.get().inflater, bytes, offset, length);
+            } catch (DataFormatException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void deflate(Deflater deflater, byte[] buffer, byte[] source, int offset, int length, ByteBuf target) {
+
+        try {
+
+            deflater.setInput(source, offset, length);
+            deflater.finish();
+
+            while (!deflater.finished()) {
 
-                    if (compressionType == CompressionType.DEFLATE) {
-                        decompressor = new InflaterInputStream(sourceStream);
-                    }
+                if (target.hasArray()) {
 
-                    copy(decompressor, outputStream);
-                } finally {
-                    if (decompressor != null) {
-                        decompressor.close();
-                    }
+                    target.ensureWritable(Math.max(length >> 2, 64));
+
+                    int written = deflater.deflate(target.array(), target.arrayOffset() + target.writerIndex(),
+                            target.writableBytes());
+                    target.writerIndex(target.writerIndex() + written);
+                } else {
+                    target.writeBytes(buffer, 0, deflater.deflate(buffer));
                 }
+            }
+        } finally {
+            deflater.reset();
+            deflater.setInput(CompressionContext.EMPTY);
+        }
+    }
+
+    private static ByteBuffer inflate(Inflater inflater, byte[] source, int offset, int length) throws DataFormatException {
+
+        try {
+
+            inflater.setInput(source, offset, length);
+
+            Output output = new Output(length);
+            output.inflate(inflater);
+
+            return ByteBuffer.wrap(output.bytes, 0, output.size);
+        } finally {
+            inflater.reset();
+            inflater.setInput(CompressionContext.EMPTY);
+        }
+    }
 
-                return ByteBuffer.wrap(outputStream.toByteArray());
+    /**
+     * Decompress GZIP data consisting of one or more members. The output buffer grows with the inflated data instead of
+     * trusting the size declared in the trailer. The declared size and checksum of each member are verified afterwards.
+     */
+    private static ByteBuffer gunzip(CompressionContext context, byte[] source, int offset, int length)
+            throws DataFormatException {
+
+        int end = offset + length;
+        int position = offset;
+        Output output = new Output(length);
+        Inflater inflater = context.gzipInflater;
+
+        do {
+
+            position = readGzipHeader(source, position, end);
+            int memberStart = output.size;
+
+            try {
+
+                // include the trailer as nowrap inflation requires input beyond the compressed data
+                inflater.setInput(source, position, end - position);
+                output.inflate(inflater);
+                position = end - inflater.getRemaining();
             } finally {
-                outputStream.close();
+                inflater.reset();
+                inflater.setInput(CompressionContext.EMPTY);
+            }
+
+            if (position > end - GZIP_TRAILER_LENGTH) {
+                throw new DataFormatException("Corrupt GZIP trailer");
+            }
+
+            int crc = readIntLE(source, position);
+            int size = readIntLE(source, position + 4);
+            position += GZIP_TRAILER_LENGTH;
+
+            CRC32 checksum = context.crc;
+            checksum.reset();
+            checksum.update(output.bytes, memberStart, output.size - memberStart);
+
+            // ISIZE contains the uncompressed size modulo 2^32
+            if ((int) checksum.getValue() != crc || output.size - memberStart != size) {
+                throw new DataFormatException("Corrupt GZIP trailer");
             }
+        } while (position < end);
+
+        return ByteBuffer.wrap(output.bytes, 0, output.size);
+    }
+
+    private static int readGzipHeader(byte[] source, int offset, int end) throws DataFormatException {
+
+        if (end - offset < GZIP_HEADER.length + GZIP_TRAILER_LENGTH || source[offset] != GZIP_HEADER[0]
+                || source[offset + 1] != GZIP_HEADER[1] || source[offset + 2] != Deflater.DEFLATED) {
+            throw new DataFormatException("Not in GZIP format");
+        }
+
+        int flags = source[offset + 3] & 0xFF;
+        int position = offset + GZIP_HEADER.length;
+
+        if ((flags & FEXTRA) != 0) {
+            position += 2 + ((source[position] & 0xFF) | ((source[position + 1] & 0xFF) << 8));
+        }
+
+        if ((flags & FNAME) != 0) {
+            position = skipZeroTerminated(source, position, end);
+        }
+
+        if ((flags & FCOMMENT) != 0) {
+            position = skipZeroTerminated(source, position, end);
+        }
+
+        if ((flags & FHCRC) != 0) {
+            position += 2;
+        }
+
+        if (position > end - GZIP_TRAILER_LENGTH) {
+            throw new DataFormatException("Corrupt GZIP header");
+        }
+
+        return position;
+    }
+
+    private static int skipZeroTerminated(byte[] source, int position, int end) {
+
+        while (position < end && source[position] != 0) {
+            position++;
         }
+
+        return position + 1;
+    }
+
+    private static int readIntLE(byte[] source, int offset) {
+        return (source[offset] & 0xFF) | ((source[offset + 1] & 0xFF) << 8) | ((source[offset + 2] & 0xFF) << 16)
+                | ((source[offset + 3] & 0xFF) << 24);
     }
 
     /**
-     * Copies all bytes from the input stream to the output stream. Does not close or flush either stream.
-     *
-     * @param from the input stream to read from
-     * @param to the output stream to write to
-     * @return the number of bytes copied
-     * @throws IOException if an I/O error occurs
+     * Per-thread compression state. {@link Deflater} and {@link Inflater} hold native memory, retaining them avoids their
+     * allocation for each value.
+     */
+    private static class CompressionContext {
+
+        static final byte[] EMPTY = new byte[0];
+
+        final Deflater gzipDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+        final Deflater deflater = new Deflater();
+
+        final Inflater gzipInflater = new Inflater(true);
+
+        final Inflater inflater = new Inflater();
+
+        final CRC32 crc = new CRC32();
+
+        final byte[] buffer = new byte[4096];
+
+        void end() {
+
+            gzipDeflater.end();
+            deflater.end();
+            gzipInflater.end();
+            inflater.end();
+        }
+    }
+
+    /**
+     * Growing output buffer for inflated data.
      */
-    private static long copy(InputStream from, OutputStream to) throws IOException {
-        LettuceAssert.notNull(from, "From must not be null");
-        LettuceAssert.notNull(to, "From must not be null");
-        byte[] buf = new byte[4096];
-        long total = 0;
-        while (true) {
-            int r = from.read(buf);
-            if (r == -1) {
-                break;
-            }
-            to.write(buf, 0, r);
-            total += r;
-        }
-        return total;
+    private static class Output {
+
+        byte[] bytes;
+
+        int size;
+
+        Output(int compressedLength) {
+            this.bytes = new byte[Math.max(compressedLength * 2, 64)];
+        }
+
+        void inflate(Inflater inflater) throws DataFormatException {
+
+            while (!inflater.finished()) {
+
+                if (size == bytes.length) {
+                    byte[] grown = new byte[bytes.length * 2];
+                    System.arraycopy(bytes, 0, grown, 0, size);
+                    bytes = grown;
+                }
+
+                int read = inflater.inflate(bytes, size, bytes.length - size);
+
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Unexpected end of compressed data");
+                }
+
+                size += read;
+            }
+        }
     }
 
     public enum CompressionType {
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from a {@link ByteBuf}. This decoder does not require an intermediate
+ * {@link java.nio.ByteBuffer} copy of the response data.
+ * <p>
+ * Classes implementing {@link FromByteBufDecoder} are required to implement {@link RedisCodec} as well. Decoding methods must
+ * consume the data synchronously as the {@link ByteBuf} is backed by the transport buffer and is valid only for the duration of
+ * the call.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see io.lettuce.core.output.ByteBufOutput
+ */
+public interface FromByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes raw bytes of the key, must not be {@literal null}.
+     * @return the decoded key, may be {@literal null}.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes raw bytes of the value, must not be {@literal null}.
+     * @return the decoded value, may be {@literal null}.
+     */
+    V decodeValue(ByteBuf bytes);
+
+}
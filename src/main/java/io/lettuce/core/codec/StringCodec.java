@@ -27,12 +27,14 @@ import io.netty.util.CharsetUtil;
 
 /**
  * Optimized String codec. This {@link RedisCodec} encodes and decodes {@link String} keys and values using a specified
- * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding.
+ * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding and
+ * decodes directly from {@link ByteBuf buffers} without an intermediate copy.
  *
  * @author Mark Paluch
  * @since 4.3
  */
-public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String> {
+public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String>,
+        FromByteBufDecoder<String, String> {
 
     public static final StringCodec UTF8 = new StringCodec(StandardCharsets.UTF_8);
     public static final StringCodec ASCII = new StringCodec(StandardCharsets.US_ASCII);
@@ -119,12 +121,26 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
     public int estimateSize(Object keyOrValue) {
 
         if (keyOrValue instanceof String) {
+
+            if (utf8) {
+                return ByteBufUtil.utf8Bytes((String) keyOrValue);
+            }
+
+            if (ascii) {
+                return ((String) keyOrValue).length();
+            }
+
             CharsetEncoder encoder = CharsetUtil.encoder(charset);
             return (int) (encoder.averageBytesPerChar() * ((String) keyOrValue).length());
         }
         return 0;
     }
 
+    @Override
+    public boolean isEstimateExact() {
+        return utf8 || ascii;
+    }
+
     @Override
     public void encodeValue(String value, ByteBuf target) {
         encode(value, target);
@@ -140,6 +156,16 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         return Unpooled.wrappedBuffer(bytes).toString(charset);
     }
 
+    @Override
+    public String decodeKey(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
+    @Override
+    public String decodeValue(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
     @Override
     public ByteBuffer encodeKey(String key) {
         return encodeAndAllocateBuffer(key);
@@ -55,4 +55,16 @@ public interface ToByteBufEncoder<K, V> {
      * @return the estimated number of bytes in the encoded representation.
      */
     int estimateSize(Object keyOrValue);
+
+    /**
+     * Returns whether {@link #estimateSize(Object)} reports the exact number of bytes written by
+     * {@link #encodeKey(Object, ByteBuf)} and {@link #encodeValue(Object, ByteBuf)}. Exact estimates allow writing keys and
+     * values directly into the command buffer without using a temporary buffer.
+     *
+     * @return {@literal true} if {@link #estimateSize(Object)} is exact.
+     * @since 6.0
+     */
+    default boolean isEstimateExact() {
+        return false;
+    }
 }
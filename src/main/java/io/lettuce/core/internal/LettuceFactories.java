@@ -21,6 +21,7 @@ import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
 /**
@@ -53,6 +54,24 @@ public class LettuceFactories {
         return maxSize > ARRAY_QUEUE_THRESHOLD ? new LinkedBlockingQueue<>(maxSize) : new ArrayBlockingQueue<>(maxSize);
     }
 
+    /**
+     * Creates a new, optionally bounded, lock-free {@link Queue} for multiple producers and a single consumer. Bounded queues
+     * up to the {@link LinkedBlockingQueue} threshold are backed by a ring buffer that accepts exactly {@code maxSize}
+     * elements. Consumer access from different threads must be serialized externally.
+     *
+     * @param maxSize queue size. If {@link Integer#MAX_VALUE}, then creates an {@link ConcurrentLinkedQueue unbounded queue}.
+     * @return a new, empty {@link Queue}.
+     * @since 6.0
+     */
+    public static <T> Queue<T> newMpscQueue(int maxSize) {
+
+        if (maxSize == Integer.MAX_VALUE) {
+            return new ConcurrentLinkedQueue<>();
+        }
+
+        return maxSize > ARRAY_QUEUE_THRESHOLD ? new LinkedBlockingQueue<>(maxSize) : new MpscArrayQueue<>(maxSize);
+    }
+
     /**
      * Creates a new {@link Queue} for single producer/single consumer.
      *
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free, bounded multi-producer/single-consumer {@link java.util.Queue} backed by a ring buffer. Producers claim a slot by
+ * advancing the producer index and publish the element into the claimed slot afterwards. The queue capacity is exact, the
+ * ring buffer is not rounded to a power of two.
+ * <p>
+ * Only a single thread may consume ({@link #poll()}, {@link #peek()}, {@link #clear()}) at a time. Consumer-side access from
+ * different threads requires external synchronization that establishes a happens-before relationship between consumers.
+ * {@link #size()} and {@link #iterator()} are weakly consistent.
+ * <p>
+ * This class is part of the internal API and may change without further notice.
+ *
+ * @param <E> element type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+final class MpscArrayQueue<E> extends AbstractQueue<E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueue> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueue.class, "producerIndex");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueue> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueue.class, "consumerIndex");
+
+    private final AtomicReferenceArray<E> buffer;
+
+    private final int capacity;
+
+    // access via PRODUCER_INDEX
+    @SuppressWarnings("unused")
+    private volatile long producerIndex;
+
+    // access via CONSUMER_INDEX
+    @SuppressWarnings("unused")
+    private volatile long consumerIndex;
+
+    /**
+     * Create a new {@link MpscArrayQueue} given {@code capacity}.
+     *
+     * @param capacity the maximum number of elements, must be greater {@literal 0}.
+     */
+    MpscArrayQueue(int capacity) {
+
+        LettuceAssert.isTrue(capacity > 0, "Capacity must be greater 0");
+
+        this.capacity = capacity;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+
+        LettuceAssert.notNull(e, "Element must not be null");
+
+        long index;
+        do {
+            index = producerIndex;
+            if (index - consumerIndex >= capacity) {
+                return false;
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+
+        buffer.lazySet(offset(index), e);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+
+        long index = consumerIndex;
+        int offset = offset(index);
+        E e = buffer.get(offset);
+
+        if (e == null) {
+
+            if (index == producerIndex) {
+                return null;
+            }
+
+            // slot claimed by a producer, element not yet published.
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+
+        buffer.lazySet(offset, null);
+        CONSUMER_INDEX.lazySet(this, index + 1);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+
+        long index = consumerIndex;
+        int offset = offset(index);
+        E e = buffer.get(offset);
+
+        if (e == null) {
+
+            if (index == producerIndex) {
+                return null;
+            }
+
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+
+        return e;
+    }
+
+    @Override
+    public int size() {
+
+        long after = consumerIndex;
+
+        for (;;) {
+
+            long before = after;
+            long producer = producerIndex;
+            after = consumerIndex;
+
+            if (before == after) {
+                return (int) (producer - after);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex;
+    }
+
+    /**
+     * @return the maximum number of elements this queue can hold.
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+
+        long consumer = consumerIndex;
+        long producer = producerIndex;
+
+        return new Iterator<E>() {
+
+            private long index = consumer;
+
+            private E next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+
+                E e = next;
+
+                if (e == null) {
+                    throw new NoSuchElementException();
+                }
+
+                next = advance();
+                return e;
+            }
+
+            private E advance() {
+
+                while (index < producer) {
+
+                    E e = buffer.get(offset(index++));
+
+                    if (e != null) {
+                        return e;
+                    }
+                }
+
+                return null;
+            }
+        };
+    }
+
+    private int offset(long index) {
+        return (int) (index % capacity);
+    }
+
+}
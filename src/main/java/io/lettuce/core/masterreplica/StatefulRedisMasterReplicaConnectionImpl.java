@@ -20,6 +20,7 @@ import java.time.Duration;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.StatefulRedisConnectionImpl;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.protocol.NoOpPushHandler;
 
 /**
  * @author Mark Paluch
@@ -35,7 +36,7 @@ class StatefulRedisMasterReplicaConnectionImpl<K, V> extends StatefulRedisConnec
      * @param timeout Maximum time to wait for a response.
      */
     StatefulRedisMasterReplicaConnectionImpl(MasterReplicaChannelWriter writer, RedisCodec<K, V> codec, Duration timeout) {
-        super(writer, codec, timeout);
+        super(writer, NoOpPushHandler.INSTANCE, codec, timeout);
     }
 
     @Override
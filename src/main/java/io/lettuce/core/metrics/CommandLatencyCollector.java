@@ -33,7 +33,8 @@ import io.lettuce.core.protocol.ProtocolKeyword;
  * @author Mark Paluch
  * @since 3.4
  */
-public interface CommandLatencyCollector extends MetricCollector<Map<CommandLatencyId, CommandMetrics>> {
+public interface CommandLatencyCollector
+        extends MetricCollector<Map<CommandLatencyId, CommandMetrics>>, CommandLatencyRecorder {
 
     /**
      * Creates a new {@link CommandLatencyCollector} using {@link CommandLatencyCollectorOptions}.
@@ -84,7 +85,16 @@ public interface CommandLatencyCollector extends MetricCollector<Map<CommandLate
      * @param firstResponseLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the first response
      * @param completionLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the command completion
      */
+    @Override
     void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
             long firstResponseLatency, long completionLatency);
 
+    /**
+     * Returns {@literal true} if the metric collector is enabled.
+     *
+     * @return {@literal true} if the metric collector is enabled
+     */
+    @Override
+    boolean isEnabled();
+
 }
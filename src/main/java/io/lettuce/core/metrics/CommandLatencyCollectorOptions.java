@@ -96,6 +96,15 @@ public interface CommandLatencyCollectorOptions {
      */
     boolean localDistinction();
 
+    /**
+     * Returns whether to record a detailed latency breakdown (queue, encode and head-of-line latencies) in addition to the
+     * first response and completion latencies.
+     *
+     * @return {@literal true} if a detailed latency breakdown is recorded.
+     * @since 6.0
+     */
+    boolean detailedLatencies();
+
     /**
      * Returns whether the latency collector is enabled.
      *
@@ -147,6 +156,18 @@ public interface CommandLatencyCollectorOptions {
          */
         Builder resetLatenciesAfterEvent(boolean resetLatenciesAfterEvent);
 
+        /**
+         * Enables recording of a detailed latency breakdown. If {@literal true}, the time a command spent queued before it was
+         * written, the time spent encoding the command and the time the command waited behind earlier commands
+         * (head-of-line blocking) are recorded as separate histograms. Defaults to {@literal false}. See
+         * {@link DefaultCommandLatencyCollectorOptions#DEFAULT_DETAILED_LATENCIES}.
+         *
+         * @param detailedLatencies {@literal true} to record a detailed latency breakdown.
+         * @return this {@link Builder}.
+         * @since 6.0
+         */
+        Builder detailedLatencies(boolean detailedLatencies);
+
         /**
          * Sets the emitted percentiles. Defaults to 50.0, 90.0, 95.0, 99.0, 99.9}. See
          * {@link DefaultCommandLatencyCollectorOptions#DEFAULT_TARGET_PERCENTILES}.
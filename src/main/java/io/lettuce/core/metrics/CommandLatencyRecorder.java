@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+/**
+ * Interface defining a method to record command latencies. Command latencies are reported per command completion
+ * (push-style) so that implementations can forward latencies to timers and distribution summaries of a metrics system
+ * without aggregating snapshots. Two command latencies are available:
+ * <ul>
+ * <li>Latency between command send and first response (first response received)</li>
+ * <li>Latency between command send and command completion (complete response received)</li>
+ * </ul>
+ * Recorders interested in a detailed latency breakdown can additionally implement
+ * {@link #recordCommandLatency(SocketAddress, SocketAddress, ProtocolKeyword, long, long, long, long, long)} and
+ * {@link #isDetailedLatenciesEnabled()} to receive queue, encode and head-of-line latencies.
+ * <p>
+ * Implementations are called from I/O threads and must not block.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see CommandLatencyCollector
+ */
+@FunctionalInterface
+public interface CommandLatencyRecorder {
+
+    /**
+     * Returns a disabled no-op {@link CommandLatencyRecorder}.
+     *
+     * @return a disabled {@link CommandLatencyRecorder}.
+     */
+    static CommandLatencyRecorder disabled() {
+
+        return new CommandLatencyRecorder() {
+
+            @Override
+            public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+                    long firstResponseLatency, long completionLatency) {
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Record the command latency per {@code connectionPoint} and {@code commandType}.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param commandType the command type
+     * @param firstResponseLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the first response
+     * @param completionLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the command completion
+     */
+    void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+            long firstResponseLatency, long completionLatency);
+
+    /**
+     * Record the command latency including a detailed latency breakdown per {@code connectionPoint} and {@code commandType}.
+     * Latency values that were not measured are reported as {@literal -1}. Defaults to
+     * {@link #recordCommandLatency(SocketAddress, SocketAddress, ProtocolKeyword, long, long)}.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param commandType the command type
+     * @param queueLatency latency value in {@link TimeUnit#NANOSECONDS} from enqueuing the command in the endpoint to send
+     * @param encodeLatency latency value in {@link TimeUnit#NANOSECONDS} spent encoding the command
+     * @param headOfLineLatency latency value in {@link TimeUnit#NANOSECONDS} the command waited for completion of previously
+     *        sent commands
+     * @param firstResponseLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the first response
+     * @param completionLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the command completion
+     */
+    default void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+            long queueLatency, long encodeLatency, long headOfLineLatency, long firstResponseLatency, long completionLatency) {
+        recordCommandLatency(local, remote, commandType, firstResponseLatency, completionLatency);
+    }
+
+    /**
+     * Returns {@literal true} if the recorder is enabled.
+     *
+     * @return {@literal true} if the recorder is enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns {@literal true} if the recorder is interested in queue and encode latencies. Commands carry the additional
+     * timestamps required to measure these latencies only if enabled. Queue and encode latencies are reported as
+     * {@literal -1} otherwise.
+     *
+     * @return {@literal true} if the recorder is interested in queue and encode latencies. Defaults to {@literal false}.
+     */
+    default boolean isDetailedLatenciesEnabled() {
+        return false;
+    }
+
+}
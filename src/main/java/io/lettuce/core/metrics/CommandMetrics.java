@@ -31,11 +31,35 @@ public class CommandMetrics {
     private final CommandLatency firstResponse;
     private final CommandLatency completion;
 
+    private final CommandLatency queue;
+    private final CommandLatency encode;
+    private final CommandLatency headOfLine;
+
     public CommandMetrics(long count, TimeUnit timeUnit, CommandLatency firstResponse, CommandLatency completion) {
+        this(count, timeUnit, firstResponse, completion, null, null, null);
+    }
+
+    /**
+     * Create {@link CommandMetrics} including a detailed latency breakdown.
+     *
+     * @param count the command count.
+     * @param timeUnit the time unit of the latencies.
+     * @param firstResponse latencies between send and the first command response.
+     * @param completion latencies between send and the command completion.
+     * @param queue latencies between enqueuing and send, can be {@literal null}.
+     * @param encode latencies spent encoding the command, can be {@literal null}.
+     * @param headOfLine latencies spent waiting for completion of previously sent commands, can be {@literal null}.
+     * @since 6.0
+     */
+    public CommandMetrics(long count, TimeUnit timeUnit, CommandLatency firstResponse, CommandLatency completion,
+            CommandLatency queue, CommandLatency encode, CommandLatency headOfLine) {
         this.count = count;
         this.timeUnit = timeUnit;
         this.firstResponse = firstResponse;
         this.completion = completion;
+        this.queue = queue;
+        this.encode = encode;
+        this.headOfLine = headOfLine;
     }
 
     /**
@@ -70,6 +94,34 @@ public class CommandMetrics {
         return completion;
     }
 
+    /**
+     *
+     * @return latencies between enqueuing and send. {@literal null} if detailed latencies are not recorded.
+     * @since 6.0
+     */
+    public CommandLatency getQueue() {
+        return queue;
+    }
+
+    /**
+     *
+     * @return latencies spent encoding the command. {@literal null} if detailed latencies are not recorded.
+     * @since 6.0
+     */
+    public CommandLatency getEncode() {
+        return encode;
+    }
+
+    /**
+     *
+     * @return latencies spent waiting for completion of previously sent commands. {@literal null} if detailed latencies are
+     *         not recorded.
+     * @since 6.0
+     */
+    public CommandLatency getHeadOfLine() {
+        return headOfLine;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -77,6 +129,15 @@ public class CommandMetrics {
         sb.append(", timeUnit=").append(timeUnit);
         sb.append(", firstResponse=").append(firstResponse);
         sb.append(", completion=").append(completion);
+        if (queue != null) {
+            sb.append(", queue=").append(queue);
+        }
+        if (encode != null) {
+            sb.append(", encode=").append(encode);
+        }
+        if (headOfLine != null) {
+            sb.append(", headOfLine=").append(headOfLine);
+        }
         sb.append(']');
         return sb.toString();
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.net.SocketAddress;
+
+/**
+ * Live view on the state of a single connection. Values are read on access and are intended to back gauges of a metrics
+ * system. Values are read without synchronization and represent an approximation when read from a thread other than the I/O
+ * thread.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see ConnectionMetricsRecorder
+ */
+public interface ConnectionMetrics {
+
+    /**
+     * @return the local address of the connection. Can be {@literal null} if the connection is not connected.
+     */
+    SocketAddress localAddress();
+
+    /**
+     * @return the remote address of the connection. Can be {@literal null} if the connection is not connected.
+     */
+    SocketAddress remoteAddress();
+
+    /**
+     * Returns the number of commands that were written to the transport and await their response.
+     *
+     * @return the number of in-flight commands.
+     */
+    int getInFlightCommands();
+
+    /**
+     * Returns the number of commands that are queued in the endpoint and not yet sent to Redis. This number includes commands
+     * that are buffered while disconnected or while auto-flush is disabled.
+     *
+     * @return the number of queued commands.
+     */
+    int getQueuedCommands();
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+/**
+ * Interface to record connection lifecycle metrics. Implementations are notified whenever a connection gets activated
+ * (initial connect and every reconnect) and deactivated. The {@link ConnectionMetrics} handed to the recorder is a live view
+ * that can be registered as source for gauges until the connection gets deactivated.
+ * <p>
+ * Implementations are called from I/O threads and must not block.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public interface ConnectionMetricsRecorder {
+
+    /**
+     * Returns a disabled no-op {@link ConnectionMetricsRecorder}.
+     *
+     * @return a disabled {@link ConnectionMetricsRecorder}.
+     */
+    static ConnectionMetricsRecorder disabled() {
+
+        return new ConnectionMetricsRecorder() {
+
+            @Override
+            public void connectionActivated(ConnectionMetrics connection) {
+            }
+
+            @Override
+            public void connectionDeactivated(ConnectionMetrics connection) {
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Notification that a connection was activated. Called on the initial connect and on each reconnect.
+     *
+     * @param connection the connection metrics view.
+     */
+    void connectionActivated(ConnectionMetrics connection);
+
+    /**
+     * Notification that a connection was deactivated. The {@link ConnectionMetrics} should no longer be used as source for
+     * gauges.
+     *
+     * @param connection the connection metrics view.
+     */
+    void connectionDeactivated(ConnectionMetrics connection);
+
+    /**
+     * Returns {@literal true} if the recorder is enabled.
+     *
+     * @return {@literal true} if the recorder is enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+}
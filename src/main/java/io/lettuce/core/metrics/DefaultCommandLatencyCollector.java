@@ -86,6 +86,28 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
      */
     public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
             long firstResponseLatency, long completionLatency) {
+        recordCommandLatency(local, remote, commandType, -1, -1, -1, firstResponseLatency, completionLatency);
+    }
+
+    /**
+     * Record the command latency including a detailed latency breakdown per {@code connectionPoint} and {@code commandType}.
+     * The breakdown is only retained if {@link CommandLatencyCollectorOptions#detailedLatencies()} is enabled.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param commandType the command type
+     * @param queueLatency latency value in {@link TimeUnit#NANOSECONDS} from enqueuing the command to send, {@literal -1} if
+     *        not measured
+     * @param encodeLatency latency value in {@link TimeUnit#NANOSECONDS} spent encoding the command, {@literal -1} if not
+     *        measured
+     * @param headOfLineLatency latency value in {@link TimeUnit#NANOSECONDS} waiting for previously sent commands,
+     *        {@literal -1} if not measured
+     * @param firstResponseLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the first response
+     * @param completionLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the command completion
+     */
+    @Override
+    public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+            long queueLatency, long encodeLatency, long headOfLineLatency, long firstResponseLatency, long completionLatency) {
 
         if (!isEnabled()) {
             return;
@@ -101,14 +123,28 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         Latencies latencies = latencyMetricsRef.get().computeIfAbsent(createId(local, remote, commandType), id -> {
 
             if (options.resetLatenciesAfterEvent()) {
-                return new Latencies(pauseDetector);
+                return new Latencies(pauseDetector, options.detailedLatencies());
             }
 
-            return new CummulativeLatencies(pauseDetector);
+            return new CummulativeLatencies(pauseDetector, options.detailedLatencies());
         });
 
         latencies.firstResponse.recordLatency(rangify(firstResponseLatency));
         latencies.completion.recordLatency(rangify(completionLatency));
+
+        if (latencies.detailed) {
+            recordDetail(latencies.queue, queueLatency);
+            recordDetail(latencies.encode, encodeLatency);
+            recordDetail(latencies.headOfLine, headOfLineLatency);
+        }
+    }
+
+    private static void recordDetail(LatencyStats stats, long latency) {
+
+        // breakdown latencies are frequently zero (e.g. no head-of-line blocking) so we don't raise them to MIN_LATENCY
+        if (latency >= 0) {
+            stats.recordLatency(Math.min(MAX_LATENCY, latency));
+        }
     }
 
     private CommandLatencyId createId(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
@@ -124,6 +160,11 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         return options.isEnabled() && !stopped;
     }
 
+    @Override
+    public boolean isDetailedLatenciesEnabled() {
+        return options.detailedLatencies();
+    }
+
     @Override
     public void shutdown() {
 
@@ -177,8 +218,16 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             CommandLatency firstResponseLatency = getMetric(firstResponse);
             CommandLatency completionLatency = getMetric(completion);
 
-            CommandMetrics metrics = new CommandMetrics(firstResponse.getTotalCount(), options.targetUnit(),
-                    firstResponseLatency, completionLatency);
+            CommandMetrics metrics;
+
+            if (latencies.detailed) {
+                metrics = new CommandMetrics(firstResponse.getTotalCount(), options.targetUnit(), firstResponseLatency,
+                        completionLatency, getMetric(latencies.getQueueHistogram()),
+                        getMetric(latencies.getEncodeHistogram()), getMetric(latencies.getHeadOfLineHistogram()));
+            } else {
+                metrics = new CommandMetrics(firstResponse.getTotalCount(), options.targetUnit(), firstResponseLatency,
+                        completionLatency);
+            }
 
             result.put(entry.getKey(), metrics);
         }
@@ -250,12 +299,22 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     private static class Latencies {
 
+        private final boolean detailed;
         private final LatencyStats firstResponse;
         private final LatencyStats completion;
 
-        Latencies(PauseDetector pauseDetector) {
+        // null unless detailed latencies are enabled
+        private final LatencyStats queue;
+        private final LatencyStats encode;
+        private final LatencyStats headOfLine;
+
+        Latencies(PauseDetector pauseDetector, boolean detailed) {
+            this.detailed = detailed;
             firstResponse = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
             completion = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
+            queue = detailed ? LatencyStats.Builder.create().pauseDetector(pauseDetector).build() : null;
+            encode = detailed ? LatencyStats.Builder.create().pauseDetector(pauseDetector).build() : null;
+            headOfLine = detailed ? LatencyStats.Builder.create().pauseDetector(pauseDetector).build() : null;
         }
 
         public Histogram getFirstResponseHistogram() {
@@ -266,9 +325,27 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             return completion.getIntervalHistogram();
         }
 
+        public Histogram getQueueHistogram() {
+            return queue.getIntervalHistogram();
+        }
+
+        public Histogram getEncodeHistogram() {
+            return encode.getIntervalHistogram();
+        }
+
+        public Histogram getHeadOfLineHistogram() {
+            return headOfLine.getIntervalHistogram();
+        }
+
         public void stop() {
             firstResponse.stop();
             completion.stop();
+
+            if (detailed) {
+                queue.stop();
+                encode.stop();
+                headOfLine.stop();
+            }
         }
     }
 
@@ -276,12 +353,18 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
         private final Histogram firstResponse;
         private final Histogram completion;
+        private final Histogram queue;
+        private final Histogram encode;
+        private final Histogram headOfLine;
 
-        CummulativeLatencies(PauseDetector pauseDetector) {
-            super(pauseDetector);
+        CummulativeLatencies(PauseDetector pauseDetector, boolean detailed) {
+            super(pauseDetector, detailed);
 
             firstResponse = super.firstResponse.getIntervalHistogram();
             completion = super.completion.getIntervalHistogram();
+            queue = detailed ? super.queue.getIntervalHistogram() : null;
+            encode = detailed ? super.encode.getIntervalHistogram() : null;
+            headOfLine = detailed ? super.headOfLine.getIntervalHistogram() : null;
         }
 
         @Override
@@ -297,6 +380,27 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             completion.add(super.getFirstResponseHistogram());
             return completion;
         }
+
+        @Override
+        public Histogram getQueueHistogram() {
+
+            queue.add(super.getQueueHistogram());
+            return queue;
+        }
+
+        @Override
+        public Histogram getEncodeHistogram() {
+
+            encode.add(super.getEncodeHistogram());
+            return encode;
+        }
+
+        @Override
+        public Histogram getHeadOfLineHistogram() {
+
+            headOfLine.add(super.getHeadOfLineHistogram());
+            return headOfLine;
+        }
     }
 
     /**
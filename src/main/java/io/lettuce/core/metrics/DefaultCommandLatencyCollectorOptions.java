@@ -31,6 +31,7 @@ public class DefaultCommandLatencyCollectorOptions implements CommandLatencyColl
     public static final boolean DEFAULT_RESET_LATENCIES_AFTER_EVENT = true;
     public static final boolean DEFAULT_LOCAL_DISTINCTION = false;
     public static final boolean DEFAULT_ENABLED = true;
+    public static final boolean DEFAULT_DETAILED_LATENCIES = false;
 
     private static final DefaultCommandLatencyCollectorOptions DISABLED = builder().disable().build();
 
@@ -39,6 +40,7 @@ public class DefaultCommandLatencyCollectorOptions implements CommandLatencyColl
     private final boolean resetLatenciesAfterEvent;
     private final boolean localDistinction;
     private final boolean enabled;
+    private final boolean detailedLatencies;
     private final Builder builder;
 
     protected DefaultCommandLatencyCollectorOptions(Builder builder) {
@@ -47,6 +49,7 @@ public class DefaultCommandLatencyCollectorOptions implements CommandLatencyColl
         this.resetLatenciesAfterEvent = builder.resetLatenciesAfterEvent;
         this.localDistinction = builder.localDistinction;
         this.enabled = builder.enabled;
+        this.detailedLatencies = builder.detailedLatencies;
         this.builder = builder;
     }
 
@@ -103,6 +106,7 @@ public class DefaultCommandLatencyCollectorOptions implements CommandLatencyColl
         private boolean resetLatenciesAfterEvent = DEFAULT_RESET_LATENCIES_AFTER_EVENT;
         private boolean localDistinction = DEFAULT_LOCAL_DISTINCTION;
         private boolean enabled = DEFAULT_ENABLED;
+        private boolean detailedLatencies = DEFAULT_DETAILED_LATENCIES;
 
         private Builder() {
         }
@@ -188,6 +192,22 @@ public class DefaultCommandLatencyCollectorOptions implements CommandLatencyColl
             return this;
         }
 
+        /**
+         * Enables recording of a detailed latency breakdown. If {@literal true}, the time a command spent queued before it was
+         * written, the time spent encoding the command and the time the command waited behind earlier commands
+         * (head-of-line blocking) are recorded as separate histograms. Defaults to {@literal false}. See
+         * {@link DefaultCommandLatencyCollectorOptions#DEFAULT_DETAILED_LATENCIES}.
+         *
+         * @param detailedLatencies {@literal true} to record a detailed latency breakdown.
+         * @return this {@link Builder}.
+         * @since 6.0
+         */
+        @Override
+        public Builder detailedLatencies(boolean detailedLatencies) {
+            this.detailedLatencies = detailedLatencies;
+            return this;
+        }
+
         /**
          * @return a new instance of {@link DefaultCommandLatencyCollectorOptions}.
          */
@@ -219,6 +239,11 @@ public class DefaultCommandLatencyCollectorOptions implements CommandLatencyColl
         return localDistinction;
     }
 
+    @Override
+    public boolean detailedLatencies() {
+        return detailedLatencies;
+    }
+
     @Override
     public boolean isEnabled() {
         return enabled;
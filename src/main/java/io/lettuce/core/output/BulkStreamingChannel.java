@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Streaming API for bulk string responses. The channel receives the value in chunks as they arrive from the transport instead
+ * of the fully aggregated value. This allows consuming large values without buffering them in memory.
+ * <p>
+ * Chunks are handed out on the I/O thread and are backed by the transport buffer. The {@link ByteBuffer} is valid only for
+ * the duration of the call so the channel must consume or copy the data before returning. Channels should not block as
+ * blocking delays processing of all responses on the connection.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+@FunctionalInterface
+public interface BulkStreamingChannel {
+
+    /**
+     * Called on every incoming chunk of the bulk string.
+     *
+     * @param chunk the chunk. May be empty if the final chunk carries no data.
+     * @param last {@literal true} if this is the last chunk of the value.
+     */
+    void onChunk(ByteBuffer chunk, boolean last);
+
+}
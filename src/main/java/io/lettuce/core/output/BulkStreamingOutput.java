@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Streaming-Output of a bulk string value. Hands out the value in chunks to a {@link BulkStreamingChannel} and returns the
+ * value length or {@literal null} if the key does not exist.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class BulkStreamingOutput<K, V> extends CommandOutput<K, V, Long> implements ChunkedOutput {
+
+    private final BulkStreamingChannel channel;
+
+    public BulkStreamingOutput(RedisCodec<K, V> codec, BulkStreamingChannel channel) {
+        super(codec, null);
+        this.channel = channel;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes != null) {
+            setChunk(bytes, true);
+        }
+    }
+
+    @Override
+    public void setChunk(ByteBuffer chunk, boolean last) {
+
+        long length = output == null ? 0 : output;
+        output = length + chunk.remaining();
+
+        channel.onChunk(chunk, last);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Extension to {@link CommandOutput} to receive bulk replies as {@link ByteBuf} slice of the transport buffer instead of a
+ * {@link ByteBuffer} copy. Outputs opt into zero-copy decoding by implementing this interface.
+ * <p>
+ * The {@link ByteBuf} passed to {@link #set(ByteBuf)} is not retained on behalf of the output and is valid only for the
+ * duration of the call. Implementations that need to hold on to the buffer must call {@link ByteBuf#retain()} and release it
+ * once done.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see io.lettuce.core.codec.FromByteBufDecoder
+ */
+public interface ByteBufOutput {
+
+    /**
+     * Set the command output to a sequence of bytes, or {@literal null}.
+     *
+     * @param bytes the data. May be {@literal null}.
+     */
+    void set(ByteBuf bytes);
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Extension to {@link CommandOutput} to receive bulk strings in chunks as they arrive from the transport. Outputs implementing
+ * this interface are not required to wait until the whole bulk string is buffered.
+ * <p>
+ * The {@link ByteBuffer} passed to {@link #setChunk(ByteBuffer, boolean)} is backed by the transport buffer and is valid only
+ * for the duration of the call.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see BulkStreamingOutput
+ */
+public interface ChunkedOutput {
+
+    /**
+     * Set a chunk of a bulk string.
+     *
+     * @param chunk the chunk. May be empty if the final chunk carries no data.
+     * @param last {@literal true} if this is the last chunk of the bulk string.
+     */
+    void setChunk(ByteBuffer chunk, boolean last);
+
+}
@@ -19,8 +19,10 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of keys output.
@@ -30,14 +32,16 @@ import io.lettuce.core.internal.LettuceAssert;
  * @author Will Glozer
  * @author Mark Paluch
  */
-public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements StreamingOutput<K> {
+public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements StreamingOutput<K>, ByteBufOutput {
 
     private boolean initialized;
     private Subscriber<K> subscriber;
+    private final FromByteBufDecoder<K, V> decoder;
 
     public KeyListOutput(RedisCodec<K, V> codec) {
         super(codec, Collections.emptyList());
         setSubscriber(ListSubscriber.instance());
+        this.decoder = codec instanceof FromByteBufDecoder ? (FromByteBufDecoder<K, V>) codec : null;
     }
 
     @Override
@@ -50,6 +54,21 @@ public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements
         subscriber.onNext(output, bytes == null ? null : codec.decodeKey(bytes));
     }
 
+    @Override
+    public void set(ByteBuf bytes) {
+
+        if (decoder == null) {
+            set(bytes == null ? null : bytes.nioBuffer());
+            return;
+        }
+
+        if (bytes == null) {
+            return;
+        }
+
+        subscriber.onNext(output, decoder.decodeKey(bytes));
+    }
+
     @Override
     public void multi(int count) {
 
@@ -21,8 +21,10 @@ import java.util.Iterator;
 import java.util.List;
 
 import io.lettuce.core.KeyValue;
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of values output.
@@ -33,10 +35,11 @@ import io.lettuce.core.internal.LettuceAssert;
  * @author Mark Paluch
  */
 public class KeyValueListOutput<K, V> extends CommandOutput<K, V, List<KeyValue<K, V>>> implements
-        StreamingOutput<KeyValue<K, V>> {
+        StreamingOutput<KeyValue<K, V>>, ByteBufOutput {
 
     private boolean initialized;
     private Subscriber<KeyValue<K, V>> subscriber;
+    private final FromByteBufDecoder<K, V> decoder;
     private Iterable<K> keys;
     private Iterator<K> keyIterator;
 
@@ -44,6 +47,7 @@ public class KeyValueListOutput<K, V> extends CommandOutput<K, V, List<KeyValue<
         super(codec, Collections.emptyList());
         setSubscriber(ListSubscriber.instance());
         this.keys = keys;
+        this.decoder = codec instanceof FromByteBufDecoder ? (FromByteBufDecoder<K, V>) codec : null;
     }
 
     @Override
@@ -56,6 +60,21 @@ public class KeyValueListOutput<K, V> extends CommandOutput<K, V, List<KeyValue<
         subscriber.onNext(output, KeyValue.fromNullable(keyIterator.next(), bytes == null ? null : codec.decodeValue(bytes)));
     }
 
+    @Override
+    public void set(ByteBuf bytes) {
+
+        if (decoder == null) {
+            set(bytes == null ? null : bytes.nioBuffer());
+            return;
+        }
+
+        if (keyIterator == null) {
+            keyIterator = keys.iterator();
+        }
+
+        subscriber.onNext(output, KeyValue.fromNullable(keyIterator.next(), bytes == null ? null : decoder.decodeValue(bytes)));
+    }
+
     @Override
     public void multi(int count) {
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Output for push notifications. The response output is always {@code List&lt;Object&gt;} as push notifications may contain
+ * arbitrary values. The first response element which denotes the push message type is available through {@link #getType()}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class PushOutput<K, V> extends CommandOutput<K, V, List<Object>> implements PushMessage {
+
+    private final Deque<List<Object>> stack = new ArrayDeque<>();
+
+    private String type;
+
+    public PushOutput(RedisCodec<K, V> codec) {
+        super(codec, Collections.emptyList());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (type == null && bytes != null) {
+            type = StringCodec.UTF8.decodeKey(bytes.duplicate());
+        }
+
+        add(bytes == null ? null : codec.decodeValue(bytes));
+    }
+
+    @Override
+    public void set(long integer) {
+        add(integer);
+    }
+
+    @Override
+    public void set(double number) {
+        add(number);
+    }
+
+    @Override
+    public void set(boolean value) {
+        add(value);
+    }
+
+    @Override
+    public void multi(int count) {
+
+        List<Object> list = OutputFactory.newList(Math.max(0, count));
+
+        if (stack.isEmpty()) {
+            output = list;
+        } else {
+            stack.peek().add(list);
+        }
+
+        stack.push(list);
+    }
+
+    @Override
+    public void complete(int depth) {
+
+        while (stack.size() > depth) {
+            stack.pop();
+        }
+    }
+
+    private void add(Object value) {
+
+        if (stack.isEmpty()) {
+            multi(1);
+        }
+
+        stack.peek().add(value);
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public List<Object> getContent() {
+        return get();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.lettuce.core.LettuceStrings;
+import io.lettuce.core.ScoredValues;
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@link ScoredValues} output for values and their associated scores. Scores are collected into a {@code double[]} without
+ * boxing. Integral scores are parsed without an intermediate {@link String}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ScoredValuesOutput<K, V> extends CommandOutput<K, V, ScoredValues<V>> {
+
+    private int count = -1;
+
+    private boolean nested;
+
+    private List<V> values;
+
+    private double[] scores;
+
+    private int size;
+
+    private boolean hasValue;
+
+    public ScoredValuesOutput(RedisCodec<K, V> codec) {
+        super(codec, null);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (!hasValue) {
+            initialize();
+            values.add(bytes == null ? null : codec.decodeValue(bytes));
+            hasValue = true;
+            return;
+        }
+
+        set(parseScore(bytes));
+    }
+
+    @Override
+    public void set(double number) {
+
+        if (size == scores.length) {
+            scores = Arrays.copyOf(scores, Math.max(16, scores.length * 2));
+        }
+
+        scores[size++] = number;
+        hasValue = false;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (this.count == -1) {
+            this.count = count;
+        } else {
+            // RESP3 returns value/score pairs as nested arrays
+            nested = true;
+        }
+    }
+
+    @Override
+    public ScoredValues<V> get() {
+
+        if (output == null) {
+
+            if (size == 0) {
+                output = ScoredValues.empty();
+            } else {
+                output = new ScoredValues<>(values, size == scores.length ? scores : Arrays.copyOf(scores, size));
+            }
+        }
+
+        return output;
+    }
+
+    private void initialize() {
+
+        if (values == null) {
+
+            int capacity = Math.max(0, nested ? count : count / 2);
+            values = new ArrayList<>(capacity);
+            scores = new double[capacity];
+        }
+    }
+
+    /**
+     * Parse a score. Integral scores are parsed directly from the buffer, other scores fall back to
+     * {@link LettuceStrings#toDouble(String)}.
+     */
+    private double parseScore(ByteBuffer bytes) {
+
+        int length = bytes.remaining();
+
+        if (length == 0 || length > 18) {
+            return LettuceStrings.toDouble(decodeAscii(bytes));
+        }
+
+        int position = bytes.position();
+        boolean negative = bytes.get(position) == '-';
+        long value = 0;
+
+        for (int i = negative ? 1 : 0; i < length; i++) {
+
+            byte b = bytes.get(position + i);
+
+            if (b < '0' || b > '9') {
+                return LettuceStrings.toDouble(decodeAscii(bytes));
+            }
+
+            value = value * 10 + (b - '0');
+        }
+
+        if (negative && length == 1) {
+            return LettuceStrings.toDouble(decodeAscii(bytes));
+        }
+
+        return negative ? -value : value;
+    }
+
+}
@@ -19,8 +19,10 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of values output.
@@ -30,14 +32,16 @@ import io.lettuce.core.internal.LettuceAssert;
  * @author Will Glozer
  * @author Mark Paluch
  */
-public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implements StreamingOutput<V> {
+public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implements StreamingOutput<V>, ByteBufOutput {
 
     private boolean initialized;
     private Subscriber<V> subscriber;
+    private final FromByteBufDecoder<K, V> decoder;
 
     public ValueListOutput(RedisCodec<K, V> codec) {
         super(codec, Collections.emptyList());
         setSubscriber(ListSubscriber.instance());
+        this.decoder = codec instanceof FromByteBufDecoder ? (FromByteBufDecoder<K, V>) codec : null;
     }
 
     @Override
@@ -51,6 +55,22 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(output, bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    public void set(ByteBuf bytes) {
+
+        if (decoder == null) {
+            set(bytes == null ? null : bytes.nioBuffer());
+            return;
+        }
+
+        // RESP 3 behavior
+        if (bytes == null && !initialized) {
+            return;
+        }
+
+        subscriber.onNext(output, bytes == null ? null : decoder.decodeValue(bytes));
+    }
+
     @Override
     public void multi(int count) {
 
@@ -17,7 +17,9 @@ package io.lettuce.core.output;
 
 import java.nio.ByteBuffer;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Value output.
@@ -28,14 +30,28 @@ import io.lettuce.core.codec.RedisCodec;
  * @author Will Glozer
  * @author Mark Paluch
  */
-public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
+public class ValueOutput<K, V> extends CommandOutput<K, V, V> implements ByteBufOutput {
+
+    private final FromByteBufDecoder<K, V> decoder;
 
     public ValueOutput(RedisCodec<K, V> codec) {
         super(codec, null);
+        this.decoder = codec instanceof FromByteBufDecoder ? (FromByteBufDecoder<K, V>) codec : null;
     }
 
     @Override
     public void set(ByteBuffer bytes) {
         output = (bytes == null) ? null : codec.decodeValue(bytes);
     }
+
+    @Override
+    public void set(ByteBuf bytes) {
+
+        if (decoder == null) {
+            set(bytes == null ? null : bytes.nioBuffer());
+            return;
+        }
+
+        output = (bytes == null) ? null : decoder.decodeValue(bytes);
+    }
 }
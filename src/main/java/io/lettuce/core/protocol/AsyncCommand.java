@@ -20,6 +20,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -47,12 +49,24 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
     private static final AtomicIntegerFieldUpdater<AsyncCommand> COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(
             AsyncCommand.class, "count");
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AsyncCommand, Thread> WAITER_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(AsyncCommand.class, Thread.class, "waiter");
+
+    /**
+     * Number of completion checks before parking a thread in {@link #await(long, TimeUnit)}.
+     */
+    private static final int SPIN_ITERATIONS = Integer.getInteger("io.lettuce.core.AsyncCommand.spinIterations", 128);
+
     private final RedisCommand<K, V, T> command;
 
     // access via COUNT_UPDATER
     @SuppressWarnings({ "unused" })
     private volatile int count = 1;
 
+    // access via WAITER_UPDATER
+    private volatile Thread waiter;
+
     /**
      * @param command the command, must not be {@literal null}.
      */
@@ -79,12 +93,63 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      */
     @Override
     public boolean await(long timeout, TimeUnit unit) {
+
+        if (isDone()) {
+            return true;
+        }
+
+        long timeoutNs = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + timeoutNs;
+
+        if (Thread.interrupted()) {
+            return interrupted(new InterruptedException());
+        }
+
+        for (int i = 0; i < SPIN_ITERATIONS && timeoutNs > 0; i++) {
+            if (isDone()) {
+                return true;
+            }
+        }
+
+        Thread current = Thread.currentThread();
+
+        if (!WAITER_UPDATER.compareAndSet(this, null, current)) {
+            return awaitCompletion(Math.max(deadline - System.nanoTime(), 0));
+        }
+
         try {
-            get(timeout, unit);
+
+            while (!isDone()) {
+
+                long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                LockSupport.parkNanos(this, remaining);
+
+                if (Thread.interrupted()) {
+                    return interrupted(new InterruptedException());
+                }
+            }
+
+            return true;
+        } finally {
+            WAITER_UPDATER.lazySet(this, null);
+        }
+    }
+
+    /**
+     * Await completion using {@link CompletableFuture#get(long, TimeUnit)}. Used if another thread already awaits this
+     * command.
+     */
+    private boolean awaitCompletion(long timeoutNs) {
+        try {
+            get(timeoutNs, TimeUnit.NANOSECONDS);
             return true;
         } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RedisCommandInterruptedException(e);
+            return interrupted(e);
         } catch (ExecutionException e) {
             return true;
         } catch (TimeoutException e) {
@@ -92,6 +157,23 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
         }
     }
 
+    private static boolean interrupted(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RedisCommandInterruptedException(e);
+    }
+
+    /**
+     * Unpark the thread awaiting completion in {@link #await(long, TimeUnit)}, if any.
+     */
+    private void signal() {
+
+        Thread thread = waiter;
+
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
     /**
      * Get the object that holds this command's output.
      *
@@ -113,6 +195,14 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
         }
     }
 
+    @Override
+    public boolean complete(T value) {
+
+        boolean result = super.complete(value);
+        signal();
+        return result;
+    }
+
     protected void completeResult() {
         if (command.getOutput() == null) {
             complete(null);
@@ -136,7 +226,10 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
 
     private boolean doCompleteExceptionally(Throwable ex) {
         command.completeExceptionally(ex);
-        return super.completeExceptionally(ex);
+
+        boolean result = super.completeExceptionally(ex);
+        signal();
+        return result;
     }
 
     @Override
@@ -146,6 +239,7 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
             return super.cancel(mayInterruptIfRunning);
         } finally {
             COUNT_UPDATER.set(this, 0);
+            signal();
         }
     }
 
@@ -185,6 +279,11 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
         command.encode(buf);
     }
 
+    @Override
+    public int encodedLength() {
+        return command.encodedLength();
+    }
+
     @Override
     public void setOutput(CommandOutput<K, V, T> output) {
         command.setOutput(output);
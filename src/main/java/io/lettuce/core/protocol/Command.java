@@ -43,6 +43,9 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
     protected Throwable exception;
     protected volatile byte status = ST_INITIAL;
 
+    // latency breakdown, only allocated if detailed command latencies are enabled
+    private LatencyBreakdown latencyBreakdown;
+
     /**
      * Create a new command with the supplied type.
      *
@@ -121,6 +124,16 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
         }
     }
 
+    @Override
+    public int encodedLength() {
+
+        int count = 1 + (args != null ? args.count() : 0);
+        int length = 1 + CommandArgs.IntegerArgument.digits(count) + 2
+                + CommandArgs.BytesArgument.encodedLength(type.getBytes().length);
+
+        return args != null ? length + args.encodedLength() : length;
+    }
+
     public String getError() {
         return output.getError();
     }
@@ -151,6 +164,47 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
         return sb.toString();
     }
 
+    /**
+     * Set the time at which the command was enqueued in the endpoint.
+     *
+     * @param enqueuedNs {@link System#nanoTime()} at which the command was enqueued.
+     */
+    void enqueued(long enqueuedNs) {
+        getLatencyBreakdown().enqueuedNs = enqueuedNs;
+    }
+
+    /**
+     * @return {@link System#nanoTime()} at which the command was enqueued or {@literal -1} if not recorded.
+     */
+    long getEnqueued() {
+        return latencyBreakdown != null ? latencyBreakdown.enqueuedNs : -1;
+    }
+
+    /**
+     * Set the time spent encoding the command.
+     *
+     * @param encodeDurationNs encoding duration in nanoseconds.
+     */
+    void encoded(long encodeDurationNs) {
+        getLatencyBreakdown().encodeDurationNs = encodeDurationNs;
+    }
+
+    /**
+     * @return the time spent encoding the command in nanoseconds or {@literal -1} if not recorded.
+     */
+    long getEncodeDuration() {
+        return latencyBreakdown != null ? latencyBreakdown.encodeDurationNs : -1;
+    }
+
+    private LatencyBreakdown getLatencyBreakdown() {
+
+        if (latencyBreakdown == null) {
+            latencyBreakdown = new LatencyBreakdown();
+        }
+
+        return latencyBreakdown;
+    }
+
     public void setOutput(CommandOutput<K, V, T> output) {
         if (this.status != ST_INITIAL) {
             throw new IllegalStateException("Command is completed/cancelled. Cannot set a new output");
@@ -172,4 +226,14 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
     public boolean isDone() {
         return status != ST_INITIAL;
     }
+
+    /**
+     * Timestamps to measure queue and encode latencies.
+     */
+    static class LatencyBreakdown {
+
+        long enqueuedNs = -1;
+
+        long encodeDurationNs = -1;
+    }
 }
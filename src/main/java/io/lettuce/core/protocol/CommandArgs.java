@@ -28,6 +28,7 @@ import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.ToByteBufEncoder;
 import io.lettuce.core.internal.LettuceAssert;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 
 /**
@@ -50,6 +51,11 @@ public class CommandArgs<K, V> {
 
     static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
 
+    /**
+     * Estimated length of keys and values whose encoded length cannot be determined without encoding them.
+     */
+    static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+
     protected final RedisCodec<K, V> codec;
 
     final List<SingularArgument> singularArguments = new ArrayList<>(10);
@@ -349,6 +355,23 @@ public class CommandArgs<K, V> {
         }
     }
 
+    /**
+     * Returns the number of bytes required to {@link #encode(ByteBuf) encode} the arguments. The length is exact for arguments
+     * that can be sized without encoding them, such as keys and values of codecs reporting
+     * {@link ToByteBufEncoder#isEstimateExact() exact estimates}, and an estimate otherwise.
+     *
+     * @return the encoded length in bytes.
+     * @since 6.0
+     */
+    public int encodedLength() {
+
+        int length = 0;
+        for (SingularArgument singularArgument : singularArguments) {
+            length += singularArgument.encodedLength();
+        }
+        return length;
+    }
+
     /**
      * Single argument wrapper that can be encoded.
      */
@@ -360,6 +383,13 @@ public class CommandArgs<K, V> {
          * @param buffer
          */
         abstract void encode(ByteBuf buffer);
+
+        /**
+         * Returns the number of bytes required to encode the argument.
+         *
+         * @return the encoded length in bytes.
+         */
+        abstract int encodedLength();
     }
 
     static class BytesArgument extends SingularArgument {
@@ -379,6 +409,22 @@ public class CommandArgs<K, V> {
             writeBytes(buffer, val);
         }
 
+        @Override
+        int encodedLength() {
+            return encodedLength(val.length);
+        }
+
+        /**
+         * Returns the length of a bulk string with {@code length} bytes of content including its header and trailing
+         * {@literal CRLF}.
+         *
+         * @param length content length in bytes.
+         * @return the encoded length in bytes.
+         */
+        static int encodedLength(int length) {
+            return 1 + IntegerArgument.digits(length) + 2 + length + 2;
+        }
+
         static void writeBytes(ByteBuf buffer, byte[] value) {
 
             buffer.writeByte('$');
@@ -386,7 +432,11 @@ public class CommandArgs<K, V> {
             IntegerArgument.writeInteger(buffer, value.length);
             buffer.writeBytes(CRLF);
 
-            buffer.writeBytes(value);
+            if (ZeroCopyWriteContext.isZeroCopy(buffer, value.length)) {
+                ZeroCopyWriteContext.addSegment(buffer, Unpooled.wrappedBuffer(value));
+            } else {
+                buffer.writeBytes(value);
+            }
             buffer.writeBytes(CRLF);
         }
 
@@ -398,7 +448,7 @@ public class CommandArgs<K, V> {
 
     static class ProtocolKeywordArgument extends BytesArgument {
 
-        private final ProtocolKeyword protocolKeyword;
+        final ProtocolKeyword protocolKeyword;
 
         private ProtocolKeywordArgument(ProtocolKeyword protocolKeyword) {
             super(protocolKeyword.getBytes());
@@ -454,6 +504,14 @@ public class CommandArgs<K, V> {
 
     static class ByteBufferArgument {
 
+        static void writeHeader(ByteBuf target, int length) {
+
+            target.writeByte('$');
+
+            IntegerArgument.writeInteger(target, length);
+            target.writeBytes(CRLF);
+        }
+
         static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
 
             target.writeByte('$');
@@ -461,7 +519,12 @@ public class CommandArgs<K, V> {
             IntegerArgument.writeInteger(target, value.remaining());
             target.writeBytes(CRLF);
 
-            target.writeBytes(value);
+            if (ZeroCopyWriteContext.isZeroCopy(target, value.remaining())) {
+                ZeroCopyWriteContext.addSegment(target, Unpooled.wrappedBuffer(value));
+                value.position(value.limit());
+            } else {
+                target.writeBytes(value);
+            }
             target.writeBytes(CRLF);
         }
 
@@ -472,7 +535,11 @@ public class CommandArgs<K, V> {
             IntegerArgument.writeInteger(target, value.readableBytes());
             target.writeBytes(CRLF);
 
-            target.writeBytes(value);
+            if (ZeroCopyWriteContext.isZeroCopy(target, value.readableBytes())) {
+                ZeroCopyWriteContext.addSegment(target, value.readRetainedSlice(value.readableBytes()));
+            } else {
+                target.writeBytes(value);
+            }
             target.writeBytes(CRLF);
         }
     }
@@ -503,6 +570,11 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Long.toString(val));
         }
 
+        @Override
+        int encodedLength() {
+            return BytesArgument.encodedLength(val < 0 ? digits(val) + 1 : digits(val));
+        }
+
         @Override
         public String toString() {
             return "" + val;
@@ -521,6 +593,29 @@ public class CommandArgs<K, V> {
                 target.writeByte((byte) asString.charAt(i));
             }
         }
+
+        /**
+         * Returns the number of decimal digits of {@code value} excluding the sign.
+         *
+         * @param value the value.
+         * @return the number of digits.
+         */
+        static int digits(long value) {
+
+            if (value == Long.MIN_VALUE) {
+                return 19;
+            }
+
+            long remainder = Math.abs(value);
+            int digits = 1;
+
+            while (remainder >= 10) {
+                remainder /= 10;
+                digits++;
+            }
+
+            return digits;
+        }
     }
 
     static class IntegerCache {
@@ -556,6 +651,11 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Double.toString(val));
         }
 
+        @Override
+        int encodedLength() {
+            return BytesArgument.encodedLength(Double.toString(val).length());
+        }
+
         @Override
         public String toString() {
             return "" + val;
@@ -579,6 +679,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int encodedLength() {
+            return BytesArgument.encodedLength(val.length());
+        }
+
         static void writeString(ByteBuf target, String value) {
 
             target.writeByte('$');
@@ -615,6 +720,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int encodedLength() {
+            return BytesArgument.encodedLength(val.length);
+        }
+
         static void writeString(ByteBuf target, char[] value) {
 
             target.writeByte('$');
@@ -655,7 +765,24 @@ public class CommandArgs<K, V> {
             if (codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(key) + 6);
+                int size = toByteBufEncoder.estimateSize(key);
+
+                if (toByteBufEncoder.isEstimateExact()) {
+
+                    if (ZeroCopyWriteContext.isZeroCopy(target, size)) {
+
+                        // wrap the encoded representation instead of copying it into the command buffer
+                        ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
+                        return;
+                    }
+
+                    ByteBufferArgument.writeHeader(target, size);
+                    toByteBufEncoder.encodeKey(key, target);
+                    target.writeBytes(CRLF);
+                    return;
+                }
+
+                ByteBuf temporaryBuffer = target.alloc().buffer(size + 6);
 
                 try {
 
@@ -671,6 +798,13 @@ public class CommandArgs<K, V> {
             ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        int encodedLength() {
+            return BytesArgument.encodedLength(codec instanceof ToByteBufEncoder
+                    ? ((ToByteBufEncoder<K, V>) codec).estimateSize(key) : ESTIMATED_ARGUMENT_LENGTH);
+        }
+
         @Override
         public String toString() {
             return String.format("key<%s>", new StringCodec().decodeKey(codec.encodeKey(key)));
@@ -698,7 +832,24 @@ public class CommandArgs<K, V> {
             if (codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(val) + 6);
+                int size = toByteBufEncoder.estimateSize(val);
+
+                if (toByteBufEncoder.isEstimateExact()) {
+
+                    if (ZeroCopyWriteContext.isZeroCopy(target, size)) {
+
+                        // wrap the encoded representation instead of copying it into the command buffer
+                        ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
+                        return;
+                    }
+
+                    ByteBufferArgument.writeHeader(target, size);
+                    toByteBufEncoder.encodeValue(val, target);
+                    target.writeBytes(CRLF);
+                    return;
+                }
+
+                ByteBuf temporaryBuffer = target.alloc().buffer(size + 6);
 
                 try {
                     toByteBufEncoder.encodeValue(val, temporaryBuffer);
@@ -713,6 +864,13 @@ public class CommandArgs<K, V> {
             ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        int encodedLength() {
+            return BytesArgument.encodedLength(codec instanceof ToByteBufEncoder
+                    ? ((ToByteBufEncoder<K, V>) codec).estimateSize(val) : ESTIMATED_ARGUMENT_LENGTH);
+        }
+
         @Override
         public String toString() {
             return String.format("value<%s>", new StringCodec().decodeValue(codec.encodeValue(val)));
@@ -135,6 +135,27 @@ public class CommandArgsAccessor {
         return args;
     }
 
+    /**
+     * Check whether the {@link CommandArgs} contain the given {@link ProtocolKeyword}.
+     *
+     * @param commandArgs must not be null.
+     * @param keyword the keyword to look up.
+     * @return {@literal true} if {@code commandArgs} contain {@code keyword}.
+     * @since 6.0
+     */
+    public static <K, V> boolean containsKeyword(CommandArgs<K, V> commandArgs, ProtocolKeyword keyword) {
+
+        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+
+            if (singularArgument instanceof CommandArgs.ProtocolKeywordArgument
+                    && ((CommandArgs.ProtocolKeywordArgument) singularArgument).protocolKeyword == keyword) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Get the first {@link Long integer} argument.
      *
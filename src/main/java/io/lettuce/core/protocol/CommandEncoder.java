@@ -19,11 +19,14 @@ import java.nio.charset.Charset;
 import java.util.Collection;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.internal.PlatformDependent;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -39,26 +42,99 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
 
     private final boolean traceEnabled = logger.isTraceEnabled();
     private final boolean debugEnabled = logger.isDebugEnabled();
+    private final boolean detailedLatenciesEnabled;
+    private final boolean preferDirect;
+    private final int zeroCopyWriteThreshold;
 
     public CommandEncoder() {
         this(PlatformDependent.directBufferPreferred());
     }
 
     public CommandEncoder(boolean preferDirect) {
+        this(preferDirect, false);
+    }
+
+    /**
+     * Create a new {@link CommandEncoder}.
+     *
+     * @param preferDirect whether to prefer direct buffers.
+     * @param detailedLatenciesEnabled whether to record the time spent encoding commands.
+     * @since 6.0
+     */
+    public CommandEncoder(boolean preferDirect, boolean detailedLatenciesEnabled) {
+        this(preferDirect, detailedLatenciesEnabled, 0);
+    }
+
+    /**
+     * Create a new {@link CommandEncoder}.
+     *
+     * @param preferDirect whether to prefer direct buffers.
+     * @param detailedLatenciesEnabled whether to record the time spent encoding commands.
+     * @param zeroCopyWriteThreshold size threshold in bytes for arguments that are written without copying them into the
+     *        command buffer. {@literal 0} to disable zero-copy writes.
+     * @since 6.0
+     */
+    public CommandEncoder(boolean preferDirect, boolean detailedLatenciesEnabled, int zeroCopyWriteThreshold) {
         super(preferDirect);
+        this.detailedLatenciesEnabled = detailedLatenciesEnabled;
+        this.preferDirect = preferDirect;
+        this.zeroCopyWriteThreshold = zeroCopyWriteThreshold;
     }
 
     @Override
-    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
 
-        if (msg instanceof Collection) {
+        if (zeroCopyWriteThreshold <= 0 || !(msg instanceof RedisCommand || msg instanceof Collection)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
 
-            if (preferDirect) {
-                return ctx.alloc().ioBuffer(((Collection) msg).size() * 16);
+        ByteBuf buf = null;
+        try {
+            buf = allocateBuffer(ctx, msg, preferDirect);
+            ZeroCopyWriteContext context = ZeroCopyWriteContext.open(buf, zeroCopyWriteThreshold);
+
+            try {
+                encode(ctx, msg, buf);
+                buf = context.toByteBuf(ctx.alloc());
+            } catch (Throwable e) {
+                context.release();
+                throw e;
+            } finally {
+                context.close();
+                ReferenceCountUtil.release(msg);
+            }
+
+            if (buf.isReadable()) {
+                ctx.write(buf, promise);
             } else {
-                return ctx.alloc().heapBuffer(((Collection) msg).size() * 16);
+                buf.release();
+                ctx.write(Unpooled.EMPTY_BUFFER, promise);
+            }
+            buf = null;
+        } catch (EncoderException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EncoderException(e);
+        } finally {
+            if (buf != null) {
+                buf.release();
             }
         }
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
+
+        int length = encodedLength(msg);
+
+        if (length > 0 && zeroCopyWriteThreshold > 0) {
+            length = Math.min(length, zeroCopyWriteThreshold);
+        }
+
+        if (length > 0) {
+            return preferDirect ? ctx.alloc().ioBuffer(length) : ctx.alloc().heapBuffer(length);
+        }
 
         if (preferDirect) {
             return ctx.alloc().ioBuffer();
@@ -67,6 +143,35 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
         }
     }
 
+    /**
+     * Determine the number of bytes required to encode {@code msg}. Commands that cannot report their length are accounted
+     * with an estimate.
+     *
+     * @param msg the message to encode.
+     * @return the encoded length in bytes or {@literal -1} if unknown.
+     */
+    @SuppressWarnings("unchecked")
+    private static int encodedLength(Object msg) {
+
+        if (msg instanceof RedisCommand) {
+            return ((RedisCommand<?, ?, ?>) msg).encodedLength();
+        }
+
+        if (msg instanceof Collection) {
+
+            int length = 0;
+            for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+
+                int commandLength = command.encodedLength();
+                length += commandLength > 0 ? commandLength : CommandArgs.ESTIMATED_ARGUMENT_LENGTH;
+            }
+
+            return length;
+        }
+
+        return -1;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
@@ -89,9 +194,15 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
 
         try {
             out.markWriterIndex();
-            command.encode(out);
+
+            if (detailedLatenciesEnabled) {
+                encodeTimed(out, command);
+            } else {
+                command.encode(out);
+            }
         } catch (RuntimeException e) {
             out.resetWriterIndex();
+            ZeroCopyWriteContext.discard(out);
             command.completeExceptionally(new EncoderException(
                     "Cannot encode command. Please close the connection as the connection state may be out of sync.",
                     e));
@@ -105,6 +216,17 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
         }
     }
 
+    private static void encodeTimed(ByteBuf out, RedisCommand<?, ?, ?> command) {
+
+        long start = System.nanoTime();
+        command.encode(out);
+
+        RedisCommand<?, ?, ?> unwrapped = CommandWrapper.unwrap(command);
+        if (unwrapped instanceof Command) {
+            ((Command<?, ?, ?>) unwrapped).encoded(System.nanoTime() - start);
+        }
+    }
+
     private String logPrefix(Channel channel) {
         StringBuilder buffer = new StringBuilder(64);
         buffer.append('[').append(ChannelLogDescriptor.logDescriptor(channel)).append(']');
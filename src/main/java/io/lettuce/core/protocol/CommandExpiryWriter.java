@@ -30,10 +30,16 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.resource.ClientResources;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 
 /**
  * Extension to {@link RedisChannelWriter} that expires commands. Command timeout starts at the time the command is written
  * regardless to {@link #setAutoFlushCommands(boolean) flushing mode} (user-controlled batching).
+ * <p>
+ * Timeouts are scheduled either on the {@link ClientResources#eventExecutorGroup() computation pool} or, if
+ * {@link TimeoutOptions#isScheduleOnTimer() enabled}, on the {@link ClientResources#timer() timer}. Expired commands are
+ * completed on the computation pool in both cases.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -45,6 +51,7 @@ public class CommandExpiryWriter implements RedisChannelWriter {
     private final TimeoutSource source;
     private final TimeUnit timeUnit;
     private final ScheduledExecutorService executorService;
+    private final Timer timer;
     private final boolean applyConnectionTimeout;
 
     private volatile long timeout = -1;
@@ -68,6 +75,7 @@ public class CommandExpiryWriter implements RedisChannelWriter {
         this.applyConnectionTimeout = timeoutOptions.isApplyConnectionTimeout();
         this.timeUnit = source.getTimeUnit();
         this.executorService = clientResources.eventExecutorGroup();
+        this.timer = timeoutOptions.isScheduleOnTimer() ? clientResources.timer() : null;
     }
 
     /**
@@ -161,6 +169,11 @@ public class CommandExpiryWriter implements RedisChannelWriter {
             return;
         }
 
+        if (timer != null) {
+            expireOnTimer(command, executors, timeout);
+            return;
+        }
+
         ScheduledFuture<?> schedule = executors.schedule(() -> {
 
             if (!command.isDone()) {
@@ -179,4 +192,21 @@ public class CommandExpiryWriter implements RedisChannelWriter {
             });
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private void expireOnTimer(RedisCommand<?, ?, ?> command, ScheduledExecutorService executors, long timeout) {
+
+        Timeout commandTimeout = timer.newTimeout(t -> {
+
+            if (!command.isDone()) {
+                executors.submit(() -> command.completeExceptionally(
+                        ExceptionFactory.createTimeoutException(Duration.ofNanos(timeUnit.toNanos(timeout)))));
+            }
+
+        }, timeout, timeUnit);
+
+        if (command instanceof CompleteableCommand) {
+            ((CompleteableCommand) command).onComplete((o, o2) -> commandTimeout.cancel());
+        }
+    }
 }
@@ -26,9 +26,15 @@ import java.util.concurrent.atomic.AtomicLong;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceSets;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.ConnectionMetrics;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.PushOutput;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.tracing.TraceContext;
 import io.lettuce.core.tracing.TraceContextProvider;
@@ -70,6 +76,9 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private final ClientOptions clientOptions;
     private final ClientResources clientResources;
     private final Endpoint endpoint;
+    private final CommandLatencyRecorder commandLatencyRecorder;
+    private final ConnectionMetricsRecorder connectionMetricsRecorder;
+    private final ConnectionMetrics connectionMetrics = new CommandHandlerConnectionMetrics();
 
     private final ArrayDeque<RedisCommand<?, ?, ?>> stack = new ArrayDeque<>();
     private final long commandHandlerId = COMMAND_HANDLER_COUNTER.incrementAndGet();
@@ -77,6 +86,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private final boolean traceEnabled = logger.isTraceEnabled();
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final boolean latencyMetricsEnabled;
+    private long lastCompletedNs = -1;
     private final boolean tracingEnabled;
     private final boolean includeCommandArgsInSpanTags;
     private final float discardReadBytesRatio;
@@ -89,6 +99,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private LifecycleState lifecycleState = LifecycleState.NOT_CONNECTED;
     private String logPrefix;
     private PristineFallbackCommand fallbackCommand;
+    private PushOutput<byte[], byte[]> pushOutput;
     private boolean pristine;
     private Tracing.Endpoint tracedEndpoint;
 
@@ -108,7 +119,9 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         this.clientOptions = clientOptions;
         this.clientResources = clientResources;
         this.endpoint = endpoint;
-        this.latencyMetricsEnabled = clientResources.commandLatencyCollector().isEnabled();
+        this.commandLatencyRecorder = clientResources.commandLatencyRecorder();
+        this.connectionMetricsRecorder = clientResources.connectionMetricsRecorder();
+        this.latencyMetricsEnabled = commandLatencyRecorder.isEnabled();
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
 
         Tracing tracing = clientResources.tracing();
@@ -269,6 +282,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         setState(LifecycleState.CONNECTED);
 
         endpoint.notifyChannelActive(ctx.channel());
+
+        if (connectionMetricsRecorder.isEnabled()) {
+            connectionMetricsRecorder.connectionActivated(connectionMetrics);
+        }
+
         super.channelActive(ctx);
 
         if (debugEnabled) {
@@ -313,6 +331,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         setState(LifecycleState.DEACTIVATED);
 
+        if (connectionMetricsRecorder.isEnabled()) {
+            connectionMetricsRecorder.connectionDeactivated(connectionMetrics);
+        }
+
         PristineFallbackCommand command = this.fallbackCommand;
         if (isProtectedMode(command)) {
             onProtectedMode(command.getOutput().getError());
@@ -574,7 +596,17 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             return;
         }
 
-        while (canDecode(buffer)) {
+        while (isPushDecode(buffer) || canDecode(buffer)) {
+
+            if (isPushDecode(buffer)) {
+
+                if (!decodePush(buffer)) {
+                    discardReadBytesIfNecessary(buffer);
+                    return;
+                }
+
+                continue;
+            }
 
             RedisCommand<?, ?, ?> command = stack.peek();
             if (debugEnabled) {
@@ -625,6 +657,18 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return !stack.isEmpty() && buffer.isReadable();
     }
 
+    /**
+     * Decoding hook: Is the next response a push message that is not associated with a command. Push messages are decoded
+     * separately and dispatched to {@link PushHandler#getPushListeners() push listeners}.
+     *
+     * @param buffer
+     * @return {@literal true} if the buffer contains a push message or if a push message is partially decoded.
+     * @since 6.0
+     */
+    protected boolean isPushDecode(ByteBuf buffer) {
+        return pushOutput != null || (rsm.isEmpty() && buffer.isReadable() && rsm.isPushMessage(buffer));
+    }
+
     /**
      * Decoding hook: Can the command be completed.
      *
@@ -658,7 +702,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
                 return false;
             }
 
-            recordLatency(withLatency, command.getType());
+            recordLatency(withLatency, command);
 
             return true;
         }
@@ -688,6 +732,41 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return true;
     }
 
+    private boolean decodePush(ByteBuf buffer) {
+
+        if (pushOutput == null) {
+            pushOutput = new PushOutput<>(ByteArrayCodec.INSTANCE);
+        }
+
+        if (!decode(buffer, pushOutput)) {
+            return false;
+        }
+
+        PushOutput<byte[], byte[]> output = pushOutput;
+        pushOutput = null;
+
+        if (debugEnabled) {
+            logger.debug("{} Received push message: {}", logPrefix(), output.getType());
+        }
+
+        if (endpoint instanceof PushHandler) {
+            notifyPushListeners((PushHandler) endpoint, output);
+        }
+
+        return true;
+    }
+
+    private void notifyPushListeners(PushHandler pushHandler, PushOutput<byte[], byte[]> output) {
+
+        for (PushListener listener : pushHandler.getPushListeners()) {
+            try {
+                listener.onPushMessage(output);
+            } catch (Exception e) {
+                logger.error("{} Unexpected error occurred in PushListener.onPushMessage", logPrefix(), e);
+            }
+        }
+    }
+
     /**
      * Decoding hook: Retrieve {@link CommandOutput} for {@link RedisCommand} decoding.
      *
@@ -768,16 +847,33 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     protected void afterDecode(ChannelHandlerContext ctx, RedisCommand<?, ?, ?> command) {
     }
 
-    private void recordLatency(WithLatency withLatency, ProtocolKeyword commandType) {
+    private void recordLatency(WithLatency withLatency, RedisCommand<?, ?, ?> command) {
 
-        if (withLatency != null && clientResources.commandLatencyCollector().isEnabled() && channel != null
+        if (withLatency != null && latencyMetricsEnabled && channel != null
                 && remote() != null) {
 
-            long firstResponseLatency = withLatency.getFirstResponse() - withLatency.getSent();
-            long completionLatency = nanoTime() - withLatency.getSent();
+            long now = nanoTime();
+            long sent = withLatency.getSent();
+            long firstResponseLatency = withLatency.getFirstResponse() - sent;
+            long completionLatency = now - sent;
 
-            clientResources.commandLatencyCollector().recordCommandLatency(local(), remote(), commandType, firstResponseLatency,
-                    completionLatency);
+            // responses arrive in order: time between send and completion of the previous command was spent waiting
+            long headOfLineLatency = lastCompletedNs == -1 ? 0 : Math.max(0, lastCompletedNs - sent);
+            lastCompletedNs = now;
+
+            long queueLatency = -1;
+            long encodeLatency = -1;
+
+            RedisCommand<?, ?, ?> unwrapped = CommandWrapper.unwrap(command);
+            if (unwrapped instanceof Command) {
+
+                Command<?, ?, ?> actual = (Command<?, ?, ?>) unwrapped;
+                queueLatency = actual.getEnqueued() == -1 ? -1 : Math.max(0, sent - actual.getEnqueued());
+                encodeLatency = actual.getEncodeDuration();
+            }
+
+            commandLatencyRecorder.recordCommandLatency(local(), remote(), command.getType(), queueLatency, encodeLatency,
+                    headOfLineLatency, firstResponseLatency, completionLatency);
         }
     }
 
@@ -805,6 +901,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private void resetInternals() {
 
+        pushOutput = null;
+
         if (rsm != null) {
             rsm.reset();
         }
@@ -936,4 +1034,34 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             handle.recycle(this);
         }
     }
+
+    /**
+     * {@link ConnectionMetrics} view on this handler and its {@link Endpoint}.
+     */
+    class CommandHandlerConnectionMetrics implements ConnectionMetrics {
+
+        @Override
+        public SocketAddress localAddress() {
+
+            Channel channel = CommandHandler.this.channel;
+            return channel != null ? channel.localAddress() : null;
+        }
+
+        @Override
+        public SocketAddress remoteAddress() {
+
+            Channel channel = CommandHandler.this.channel;
+            return channel != null ? channel.remoteAddress() : null;
+        }
+
+        @Override
+        public int getInFlightCommands() {
+            return stack.size();
+        }
+
+        @Override
+        public int getQueuedCommands() {
+            return endpoint instanceof DefaultEndpoint ? ((DefaultEndpoint) endpoint).getQueuedCommands() : 0;
+        }
+    }
 }
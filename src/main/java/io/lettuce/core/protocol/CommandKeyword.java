@@ -26,7 +26,7 @@ import java.nio.charset.StandardCharsets;
  */
 public enum CommandKeyword implements ProtocolKeyword {
 
-    ADDR, ADDSLOTS, AFTER, AGGREGATE, ALPHA, AND, ASK, ASC, ASYNC, BEFORE, BLOCK, BUMPEPOCH,
+    ADDR, ADDSLOTS, AFTER, AGGREGATE, ALPHA, AND, ASK, ASC, ASYNC, BCAST, BEFORE, BLOCK, BUMPEPOCH,
 
     BY, CHANNELS, COPY, COUNT, COUNTKEYSINSLOT, CONSUMERS, CREATE, DELSLOTS, DESC, SOFT, HARD, ENCODING,
 
@@ -34,13 +34,15 @@ public enum CommandKeyword implements ProtocolKeyword {
 
     IDLETIME, JUSTID, KILL, KEYSLOT, LEN, LIMIT, LIST, LOAD, MATCH,
 
-    MAX, MAXLEN, MEET, MIN, MOVED, NO, NOACK, NODE, NODES, NOSAVE, NOT, NUMSUB, NUMPAT, ONE, OR, PAUSE,
+    MAX, MAXLEN, MEET, MIN, MOVED, NO, NOACK, NODE, NODES, NOLOOP, NOSAVE, NOT, NUMSUB, NUMPAT,
 
-    REFCOUNT, REMOVE, RELOAD, REPLACE, REPLICATE, RESET,
+    OFF, ON, ONE, OPTIN, OPTOUT, OR, PAUSE, PREFIX,
+
+    REDIRECT, REFCOUNT, REMOVE, RELOAD, REPLACE, REPLICATE, RESET,
 
     RESETSTAT, RESTART, RETRYCOUNT, REWRITE, SAVECONFIG, SDSLEN, SETNAME, SETSLOT, SLOTS, STABLE,
 
-    MIGRATING, IMPORTING, SKIPME, SLAVES, STREAM, STORE, SUM, SEGFAULT, UNBLOCK, WEIGHTS,
+    MIGRATING, IMPORTING, SKIPME, SLAVES, STREAM, STORE, SUM, SEGFAULT, TRACKING, UNBLOCK, WEIGHTS,
 
     WITHSCORES, XOR, USAGE;
 
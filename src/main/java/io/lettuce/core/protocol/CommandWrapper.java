@@ -144,6 +144,11 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         command.encode(buf);
     }
 
+    @Override
+    public int encodedLength() {
+        return command.encodedLength();
+    }
+
     @Override
     public boolean isCancelled() {
         return command.isCancelled();
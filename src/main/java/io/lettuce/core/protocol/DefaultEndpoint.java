@@ -21,12 +21,14 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.lettuce.core.*;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceFactories;
@@ -47,7 +49,7 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  *
  * @author Mark Paluch
  */
-public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
+public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandler {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(DefaultEndpoint.class);
     private static final AtomicLong ENDPOINT_COUNTER = new AtomicLong();
@@ -69,11 +71,13 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
     private final Queue<RedisCommand<?, ?, ?>> commandBuffer;
     private final boolean boundedQueues;
     private final boolean rejectCommandsWhileDisconnected;
+    private final boolean detailedLatenciesEnabled;
 
     private final long endpointId = ENDPOINT_COUNTER.incrementAndGet();
     private final SharedLock sharedLock = new SharedLock();
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+    private final List<PushListener> pushListeners = new CopyOnWriteArrayList<>();
 
     private String logPrefix;
     private boolean autoFlushCommands = true;
@@ -106,10 +110,12 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         this.clientOptions = clientOptions;
         this.clientResources = clientResources;
         this.reliability = clientOptions.isAutoReconnect() ? Reliability.AT_LEAST_ONCE : Reliability.AT_MOST_ONCE;
-        this.disconnectedBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
-        this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
+        this.disconnectedBuffer = LettuceFactories.newMpscQueue(clientOptions.getRequestQueueSize());
+        this.commandBuffer = LettuceFactories.newMpscQueue(clientOptions.getRequestQueueSize());
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
         this.rejectCommandsWhileDisconnected = isRejectCommand(clientOptions);
+        this.detailedLatenciesEnabled = clientResources.commandLatencyRecorder().isEnabled()
+                && clientResources.commandLatencyRecorder().isDetailedLatenciesEnabled();
     }
 
     @Override
@@ -127,6 +133,27 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         this.autoFlushCommands = autoFlush;
     }
 
+    @Override
+    public void addListener(PushListener listener) {
+
+        LettuceAssert.notNull(listener, "PushListener must not be null");
+
+        pushListeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+
+        LettuceAssert.notNull(listener, "PushListener must not be null");
+
+        pushListeners.remove(listener);
+    }
+
+    @Override
+    public List<PushListener> getPushListeners() {
+        return pushListeners;
+    }
+
     @Override
     public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
 
@@ -138,6 +165,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
             return command;
         }
 
+        if (detailedLatenciesEnabled) {
+            markEnqueued(command, System.nanoTime());
+        }
+
         try {
             sharedLock.incrementWriters();
 
@@ -179,6 +210,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
             return (Collection<RedisCommand<K, V, ?>>) commands;
         }
 
+        if (detailedLatenciesEnabled) {
+
+            long now = System.nanoTime();
+            for (RedisCommand<K, V, ?> command : commands) {
+                markEnqueued(command, now);
+            }
+        }
+
         try {
             sharedLock.incrementWriters();
 
@@ -207,6 +246,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         return (Collection<RedisCommand<K, V, ?>>) commands;
     }
 
+    private static void markEnqueued(RedisCommand<?, ?, ?> command, long enqueuedNs) {
+
+        RedisCommand<?, ?, ?> unwrapped = CommandWrapper.unwrap(command);
+        if (unwrapped instanceof Command) {
+            ((Command<?, ?, ?>) unwrapped).enqueued(enqueuedNs);
+        }
+    }
+
     private <K, V, T> RedisCommand<K, V, T> processActivationCommand(RedisCommand<K, V, T> command) {
 
         if (!ActivationCommand.isActivationCommand(command)) {
@@ -450,7 +497,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
         if (isClosed()) {
             RedisException closed = new RedisException("Connection closed");
-            cancelCommands("Connection closed", drainCommands(), it -> it.completeExceptionally(closed));
+            cancelCommands("Connection closed", doExclusive(this::drainCommands), it -> it.completeExceptionally(closed));
         }
 
         sharedLock.doExclusive(() -> {
@@ -465,6 +512,19 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         if (this.channel == channel) {
             this.channel = null;
         }
+
+        notifyPushListenersDisconnected();
+    }
+
+    private void notifyPushListenersDisconnected() {
+
+        for (PushListener listener : pushListeners) {
+            try {
+                listener.onDisconnected();
+            } catch (Exception e) {
+                logger.error("{} Unexpected error occurred in PushListener.onDisconnected", logPrefix(), e);
+            }
+        }
     }
 
     @Override
@@ -603,7 +663,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
      */
     public void initialState() {
 
-        commandBuffer.clear();
+        sharedLock.doExclusive(commandBuffer::clear);
 
         Channel currentChannel = this.channel;
         if (currentChannel != null) {
@@ -622,14 +682,15 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
             RedisException closed = new RedisException("Connection closed");
             cancelCommands(closed.getMessage(), queuedCommands.drainQueue(), it -> it.completeExceptionally(closed));
-            cancelCommands(closed.getMessage(), drainCommands(), it -> it.completeExceptionally(closed));
+            cancelCommands(closed.getMessage(), doExclusive(this::drainCommands), it -> it.completeExceptionally(closed));
             return;
         } else if (reliability == Reliability.AT_MOST_ONCE && rejectCommandsWhileDisconnected) {
 
             RedisException disconnected = new RedisException("Connection disconnected");
             cancelCommands(disconnected.getMessage(), queuedCommands.drainQueue(),
                     it -> it.completeExceptionally(disconnected));
-            cancelCommands(disconnected.getMessage(), drainCommands(), it -> it.completeExceptionally(disconnected));
+            cancelCommands(disconnected.getMessage(), doExclusive(this::drainCommands),
+                    it -> it.completeExceptionally(disconnected));
             return;
         }
 
@@ -675,6 +736,17 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         return STATUS.get(this) == ST_CLOSED;
     }
 
+    /**
+     * Returns the number of commands that are written to the channel but not yet flushed to the transport and commands that
+     * are buffered while disconnected or while auto-flush is disabled.
+     *
+     * @return the number of queued commands.
+     * @since 6.0
+     */
+    int getQueuedCommands() {
+        return QUEUE_SIZE.get(this) + commandBuffer.size() + disconnectedBuffer.size();
+    }
+
     /**
      * Execute a {@link Supplier} callback guarded by an exclusive lock.
      *
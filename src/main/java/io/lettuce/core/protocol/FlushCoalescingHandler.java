@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.Collection;
+
+import io.lettuce.core.FlushCoalescingOptions;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Netty handler that coalesces flushes of command writes. Flush requests are deferred to the end of the current event loop
+ * cycle so that commands written concurrently by multiple threads are sent with a single flush. A flush is issued immediately
+ * once the number of pending commands or the number of pending bytes in the outbound buffer exceeds the configured threshold.
+ * <p>
+ * This handler must be placed between {@link CommandEncoder} and {@link CommandHandler} to see the written
+ * {@link RedisCommand commands}.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see FlushCoalescingOptions
+ */
+public class FlushCoalescingHandler extends ChannelDuplexHandler {
+
+    private final int maxCommands;
+    private final int maxBytes;
+    private final Runnable flushTask;
+
+    private ChannelHandlerContext ctx;
+    private int pendingCommands;
+    private boolean flushPending;
+    private boolean flushScheduled;
+
+    /**
+     * Create a new {@link FlushCoalescingHandler} given {@link FlushCoalescingOptions}.
+     *
+     * @param options must not be {@literal null}.
+     */
+    public FlushCoalescingHandler(FlushCoalescingOptions options) {
+
+        LettuceAssert.notNull(options, "FlushCoalescingOptions must not be null");
+
+        this.maxCommands = options.getMaxCommands();
+        this.maxBytes = options.getMaxBytes();
+        this.flushTask = () -> {
+
+            flushScheduled = false;
+
+            if (flushPending) {
+                flushNow(ctx);
+            }
+        };
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+
+        if (msg instanceof RedisCommand) {
+            pendingCommands++;
+        } else if (msg instanceof Collection) {
+            pendingCommands += ((Collection<?>) msg).size();
+        }
+
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+
+        if (pendingCommands >= maxCommands || pendingBytes(ctx) >= maxBytes) {
+            flushNow(ctx);
+            return;
+        }
+
+        flushPending = true;
+
+        if (!flushScheduled) {
+            flushScheduled = true;
+            ctx.executor().execute(flushTask);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+
+        if (!ctx.channel().isWritable()) {
+            flushIfPending(ctx);
+        }
+
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+
+        flushIfPending(ctx);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+
+        flushIfPending(ctx);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfPending(ctx);
+    }
+
+    private void flushIfPending(ChannelHandlerContext ctx) {
+
+        if (flushPending) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+
+        pendingCommands = 0;
+        flushPending = false;
+        ctx.flush();
+    }
+
+    private static long pendingBytes(ChannelHandlerContext ctx) {
+
+        ChannelOutboundBuffer outboundBuffer = ctx.channel().unsafe().outboundBuffer();
+        return outboundBuffer != null ? outboundBuffer.totalPendingWriteBytes() : 0;
+    }
+
+}
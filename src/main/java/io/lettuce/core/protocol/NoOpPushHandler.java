@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2020 the original author or authors.
+ * Copyright 2020 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,30 +13,35 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.lettuce.core.codec;
+package io.lettuce.core.protocol;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
 
-class ByteBufferInputStream extends InputStream {
+import io.lettuce.core.api.push.PushListener;
 
-    private final ByteBuffer buffer;
+/**
+ * No-op {@link PushHandler} for connections that do not support push message dispatch.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public enum NoOpPushHandler implements PushHandler {
+
+    INSTANCE;
+
+    @Override
+    public void addListener(PushListener listener) {
 
-    public ByteBufferInputStream(ByteBuffer b) {
-        this.buffer = b;
     }
 
     @Override
-    public int available() throws IOException {
-        return buffer.remaining();
+    public void removeListener(PushListener listener) {
+
     }
 
     @Override
-    public int read() throws IOException {
-        if (buffer.remaining() > 0) {
-            return (buffer.get() & 0xFF);
-        }
-        return -1;
+    public Collection<PushListener> getPushListeners() {
+        return Collections.emptyList();
     }
 }
@@ -76,6 +76,17 @@ public interface RedisCommand<K, V, T> {
      */
     void encode(ByteBuf buf);
 
+    /**
+     * Returns the number of bytes required to {@link #encode(ByteBuf) encode} this command. The length is exact for commands
+     * whose arguments can be sized without encoding them and an estimate otherwise.
+     *
+     * @return the encoded length in bytes or {@literal -1} if unknown.
+     * @since 6.0
+     */
+    default int encodedLength() {
+        return -1;
+    }
+
     /**
      *
      * @return true if the command is cancelled.
@@ -23,6 +23,8 @@ import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.lettuce.core.LettuceStrings;
+import io.lettuce.core.output.ByteBufOutput;
+import io.lettuce.core.output.ChunkedOutput;
 import io.lettuce.core.output.CommandOutput;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -42,6 +44,7 @@ public class RedisStateMachine {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(RedisStateMachine.class);
     private static final ByteBuffer QUEUED = StandardCharsets.US_ASCII.encode("QUEUED");
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
     private static final int TERMINATOR_LENGTH = 2;
     private static final int NOT_FOUND = -1;
 
@@ -353,9 +356,11 @@ public class RedisStateMachine {
 
                         switch (state.type) {
                             case MULTI:
-                            case PUSH:
                                 safeMultiArray(output, state.count, command);
                                 break;
+                            case PUSH:
+                                safeMultiPush(output, state.count, command);
+                                break;
                             case MAP:
                                 safeMultiMap(output, state.count, command);
                                 state.count = length * 2;
@@ -376,6 +381,14 @@ public class RedisStateMachine {
                     continue loop;
 
                 case VERBATIM_STRING:
+                    if (output instanceof ByteBufOutput) {
+                        // skip txt: and mkd:
+                        if (!readSlice(buffer, state.count, 4, output, command)) {
+                            break loop;
+                        }
+                        break;
+                    }
+
                     if ((bytes = readBytes(buffer, state.count)) == null) {
                         break loop;
                     }
@@ -384,6 +397,20 @@ public class RedisStateMachine {
                     safeSet(output, bytes, command);
                     break;
                 case BYTES:
+                    if (output instanceof ChunkedOutput) {
+                        if (!readChunk(buffer, state, (ChunkedOutput) output, command)) {
+                            break loop;
+                        }
+                        break;
+                    }
+
+                    if (output instanceof ByteBufOutput) {
+                        if (!readSlice(buffer, state.count, 0, output, command)) {
+                            break loop;
+                        }
+                        break;
+                    }
+
                     if ((bytes = readBytes(buffer, state.count)) == null) {
                         break loop;
                     }
@@ -416,6 +443,28 @@ public class RedisStateMachine {
         return isEmpty(stack);
     }
 
+    /**
+     * Returns whether the state machine is in between two responses, i.e. no response is partially decoded.
+     *
+     * @return {@literal true} if no response is partially decoded.
+     * @since 6.0
+     */
+    public boolean isEmpty() {
+        return stackElements == 0 || (stackElements == 1 && stack[0].type == null);
+    }
+
+    /**
+     * Check whether the next response in {@code buffer} is a RESP3 push message. This method does not consume any bytes and
+     * should be called only when the state machine {@link #isEmpty() is empty}.
+     *
+     * @param buffer Buffer containing data from the server, must be readable.
+     * @return {@literal true} if the next response is a push message.
+     * @since 6.0
+     */
+    public boolean isPushMessage(ByteBuf buffer) {
+        return buffer.getByte(buffer.readerIndex()) == '>';
+    }
+
     /**
      * Reset the state machine.
      */
@@ -541,6 +590,79 @@ public class RedisStateMachine {
         return null;
     }
 
+    /**
+     * Pass a slice of {@code buffer} to a {@link ByteBufOutput} without copying the bulk data into
+     * {@link #responseElementBuffer}.
+     *
+     * @param buffer the buffer to read from.
+     * @param count number of bytes including the terminator.
+     * @param skip number of leading bytes to skip.
+     * @param output the output.
+     * @param command the command.
+     * @return {@literal true} if the bulk data was consumed, {@literal false} if more data is required.
+     */
+    private boolean readSlice(ByteBuf buffer, int count, int skip, CommandOutput<?, ?, ?> output,
+            RedisCommand<?, ?, ?> command) {
+
+        if (buffer.readableBytes() < count) {
+            return false;
+        }
+
+        safeSetByteBuf(output, buffer.slice(buffer.readerIndex() + skip, count - TERMINATOR_LENGTH - skip), command);
+
+        buffer.skipBytes(count);
+        buffer.markReaderIndex();
+
+        return true;
+    }
+
+    /**
+     * Pass the readable part of a bulk string to a {@link ChunkedOutput} without waiting for the whole bulk string to arrive.
+     * Updates {@link State#count} with the number of remaining bytes.
+     *
+     * @param buffer the buffer to read from.
+     * @param state the current state. {@link State#count} contains the number of remaining bytes including the terminator.
+     * @param output the output.
+     * @param command the command.
+     * @return {@literal true} if the bulk string was consumed completely, {@literal false} if more data is required.
+     */
+    private boolean readChunk(ByteBuf buffer, State state, ChunkedOutput output, RedisCommand<?, ?, ?> command) {
+
+        int remaining = state.count - TERMINATOR_LENGTH;
+
+        if (remaining > 0) {
+
+            int chunkSize = Math.min(buffer.readableBytes(), remaining);
+            boolean last = buffer.readableBytes() >= state.count;
+
+            if (chunkSize == 0) {
+                return false;
+            }
+
+            safeSetChunk(output, buffer.nioBuffer(buffer.readerIndex(), chunkSize), last, command);
+
+            buffer.skipBytes(chunkSize);
+            state.count -= chunkSize;
+
+            if (!last) {
+                buffer.markReaderIndex();
+                return false;
+            }
+        } else {
+
+            if (buffer.readableBytes() < state.count) {
+                return false;
+            }
+
+            safeSetChunk(output, EMPTY_BUFFER.duplicate(), true, command);
+        }
+
+        buffer.skipBytes(TERMINATOR_LENGTH);
+        buffer.markReaderIndex();
+
+        return true;
+    }
+
     private ByteBuffer readBytes0(ByteBuf buffer, int count) {
 
         ByteBuffer bytes;
@@ -682,6 +804,42 @@ public class RedisStateMachine {
         }
     }
 
+    /**
+     * Safely sets {@link ByteBufOutput#set(ByteBuf)}. Completes a command exceptionally in case an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param command
+     * @since 6.0
+     */
+    protected void safeSetByteBuf(CommandOutput<?, ?, ?> output, ByteBuf bytes, RedisCommand<?, ?, ?> command) {
+
+        try {
+            ((ByteBufOutput) output).set(bytes);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Safely sets {@link ChunkedOutput#setChunk(ByteBuffer, boolean)}. Completes a command exceptionally in case an exception
+     * occurs.
+     *
+     * @param output
+     * @param chunk
+     * @param last
+     * @param command
+     * @since 6.0
+     */
+    protected void safeSetChunk(ChunkedOutput output, ByteBuffer chunk, boolean last, RedisCommand<?, ?, ?> command) {
+
+        try {
+            output.setChunk(chunk, last);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#set(ByteBuffer)}. Completes a command exceptionally in case an exception occurs.
      *
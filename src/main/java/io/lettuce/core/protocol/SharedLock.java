@@ -24,7 +24,8 @@ import io.lettuce.core.internal.LettuceAssert;
  * Shared locking facade that supports shared and exclusive locking.
  * <p>
  * Multiple shared locks (writers) are allowed concurrently to process their work. If an exclusive lock is requested, the
- * exclusive lock requestor will wait until all shared locks are released and the exclusive worker is permitted.
+ * exclusive lock requestor will wait until all shared locks are released and the exclusive worker is permitted. Shared locks
+ * are acquired without entering the monitor as long as no exclusive lock is requested or held.
  * <p>
  * Exclusive locking is reentrant. An exclusive lock owner is permitted to acquire and release shared locks. Shared/exclusive
  * lock requests by other threads than the thread which holds the exclusive lock, are forced to wait until the exclusive lock is
@@ -36,6 +37,7 @@ class SharedLock {
 
     private final AtomicLong writers = new AtomicLong();
     private volatile Thread exclusiveLockOwner;
+    private volatile boolean exclusivePending;
 
     /**
      * Wait for stateLock and increment writers. Will wait if stateLock is locked and if writer counter is negative.
@@ -46,6 +48,19 @@ class SharedLock {
             return;
         }
 
+        // fast path: no exclusive lock requested, avoid monitor contention across concurrent writers.
+        while (!exclusivePending) {
+
+            long current = writers.get();
+            if (current < 0) {
+                break;
+            }
+
+            if (writers.compareAndSet(current, current + 1)) {
+                return;
+            }
+        }
+
         synchronized (this) {
             for (;;) {
 
@@ -119,10 +134,13 @@ class SharedLock {
         }
 
         synchronized (this) {
+
+            exclusivePending = true;
             for (;;) {
 
                 if (writers.compareAndSet(0, -1)) {
                     exclusiveLockOwner = Thread.currentThread();
+                    exclusivePending = false;
                     return;
                 }
             }
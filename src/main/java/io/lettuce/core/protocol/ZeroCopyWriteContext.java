@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * Per-thread context collecting large arguments that are written without copying them into the command buffer. Arguments are
+ * recorded as segments along with the {@link ByteBuf#writerIndex() writer index} of the command buffer at which they are
+ * inserted. {@link #toByteBuf(ByteBufAllocator)} interleaves slices of the command buffer with the recorded segments into a
+ * {@link CompositeByteBuf} so the transport can write all parts using a single gathering write.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+final class ZeroCopyWriteContext {
+
+    /**
+     * Minimum argument size in bytes that is considered for zero-copy writes. Smaller arguments are always copied as the cost
+     * of an additional buffer component outweighs the copy.
+     */
+    static final int MINIMUM_THRESHOLD = 1024;
+
+    private static final FastThreadLocal<ZeroCopyWriteContext> CURRENT = new FastThreadLocal<>();
+
+    private final ByteBuf target;
+
+    private final int threshold;
+
+    private final List<Segment> segments = new ArrayList<>();
+
+    private ZeroCopyWriteContext(ByteBuf target, int threshold) {
+        this.target = target;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Open a new {@link ZeroCopyWriteContext} for the current thread. The context must be {@link #close() closed} after
+     * encoding.
+     *
+     * @param target the command buffer.
+     * @param threshold the zero-copy threshold in bytes.
+     * @return the opened context.
+     */
+    static ZeroCopyWriteContext open(ByteBuf target, int threshold) {
+
+        ZeroCopyWriteContext context = new ZeroCopyWriteContext(target, threshold);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Check whether an argument of {@code size} bytes should be written to {@code target} without copying.
+     *
+     * @param target the command buffer.
+     * @param size argument size in bytes.
+     * @return {@literal true} if the argument should be added through {@link #addSegment(ByteBuf, ByteBuf)}.
+     */
+    static boolean isZeroCopy(ByteBuf target, int size) {
+
+        if (size < MINIMUM_THRESHOLD) {
+            return false;
+        }
+
+        ZeroCopyWriteContext context = CURRENT.getIfExists();
+        return context != null && context.target == target && size >= context.threshold;
+    }
+
+    /**
+     * Add a segment at the current writer index of {@code target}. Takes ownership of {@code segment}.
+     *
+     * @param target the command buffer.
+     * @param segment the argument content.
+     */
+    static void addSegment(ByteBuf target, ByteBuf segment) {
+        CURRENT.get().segments.add(new Segment(target.writerIndex(), segment));
+    }
+
+    /**
+     * Discard segments that were added after the current writer index of {@code target}, typically after
+     * {@link ByteBuf#resetWriterIndex() resetting} the buffer due to an encoding failure.
+     *
+     * @param target the command buffer.
+     */
+    static void discard(ByteBuf target) {
+
+        ZeroCopyWriteContext context = CURRENT.getIfExists();
+
+        if (context == null || context.target != target) {
+            return;
+        }
+
+        List<Segment> segments = context.segments;
+        while (!segments.isEmpty() && segments.get(segments.size() - 1).position > target.writerIndex()) {
+            segments.remove(segments.size() - 1).content.release();
+        }
+    }
+
+    /**
+     * Create the buffer to write. Returns the command buffer if no segments were added. Otherwise returns a
+     * {@link CompositeByteBuf} and releases the command buffer.
+     *
+     * @param alloc the allocator.
+     * @return the buffer to write.
+     */
+    ByteBuf toByteBuf(ByteBufAllocator alloc) {
+
+        if (segments.isEmpty()) {
+            return target;
+        }
+
+        CompositeByteBuf composite = alloc.compositeBuffer(segments.size() * 2 + 1);
+        int position = target.readerIndex();
+
+        for (Segment segment : segments) {
+
+            if (segment.position > position) {
+                composite.addComponent(true, target.retainedSlice(position, segment.position - position));
+                position = segment.position;
+            }
+
+            composite.addComponent(true, segment.content);
+        }
+
+        if (target.writerIndex() > position) {
+            composite.addComponent(true, target.retainedSlice(position, target.writerIndex() - position));
+        }
+
+        segments.clear();
+        target.release();
+
+        return composite;
+    }
+
+    /**
+     * Release all segments that were not yet transferred.
+     */
+    void release() {
+
+        for (Segment segment : segments) {
+            segment.content.release();
+        }
+
+        segments.clear();
+    }
+
+    /**
+     * Close this context and detach it from the current thread.
+     */
+    void close() {
+        CURRENT.remove();
+    }
+
+    static class Segment {
+
+        final int position;
+
+        final ByteBuf content;
+
+        Segment(int position, ByteBuf content) {
+            this.position = position;
+            this.content = content;
+        }
+    }
+}
@@ -130,6 +130,15 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
         return super.canDecode(buffer) && output.type() == null;
     }
 
+    /**
+     * Pub/Sub messages are received as push messages when using RESP3. {@link PubSubCommandHandler} decodes these through
+     * {@link PubSubOutput} and therefore does not use generic push message dispatch.
+     */
+    @Override
+    protected boolean isPushDecode(ByteBuf buffer) {
+        return false;
+    }
+
     @Override
     protected boolean canComplete(RedisCommand<?, ?, ?> command) {
 
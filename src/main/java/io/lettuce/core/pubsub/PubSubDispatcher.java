@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Serial dispatcher for Pub/Sub notifications of a single connection. Notifications are queued by the I/O thread and
+ * delivered on an {@link Executor} in the order they were received. At most one delivery loop is active at a time so
+ * listeners observe notifications sequentially. The loop yields the executor thread after a batch of notifications to not
+ * monopolize a shared thread.
+ * <p>
+ * The queue is bounded by {@link PubSubDispatchOptions#getQueueCapacity()}. Overflow is handled according to the
+ * {@link OverflowPolicy}. {@link OverflowPolicy#PAUSE_READING} disables reading from the connection once the queue reaches
+ * its capacity and enables reading again when the queue was drained to half of its capacity.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class PubSubDispatcher<T> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubDispatcher.class);
+
+    private static final int BATCH_SIZE = 256;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final int capacity;
+
+    private final int resumeThreshold;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Executor executor;
+
+    private final Consumer<T> listener;
+
+    private final Consumer<Boolean> readControl;
+
+    private volatile boolean paused;
+
+    /**
+     * Create a new {@link PubSubDispatcher}.
+     *
+     * @param options the dispatch options.
+     * @param executor executor to deliver notifications.
+     * @param listener callback to deliver a single notification.
+     * @param readControl callback to enable ({@literal true}) or disable ({@literal false}) reading from the connection.
+     */
+    PubSubDispatcher(PubSubDispatchOptions options, Executor executor, Consumer<T> listener, Consumer<Boolean> readControl) {
+
+        this.capacity = options.getQueueCapacity();
+        this.resumeThreshold = capacity / 2;
+        this.overflowPolicy = options.getOverflowPolicy();
+        this.executor = executor;
+        this.listener = listener;
+        this.readControl = readControl;
+    }
+
+    /**
+     * Queue a notification for delivery. Must be called from a single thread.
+     *
+     * @param notification the notification.
+     */
+    void dispatch(T notification) {
+
+        if (size.get() >= capacity) {
+
+            if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                logger.debug("Pub/Sub dispatch queue full, dropping newest notification");
+                return;
+            }
+
+            if (overflowPolicy == OverflowPolicy.DROP_OLDEST && queue.poll() != null) {
+                size.decrementAndGet();
+                logger.debug("Pub/Sub dispatch queue full, dropping oldest notification");
+            }
+        }
+
+        queue.offer(notification);
+
+        if (size.incrementAndGet() >= capacity && overflowPolicy == OverflowPolicy.PAUSE_READING && !paused) {
+            pause();
+        }
+
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * @return {@literal true} if reading from the connection is paused.
+     */
+    boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * @return number of queued notifications.
+     */
+    int size() {
+        return size.get();
+    }
+
+    private void drain() {
+
+        int missed = wip.get();
+        int delivered = 0;
+
+        for (;;) {
+
+            T notification;
+            while ((notification = queue.poll()) != null) {
+
+                size.decrementAndGet();
+
+                try {
+                    listener.accept(notification);
+                } catch (Exception e) {
+                    logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+                }
+
+                if (paused && size.get() <= resumeThreshold) {
+                    resume();
+                }
+
+                if (++delivered == BATCH_SIZE) {
+                    executor.execute(this::drain);
+                    return;
+                }
+            }
+
+            if (paused) {
+                resume();
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private synchronized void pause() {
+
+        if (!paused && size.get() >= capacity) {
+
+            logger.debug("Pub/Sub dispatch queue full, pausing reads");
+            paused = true;
+            readControl.accept(false);
+        }
+    }
+
+    private synchronized void resume() {
+
+        if (paused && size.get() <= resumeThreshold) {
+
+            logger.debug("Pub/Sub dispatch queue drained, resuming reads");
+            paused = false;
+            readControl.accept(true);
+        }
+    }
+
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.DefaultEndpoint;
@@ -40,6 +41,7 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
     private final List<RedisPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
     private final Set<Wrapper<K>> channels;
     private final Set<Wrapper<K>> patterns;
+    private final PubSubDispatcher<PubSubOutput<K, V, V>> dispatcher;
     private volatile boolean subscribeWritten = false;
 
     static {
@@ -70,6 +72,10 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
         this.channels = ConcurrentHashMap.newKeySet();
         this.patterns = ConcurrentHashMap.newKeySet();
+
+        PubSubDispatchOptions dispatchOptions = clientOptions.getPubSubDispatchOptions();
+        this.dispatcher = dispatchOptions.isEnabled() ? new PubSubDispatcher<>(dispatchOptions,
+                clientResources.eventExecutorGroup(), this::notifyListeners, this::setAutoRead) : null;
     }
 
     /**
@@ -113,6 +119,11 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
     @Override
     public void notifyChannelActive(Channel channel) {
         subscribeWritten = false;
+
+        if (dispatcher != null && dispatcher.isPaused()) {
+            channel.config().setAutoRead(false);
+        }
+
         super.notifyChannelActive(channel);
     }
 
@@ -196,6 +207,12 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
         }
 
         updateInternalState(output);
+
+        if (dispatcher != null) {
+            dispatcher.dispatch(output);
+            return;
+        }
+
         try {
             notifyListeners(output);
         } catch (Exception e) {
@@ -231,6 +248,15 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
         }
     }
 
+    private void setAutoRead(boolean autoRead) {
+
+        Channel channel = this.channel;
+
+        if (channel != null) {
+            channel.config().setAutoRead(autoRead);
+        }
+    }
+
     private void updateInternalState(PubSubOutput<K, V, V> output) {
         // update internal state
         switch (output.type()) {
@@ -15,6 +15,7 @@
  */
 package io.lettuce.core.resource;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -22,6 +23,8 @@ import io.lettuce.core.event.EventBus;
 import io.lettuce.core.event.EventPublisherOptions;
 import io.lettuce.core.metrics.CommandLatencyCollector;
 import io.lettuce.core.metrics.CommandLatencyCollectorOptions;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
 import io.lettuce.core.tracing.Tracing;
 import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
@@ -41,6 +44,8 @@ import io.netty.util.concurrent.Future;
  * <li>{@link EventBus} for client event dispatching</li>
  * <li>{@link EventPublisherOptions}</li>
  * <li>{@link CommandLatencyCollector} to collect latency details. Requires the {@literal HdrHistogram} library.</li>
+ * <li>{@link CommandLatencyRecorder} and {@link ConnectionMetricsRecorder} to report command latencies and connection state
+ * to a metrics system.</li>
  * <li>{@link DnsResolver} to collect latency details. Requires the {@literal LatencyUtils} library.</li>
  * <li>Reconnect {@link Delay}.</li>
  * <li>{@link Tracing} to trace Redis commands.</li>
@@ -94,6 +99,24 @@ public interface ClientResources {
          */
         Builder commandLatencyCollectorOptions(CommandLatencyCollectorOptions commandLatencyCollectorOptions);
 
+        /**
+         * Sets the {@link CommandLatencyRecorder} that receives latencies of each completed command.
+         *
+         * @param commandLatencyRecorder the command latency recorder, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        Builder commandLatencyRecorder(CommandLatencyRecorder commandLatencyRecorder);
+
+        /**
+         * Sets the {@link ConnectionMetricsRecorder} that is notified about connection activation and deactivation.
+         *
+         * @param connectionMetricsRecorder the connection metrics recorder, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        Builder connectionMetricsRecorder(ConnectionMetricsRecorder connectionMetricsRecorder);
+
         /**
          * Sets the {@link EventPublisherOptions} to publish command latency metrics using the {@link EventBus}.
          *
@@ -212,6 +235,16 @@ public interface ClientResources {
          */
         Builder timer(Timer timer);
 
+        /**
+         * Sets the tick duration of the default {@link io.netty.util.HashedWheelTimer}. A coarser tick reduces timer overhead
+         * at the cost of scheduling precision. The tick duration is only effective if no {@code timer} is provided.
+         *
+         * @param timerTickDuration the tick duration, must not be {@literal null} and must be greater zero.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        Builder timerTickDuration(Duration timerTickDuration);
+
         /**
          * Sets the {@link Tracing} instance to trace Redis calls.
          *
@@ -323,6 +356,27 @@ public interface ClientResources {
      */
     CommandLatencyCollector commandLatencyCollector();
 
+    /**
+     * Returns the {@link CommandLatencyRecorder} that receives latencies of each completed command. Defaults to
+     * {@link #commandLatencyCollector()}.
+     *
+     * @return the command latency recorder.
+     * @since 6.0
+     */
+    default CommandLatencyRecorder commandLatencyRecorder() {
+        return commandLatencyCollector();
+    }
+
+    /**
+     * Returns the {@link ConnectionMetricsRecorder} that is notified about connection activation and deactivation.
+     *
+     * @return the connection metrics recorder.
+     * @since 6.0
+     */
+    default ConnectionMetricsRecorder connectionMetricsRecorder() {
+        return ConnectionMetricsRecorder.disabled();
+    }
+
     /**
      * Returns the {@link DnsResolver}.
      *
@@ -15,6 +15,7 @@
  */
 package io.lettuce.core.resource;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -29,6 +30,8 @@ import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceLists;
 import io.lettuce.core.metrics.CommandLatencyCollector;
 import io.lettuce.core.metrics.CommandLatencyCollectorOptions;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollector;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
 import io.lettuce.core.resource.Delay.StatefulDelay;
@@ -60,6 +63,7 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  * <li>a {@code dnsResolver} which is a provided instance of {@link DnsResolver}.</li>
  * <li>a {@code socketAddressResolver} which is a provided instance of {@link SocketAddressResolver}.</li>
  * <li>a {@code timer} that is a provided instance of {@link io.netty.util.HashedWheelTimer}.</li>
+ * <li>a {@code timerTickDuration} for the default {@link io.netty.util.HashedWheelTimer}.</li>
  * <li>a {@code nettyCustomizer} that is a provided instance of {@link NettyCustomizer}.</li>
  * <li>a {@code tracerProvider} that is a provided instance of {@link TracerProvider}.</li>
  * </ul>
@@ -94,6 +98,11 @@ public class DefaultClientResources implements ClientResources {
      */
     public static final NettyCustomizer DEFAULT_NETTY_CUSTOMIZER = DefaultNettyCustomizer.INSTANCE;
 
+    /**
+     * Default tick duration of the {@link HashedWheelTimer}.
+     */
+    public static final Duration DEFAULT_TIMER_TICK_DURATION = Duration.ofMillis(100);
+
     static {
 
         int threads = Math.max(1, SystemPropertyUtil.getInt("io.netty.eventLoopThreads",
@@ -115,6 +124,8 @@ public class DefaultClientResources implements ClientResources {
     private final EventBus eventBus;
     private final CommandLatencyCollector commandLatencyCollector;
     private final boolean sharedCommandLatencyCollector;
+    private final CommandLatencyRecorder commandLatencyRecorder;
+    private final ConnectionMetricsRecorder connectionMetricsRecorder;
     private final EventPublisherOptions commandLatencyPublisherOptions;
     private final MetricEventPublisher metricEventPublisher;
     private final DnsResolver dnsResolver;
@@ -162,7 +173,8 @@ public class DefaultClientResources implements ClientResources {
         }
 
         if (builder.timer == null) {
-            timer = new HashedWheelTimer(new DefaultThreadFactory("lettuce-timer"));
+            timer = new HashedWheelTimer(new DefaultThreadFactory("lettuce-timer"), builder.timerTickDuration.toNanos(),
+                    TimeUnit.NANOSECONDS);
             sharedTimer = false;
         } else {
             timer = builder.timer;
@@ -175,7 +187,12 @@ public class DefaultClientResources implements ClientResources {
             eventBus = builder.eventBus;
         }
 
-        if (builder.commandLatencyCollector == null) {
+        if (builder.commandLatencyCollector == null && builder.commandLatencyRecorder != null) {
+
+            builder.commandLatencyCollectorOptions = CommandLatencyCollectorOptions.disabled();
+            commandLatencyCollector = CommandLatencyCollector.disabled();
+            sharedCommandLatencyCollector = false;
+        } else if (builder.commandLatencyCollector == null) {
             if (DefaultCommandLatencyCollector.isAvailable()) {
                 if (builder.commandLatencyCollectorOptions != null) {
                     commandLatencyCollector = CommandLatencyCollector.create(builder.commandLatencyCollectorOptions);
@@ -194,6 +211,9 @@ public class DefaultClientResources implements ClientResources {
             commandLatencyCollector = builder.commandLatencyCollector;
         }
 
+        commandLatencyRecorder = builder.commandLatencyRecorder != null ? builder.commandLatencyRecorder
+                : commandLatencyCollector;
+        connectionMetricsRecorder = builder.connectionMetricsRecorder;
         commandLatencyPublisherOptions = builder.commandLatencyPublisherOptions;
 
         if (commandLatencyCollector.isEnabled() && commandLatencyPublisherOptions != null) {
@@ -253,9 +273,12 @@ public class DefaultClientResources implements ClientResources {
         private EventExecutorGroup eventExecutorGroup;
         private EventLoopGroupProvider eventLoopGroupProvider;
         private Timer timer;
+        private Duration timerTickDuration = DEFAULT_TIMER_TICK_DURATION;
         private EventBus eventBus;
         private CommandLatencyCollectorOptions commandLatencyCollectorOptions = DefaultCommandLatencyCollectorOptions.create();
         private CommandLatencyCollector commandLatencyCollector;
+        private CommandLatencyRecorder commandLatencyRecorder;
+        private ConnectionMetricsRecorder connectionMetricsRecorder = ConnectionMetricsRecorder.disabled();
         private EventPublisherOptions commandLatencyPublisherOptions = DefaultEventPublisherOptions.create();
         private DnsResolver dnsResolver = DnsResolvers.UNRESOLVED;
         private SocketAddressResolver socketAddressResolver;
@@ -356,6 +379,26 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the tick duration of the default {@link HashedWheelTimer}. A coarser tick reduces timer overhead at the cost of
+         * scheduling precision. The tick duration is only effective if no {@code timer} is provided. Defaults to
+         * {@link #DEFAULT_TIMER_TICK_DURATION}.
+         *
+         * @param timerTickDuration the tick duration, must not be {@literal null} and must be greater zero.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        @Override
+        public Builder timerTickDuration(Duration timerTickDuration) {
+
+            LettuceAssert.notNull(timerTickDuration, "Timer tick duration must not be null");
+            LettuceAssert.isTrue(!timerTickDuration.isNegative() && !timerTickDuration.isZero(),
+                    "Timer tick duration must be greater zero");
+
+            this.timerTickDuration = timerTickDuration;
+            return this;
+        }
+
         /**
          * Sets the {@link EventBus} that can that can be used across different instances of the RedisClient.
          *
@@ -419,6 +462,42 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the {@link CommandLatencyRecorder} that receives latencies of each completed command. Setting a
+         * {@link CommandLatencyRecorder} disables the default {@link CommandLatencyCollector} unless a
+         * {@code commandLatencyCollector} is configured explicitly. Defaults to the configured
+         * {@link CommandLatencyCollector}.
+         *
+         * @param commandLatencyRecorder the command latency recorder, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        @Override
+        public Builder commandLatencyRecorder(CommandLatencyRecorder commandLatencyRecorder) {
+
+            LettuceAssert.notNull(commandLatencyRecorder, "CommandLatencyRecorder must not be null");
+
+            this.commandLatencyRecorder = commandLatencyRecorder;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ConnectionMetricsRecorder} that is notified about connection activation and deactivation. Defaults
+         * to {@link ConnectionMetricsRecorder#disabled()}.
+         *
+         * @param connectionMetricsRecorder the connection metrics recorder, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        @Override
+        public Builder connectionMetricsRecorder(ConnectionMetricsRecorder connectionMetricsRecorder) {
+
+            LettuceAssert.notNull(connectionMetricsRecorder, "ConnectionMetricsRecorder must not be null");
+
+            this.connectionMetricsRecorder = connectionMetricsRecorder;
+            return this;
+        }
+
         /**
          * Sets the {@link SocketAddressResolver} that is used to resolve {@link io.lettuce.core.RedisURI} to
          * {@link java.net.SocketAddress}. Defaults to {@link SocketAddressResolver} using the configured {@link DnsResolver}.
@@ -551,11 +630,16 @@ public class DefaultClientResources implements ClientResources {
 
         builder.eventExecutorGroup(eventExecutorGroup()).timer(timer()).eventBus(eventBus())
                 .commandLatencyCollector(commandLatencyCollector())
+                .connectionMetricsRecorder(connectionMetricsRecorder())
                 .commandLatencyPublisherOptions(commandLatencyPublisherOptions()).dnsResolver(dnsResolver())
                 .socketAddressResolver(socketAddressResolver()).reconnectDelay(reconnectDelay)
                 .nettyCustomizer(nettyCustomizer()).tracing(tracing());
 
         builder.sharedCommandLatencyCollector = sharedEventLoopGroupProvider;
+
+        if (commandLatencyRecorder != commandLatencyCollector) {
+            builder.commandLatencyRecorder(commandLatencyRecorder);
+        }
         builder.sharedEventExecutor = sharedEventExecutor;
         builder.sharedEventLoopGroupProvider = sharedEventLoopGroupProvider;
         builder.sharedTimer = sharedTimer;
@@ -662,6 +746,16 @@ public class DefaultClientResources implements ClientResources {
         return commandLatencyCollector;
     }
 
+    @Override
+    public CommandLatencyRecorder commandLatencyRecorder() {
+        return commandLatencyRecorder;
+    }
+
+    @Override
+    public ConnectionMetricsRecorder connectionMetricsRecorder() {
+        return connectionMetricsRecorder;
+    }
+
     @Override
     public EventPublisherOptions commandLatencyPublisherOptions() {
         return commandLatencyPublisherOptions;
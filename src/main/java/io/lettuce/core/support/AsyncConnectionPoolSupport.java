@@ -15,16 +15,27 @@
  */
 package io.lettuce.core.support;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.ExceptionFactory;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.support.ConnectionWrapping.HasTargetConnection;
 import io.lettuce.core.support.ConnectionWrapping.Origin;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 
 /**
  * Asynchronous connection pool support for {@link BoundedAsyncPool}. Connection pool creation requires a {@link Supplier} that
@@ -101,16 +112,46 @@ public abstract class AsyncConnectionPoolSupport {
      * @param <T> connection type.
      * @return the connection pool.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
             Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+        return createBoundedObjectPool(connectionSupplier, config, wrapConnections, null);
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier}. The pool expires waiters using
+     * {@link ClientResources#timer()} and runs its maintenance task on {@link ClientResources#eventExecutorGroup()}. Idle
+     * connections are validated with {@literal PING} if {@link BoundedPoolConfig#isTestWhileIdle()} is enabled. Connections
+     * that do not respond within their {@link StatefulConnection#getTimeout() timeout} are considered invalid.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param clientResources must not be {@literal null}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     * @since 6.0
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, ClientResources clientResources) {
+
+        LettuceAssert.notNull(clientResources, "ClientResources must not be null");
+
+        return createBoundedObjectPool(connectionSupplier, config, true, clientResources);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections,
+            ClientResources clientResources) {
 
         LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
         LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
 
         AtomicReference<Origin<T>> poolRef = new AtomicReference<>();
 
-        BoundedAsyncPool<T> pool = new BoundedAsyncPool<T>(new RedisPooledObjectFactory<T>(connectionSupplier), config) {
+        Timer timer = clientResources != null ? clientResources.timer() : BoundedAsyncPool.DefaultTimer.INSTANCE;
+
+        BoundedAsyncPool<T> pool = new BoundedAsyncPool<T>(new RedisPooledObjectFactory<T>(connectionSupplier, timer), config,
+                timer, clientResources != null ? clientResources.eventExecutorGroup() : null) {
 
             @Override
             public CompletableFuture<T> acquire() {
@@ -148,8 +189,11 @@ public abstract class AsyncConnectionPoolSupport {
 
         private final Supplier<CompletionStage<T>> connectionSupplier;
 
-        RedisPooledObjectFactory(Supplier<CompletionStage<T>> connectionSupplier) {
+        private final Timer timer;
+
+        RedisPooledObjectFactory(Supplier<CompletionStage<T>> connectionSupplier, Timer timer) {
             this.connectionSupplier = connectionSupplier;
+            this.timer = timer;
         }
 
         @Override
@@ -166,6 +210,31 @@ public abstract class AsyncConnectionPoolSupport {
         public CompletableFuture<Boolean> validate(T object) {
             return CompletableFuture.completedFuture(object.isOpen());
         }
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        public CompletableFuture<Boolean> validateIdle(T object) {
+
+            if (!object.isOpen()) {
+                return CompletableFuture.completedFuture(false);
+            }
+
+            AsyncCommand<String, String, String> ping = new AsyncCommand<>(
+                    new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+
+            Duration timeout = object.getTimeout();
+            Timeout expiry = timer.newTimeout(
+                    it -> ping.completeExceptionally(ExceptionFactory.createTimeoutException("PING", timeout)),
+                    timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+            ((StatefulConnection) object).dispatch(ping);
+
+            return ping.handle((response, throwable) -> {
+
+                expiry.cancel();
+                return throwable == null && "PONG".equalsIgnoreCase(response);
+            });
+        }
     }
 
     private static class AsyncPoolWrapper<T> implements Origin<T> {
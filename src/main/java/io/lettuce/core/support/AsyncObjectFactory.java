@@ -57,4 +57,17 @@ public interface AsyncObjectFactory<T> {
      * @return {@literal false} if {@code object} is not valid and should be dropped from the pool, {@literal true} otherwise.
      */
     CompletableFuture<Boolean> validate(T object);
+
+    /**
+     * Ensures that an idle instance is still usable. Called by the pool maintenance task when
+     * {@link BoundedPoolConfig#isTestWhileIdle()} is enabled. Implementations may perform a remote check as validation does
+     * not happen on the acquire path. Defaults to {@link #validate(Object)}.
+     *
+     * @param object the idle instance to be validated.
+     * @return {@literal false} if {@code object} is not valid and should be dropped from the pool, {@literal true} otherwise.
+     * @since 6.0
+     */
+    default CompletableFuture<Boolean> validateIdle(T object) {
+        return validate(object);
+    }
 }
@@ -15,16 +15,28 @@
  */
 package io.lettuce.core.support;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
 
 /**
  * Bounded asynchronous object pool. This object pool allows pre-warming with {@link BoundedPoolConfig#getMinIdle() idle}
@@ -33,6 +45,15 @@ import io.lettuce.core.internal.LettuceAssert;
  * Object pool bounds are maintained on a best-effort basis as bounds are maintained upon object request whereas the actual
  * object creation might finish at a later time. You might see temporarily slight differences in object usage vs. pool count due
  * to asynchronous processing vs. protecting the pool from exceed its bounds.
+ * <p>
+ * Acquiring an object from an exhausted pool fails immediately unless {@link BoundedPoolConfig#getMaxWaiters() waiters} are
+ * enabled. Waiters are queued and served in FIFO order once objects are released. Waiting is bounded by
+ * {@link BoundedPoolConfig#getMaxWait()} using a {@link Timer} instead of blocking threads.
+ * <p>
+ * A background maintenance task runs every {@link BoundedPoolConfig#getTimeBetweenEvictionRuns()} if configured. It evicts
+ * objects that were idle longer than {@link BoundedPoolConfig#getMinEvictableIdleTime()} while retaining {@link #getMinIdle()}
+ * idle objects, validates the remaining idle objects if {@link BoundedPoolConfig#isTestWhileIdle()} is enabled and creates
+ * idle objects up to {@link #getMinIdle()}.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -52,23 +73,45 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     private static final IllegalStateException NOT_PART_OF_POOL = unknownStackTrace(new IllegalStateException(
             "Returned object not currently part of this pool"), BoundedAsyncPool.class, "release()");
 
+    private static final NoSuchElementException WAIT_TIMEOUT = unknownStackTrace(
+            new NoSuchElementException("Timeout waiting for idle object"), BoundedAsyncPool.class, "acquire()");
+
     private final int maxTotal;
     private final int maxIdle;
     private final int minIdle;
+    private final int maxWaiters;
+    private final long maxWaitNanos;
+    private final long timeBetweenEvictionRunsNanos;
+    private final long minEvictableIdleTimeNanos;
+    private final boolean testWhileIdle;
+
+    private final Timer timer;
+    private final Executor maintenanceExecutor;
 
     private final AsyncObjectFactory<T> factory;
 
     private final Queue<T> cache;
     private final Queue<T> all;
+    private final Map<T, Long> idleSince = new ConcurrentHashMap<>();
 
     private final AtomicInteger objectCount = new AtomicInteger();
     private final AtomicInteger objectsInCreationCount = new AtomicInteger();
     private final AtomicInteger idleCount = new AtomicInteger();
 
+    private final Queue<Waiter<T>> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitTimeoutCount = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final LongAccumulator maxWaitTime = new LongAccumulator(Math::max, 0);
+
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
 
     private volatile State state = State.ACTIVE;
 
+    private volatile Timeout maintenance;
+
     /**
      * Create a new {@link BoundedAsyncPool} given {@link BasePoolConfig} and {@link AsyncObjectFactory}. The factory creates
      * idle objects upon construction and requires {@link #closeAsync() termination} once it's no longer in use.
@@ -77,6 +120,52 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
      * @param poolConfig must not be {@literal null}.
      */
     public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig) {
+        this(factory, poolConfig, null, null);
+    }
+
+    /**
+     * Create a new {@link BoundedAsyncPool} given {@link BasePoolConfig}, {@link AsyncObjectFactory} and a {@link Timer} to
+     * expire waiters exceeding {@link BoundedPoolConfig#getMaxWait()}. The factory creates idle objects upon construction and
+     * requires {@link #closeAsync() termination} once it's no longer in use.
+     *
+     * @param factory must not be {@literal null}.
+     * @param poolConfig must not be {@literal null}.
+     * @param timer the timer to expire waiters. Uses a shared timer if {@literal null}.
+     * @since 6.0
+     */
+    public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig, Timer timer) {
+        this(factory, poolConfig, timer, null);
+    }
+
+    /**
+     * Create a new {@link BoundedAsyncPool} given {@link BasePoolConfig}, {@link AsyncObjectFactory} and
+     * {@link ClientResources}. Waiters are expired using {@link ClientResources#timer()} and the maintenance task runs on
+     * {@link ClientResources#eventExecutorGroup()}. The factory creates idle objects upon construction and requires
+     * {@link #closeAsync() termination} once it's no longer in use.
+     *
+     * @param factory must not be {@literal null}.
+     * @param poolConfig must not be {@literal null}.
+     * @param clientResources must not be {@literal null}.
+     * @since 6.0
+     */
+    public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig, ClientResources clientResources) {
+        this(factory, poolConfig, clientResources.timer(), clientResources.eventExecutorGroup());
+    }
+
+    /**
+     * Create a new {@link BoundedAsyncPool} given {@link BasePoolConfig}, {@link AsyncObjectFactory}, a {@link Timer} and an
+     * {@link Executor} for the maintenance task. The factory creates idle objects upon construction and requires
+     * {@link #closeAsync() termination} once it's no longer in use.
+     *
+     * @param factory must not be {@literal null}.
+     * @param poolConfig must not be {@literal null}.
+     * @param timer the timer to expire waiters and schedule maintenance. Uses a shared timer if {@literal null}.
+     * @param maintenanceExecutor the executor to run the maintenance task. Runs maintenance on the timer thread if
+     *        {@literal null}.
+     * @since 6.0
+     */
+    protected BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig, Timer timer,
+            Executor maintenanceExecutor) {
 
         super(poolConfig);
 
@@ -85,6 +174,13 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         this.maxTotal = poolConfig.getMaxTotal();
         this.maxIdle = poolConfig.getMaxIdle();
         this.minIdle = poolConfig.getMinIdle();
+        this.maxWaiters = poolConfig.getMaxWaiters();
+        this.maxWaitNanos = poolConfig.getMaxWait().toNanos();
+        this.timeBetweenEvictionRunsNanos = poolConfig.getTimeBetweenEvictionRuns().toNanos();
+        this.minEvictableIdleTimeNanos = poolConfig.getMinEvictableIdleTime().toNanos();
+        this.testWhileIdle = poolConfig.isTestWhileIdle();
+        this.timer = timer;
+        this.maintenanceExecutor = maintenanceExecutor;
 
         this.factory = factory;
 
@@ -92,6 +188,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         this.all = new ConcurrentLinkedQueue<>();
 
         createIdle();
+        scheduleMaintenance();
     }
 
     private void createIdle() {
@@ -117,7 +214,9 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
                 if (isPoolActive()) {
                     idleCount.incrementAndGet();
+                    idleSince.put(it, System.nanoTime());
                     cache.add(it);
+                    serveWaiters();
                 } else {
                     factory.destroy(it);
                 }
@@ -125,6 +224,87 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         }
     }
 
+    private void scheduleMaintenance() {
+
+        if (timeBetweenEvictionRunsNanos <= 0 || !isPoolActive()) {
+            return;
+        }
+
+        maintenance = getTimer().newTimeout(it -> {
+
+            // schedule the next run upfront so slow validations do not delay subsequent runs
+            scheduleMaintenance();
+
+            if (maintenanceExecutor != null) {
+                maintenanceExecutor.execute(this::runMaintenance);
+            } else {
+                runMaintenance();
+            }
+        }, timeBetweenEvictionRunsNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Run the maintenance task: Evict idle objects exceeding the minimum evictable idle time while more than
+     * {@link #getMinIdle()} objects are idle, validate remaining idle objects in a single batch if
+     * {@link BoundedPoolConfig#isTestWhileIdle()} is enabled, and create idle objects up to {@link #getMinIdle()}. Objects
+     * under validation are removed from the idle objects so they cannot be acquired concurrently or by an overlapping run.
+     *
+     * @return a future that completes when the maintenance run is finished.
+     */
+    CompletableFuture<Void> runMaintenance() {
+
+        if (!isPoolActive()) {
+            return COMPLETED;
+        }
+
+        long now = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (T object : cache) {
+
+            Long since = idleSince.get(object);
+            boolean evict = minEvictableIdleTimeNanos >= 0 && since != null && now - since >= minEvictableIdleTimeNanos
+                    && idleCount.get() > getMinIdle();
+
+            if (!evict && !testWhileIdle) {
+                continue;
+            }
+
+            // object was acquired concurrently
+            if (!cache.remove(object)) {
+                continue;
+            }
+
+            idleCount.decrementAndGet();
+
+            if (evict) {
+                futures.add(destroy0(object));
+                continue;
+            }
+
+            CompletableFuture<Void> validation = new CompletableFuture<>();
+            futures.add(validation);
+
+            factory.validateIdle(object).whenComplete((valid, throwable) -> {
+
+                if (valid != null && valid && isPoolActive()) {
+
+                    idleCount.incrementAndGet();
+                    cache.add(object);
+                    serveWaiters();
+                    validation.complete(null);
+                } else {
+                    destroyAndServe(object).whenComplete((v, t) -> validation.complete(null));
+                }
+            });
+        }
+
+        return Futures.allOf(futures).whenComplete((v, t) -> {
+            createIdle();
+            serveWaiters();
+        });
+    }
+
     private int getAvailableCapacity() {
         return getMaxTotal() - (getCreationInProgress() + getObjectCount());
     }
@@ -132,14 +312,112 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     @Override
     public CompletableFuture<T> acquire() {
 
-        T object = cache.poll();
-
         CompletableFuture<T> res = new CompletableFuture<>();
+
+        if (maxWaiters > 0 && isPoolActive()
+                && (waiterCount.get() > 0 || (cache.isEmpty() && getAvailableCapacity() <= 0))) {
+
+            enqueue(res);
+            return res;
+        }
+
+        T object = cache.poll();
         acquire0(object, res);
 
         return res;
     }
 
+    private void enqueue(CompletableFuture<T> res) {
+
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+
+            waiterCount.decrementAndGet();
+            res.completeExceptionally(POOL_EXHAUSTED);
+            return;
+        }
+
+        Waiter<T> waiter = new Waiter<>(res);
+        waiters.add(waiter);
+
+        if (maxWaitNanos >= 0) {
+            waiter.timeout = getTimer().newTimeout(it -> {
+
+                if (removeWaiter(waiter)) {
+                    waitTimeoutCount.increment();
+                    res.completeExceptionally(WAIT_TIMEOUT);
+                }
+            }, maxWaitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        res.whenComplete((o, throwable) -> {
+
+            if (res.isCancelled() && removeWaiter(waiter)) {
+                waiter.cancelTimeout();
+            }
+        });
+
+        // an object might have been returned before the waiter was enqueued
+        serveWaiters();
+    }
+
+    private boolean removeWaiter(Waiter<T> waiter) {
+
+        if (waiters.remove(waiter)) {
+            waiterCount.decrementAndGet();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Hand over idle objects or available capacity to waiters in FIFO order. Waiters are owned by whoever removes them from
+     * the queue so a waiter is either served or expired.
+     */
+    private void serveWaiters() {
+
+        while (waiterCount.get() > 0 && isPoolActive()) {
+
+            T object = cache.poll();
+            boolean reserved = object == null && reserveCapacity();
+
+            if (object == null && !reserved) {
+                return;
+            }
+
+            Waiter<T> waiter = waiters.poll();
+
+            if (waiter == null) {
+
+                // waiter not yet enqueued or concurrently expired: hand back the object or capacity and re-check
+                if (object != null) {
+                    cache.add(object);
+                } else {
+                    objectsInCreationCount.decrementAndGet();
+                }
+                continue;
+            }
+
+            waiterCount.decrementAndGet();
+            waiter.cancelTimeout();
+
+            long waited = System.nanoTime() - waiter.startTime;
+            waitCount.increment();
+            totalWaitTime.add(waited);
+            maxWaitTime.accumulate(waited);
+
+            if (reserved) {
+                createObject(waiter.future);
+            } else {
+                acquire0(object, waiter.future);
+            }
+        }
+    }
+
+    private Timer getTimer() {
+        return timer != null ? timer : DefaultTimer.INSTANCE;
+    }
+
     private void acquire0(T object, CompletableFuture<T> res) {
 
         if (object != null) {
@@ -162,7 +440,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                         return;
                     }
 
-                    destroy0(object).whenComplete((aVoid, th) -> makeObject0(res));
+                    destroy0(object).whenComplete((aVoid, th) -> makeObjectOrWait(res));
                 });
 
                 return;
@@ -178,27 +456,62 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
             return;
         }
 
-        long objects = (long) (getObjectCount() + getCreationInProgress());
+        makeObjectOrWait(res);
+    }
 
-        if ((long) getMaxTotal() >= (objects + 1)) {
-            makeObject0(res);
+    /**
+     * Create a new object if capacity is available. Enqueues {@code res} as waiter if the pool is exhausted and waiters are
+     * enabled.
+     */
+    private void makeObjectOrWait(CompletableFuture<T> res) {
+
+        if (reserveCapacity()) {
+            createObject(res);
             return;
         }
 
-        res.completeExceptionally(POOL_EXHAUSTED);
+        if (maxWaiters > 0 && isPoolActive()) {
+            enqueue(res);
+        } else {
+            res.completeExceptionally(POOL_EXHAUSTED);
+        }
     }
 
     private void makeObject0(CompletableFuture<T> res) {
 
-        long total = getObjectCount();
-        long creations = objectsInCreationCount.incrementAndGet();
+        if (reserveCapacity()) {
+            createObject(res);
+        } else {
+            res.completeExceptionally(POOL_EXHAUSTED);
+        }
+    }
+
+    /**
+     * Reserve capacity for a new object by incrementing the objects in creation count if the pool is not exhausted.
+     *
+     * @return {@literal true} if capacity was reserved.
+     */
+    private boolean reserveCapacity() {
+
+        for (;;) {
 
-        if (((long) getMaxTotal()) < total + creations) {
+            int creations = objectsInCreationCount.get();
 
-            res.completeExceptionally(POOL_EXHAUSTED);
-            objectsInCreationCount.decrementAndGet();
-            return;
+            if ((long) getObjectCount() + creations >= getMaxTotal()) {
+                return false;
+            }
+
+            if (objectsInCreationCount.compareAndSet(creations, creations + 1)) {
+                return true;
+            }
         }
+    }
+
+    /**
+     * Create a new object using capacity that was reserved through {@link #reserveCapacity()}. Releasing the reservation
+     * serves waiters as a failed creation makes capacity available.
+     */
+    private void createObject(CompletableFuture<T> res) {
 
         factory.create().whenComplete(
                 (o, t) -> {
@@ -206,6 +519,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                     if (t != null) {
                         objectsInCreationCount.decrementAndGet();
                         res.completeExceptionally(new IllegalStateException("Cannot allocate object", t));
+                        serveWaiters();
                         return;
                     }
 
@@ -239,6 +553,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                                                         "Cannot allocate object: Validation failed", throwable)));
                                     } finally {
                                         objectsInCreationCount.decrementAndGet();
+                                        serveWaiters();
                                     }
                                 });
 
@@ -264,16 +579,15 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                         factory.destroy(o).whenComplete((v, th) -> res.completeExceptionally(e));
                     } finally {
                         objectsInCreationCount.decrementAndGet();
+                        serveWaiters();
                     }
                 });
     }
 
     private void completeAcquire(CompletableFuture<T> res, T o) {
 
-        if (res.isCancelled()) {
+        if (!res.complete(o)) {
             return0(o);
-        } else {
-            res.complete(o);
         }
     }
 
@@ -291,7 +605,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         }
 
         if (idleCount.get() >= getMaxIdle()) {
-            return destroy0(object);
+            return destroyAndServe(object);
         }
 
         if (isTestOnRelease()) {
@@ -304,7 +618,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                 if (state1 != null && state1) {
                     return0(object).whenComplete((x, y) -> res.complete(null));
                 } else {
-                    destroy0(object).whenComplete((x, y) -> res.complete(null));
+                    destroyAndServe(object).whenComplete((x, y) -> res.complete(null));
                 }
             });
 
@@ -321,18 +635,29 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         if (idleCount > getMaxIdle()) {
 
             this.idleCount.decrementAndGet();
-            return destroy0(object);
+            return destroyAndServe(object);
         }
 
+        idleSince.put(object, System.nanoTime());
         cache.add(object);
+        serveWaiters();
 
         return COMPLETED;
     }
 
+    private CompletableFuture<Void> destroyAndServe(T object) {
+
+        CompletableFuture<Void> destroy = destroy0(object);
+        serveWaiters();
+
+        return destroy;
+    }
+
     private CompletableFuture<Void> destroy0(T object) {
 
         objectCount.decrementAndGet();
         all.remove(object);
+        idleSince.remove(object);
         return factory.destroy(object);
     }
 
@@ -351,9 +676,12 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
             idleCount.decrementAndGet();
             objectCount.decrementAndGet();
             all.remove(cached);
+            idleSince.remove(cached);
             futures.add(factory.destroy(cached));
         }
 
+        serveWaiters();
+
         return Futures.allOf(futures);
     }
 
@@ -371,6 +699,19 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         state = State.TERMINATING;
 
+        Timeout maintenance = this.maintenance;
+        if (maintenance != null) {
+            maintenance.cancel();
+        }
+
+        Waiter<T> waiter;
+        while ((waiter = waiters.poll()) != null) {
+
+            waiterCount.decrementAndGet();
+            waiter.cancelTimeout();
+            waiter.future.completeExceptionally(POOL_SHUTDOWN);
+        }
+
         CompletableFuture<Void> clear = clearAsync();
 
         state = State.TERMINATED;
@@ -442,6 +783,57 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         return objectsInCreationCount.get();
     }
 
+    /**
+     * Returns the number of {@link #acquire() acquire} requests currently waiting for an object.
+     *
+     * @return the number of waiting acquire requests.
+     * @since 6.0
+     */
+    public int getWaiters() {
+        return waiterCount.get();
+    }
+
+    /**
+     * Returns the number of {@link #acquire() acquire} requests that were served after waiting for an object.
+     *
+     * @return the number of served waiters.
+     * @since 6.0
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * Returns the number of {@link #acquire() acquire} requests that failed because they exceeded
+     * {@link BoundedPoolConfig#getMaxWait()}.
+     *
+     * @return the number of expired waiters.
+     * @since 6.0
+     */
+    public long getWaitTimeoutCount() {
+        return waitTimeoutCount.sum();
+    }
+
+    /**
+     * Returns the accumulated time that served waiters spent waiting for an object.
+     *
+     * @return the accumulated wait time.
+     * @since 6.0
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitTime.sum());
+    }
+
+    /**
+     * Returns the longest time a served waiter spent waiting for an object.
+     *
+     * @return the maximum wait time.
+     * @since 6.0
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitTime.get());
+    }
+
     private boolean isPoolActive() {
         return this.state == State.ACTIVE;
     }
@@ -449,4 +841,31 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     enum State {
         ACTIVE, TERMINATING, TERMINATED;
     }
+
+    static class Waiter<T> {
+
+        final CompletableFuture<T> future;
+        final long startTime = System.nanoTime();
+        volatile Timeout timeout;
+
+        Waiter(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        void cancelTimeout() {
+
+            Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+
+    /**
+     * Lazily initialized {@link Timer} shared by pools that do not provide their own timer.
+     */
+    static class DefaultTimer {
+
+        static final Timer INSTANCE = new HashedWheelTimer(new DefaultThreadFactory("lettuce-pool-timer", true));
+    }
 }
@@ -15,6 +15,10 @@
  */
 package io.lettuce.core.support;
 
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
 /**
  * Configuration for asynchronous pooling using {@link BoundedAsyncPool}. Instances can be created through a {@link #builder()}.
  *
@@ -39,18 +43,82 @@ public class BoundedPoolConfig extends BasePoolConfig {
      */
     public static final int DEFAULT_MIN_IDLE = 0;
 
+    /**
+     * The default value for the {@code maxWaiters} configuration attribute. Acquiring from an exhausted pool fails
+     * immediately.
+     *
+     * @since 6.0
+     */
+    public static final int DEFAULT_MAX_WAITERS = 0;
+
+    /**
+     * The default value for the {@code maxWait} configuration attribute. Waiters wait indefinitely.
+     *
+     * @since 6.0
+     */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofMillis(-1);
+
+    /**
+     * The default value for the {@code timeBetweenEvictionRuns} configuration attribute. The maintenance task is disabled.
+     *
+     * @since 6.0
+     */
+    public static final Duration DEFAULT_TIME_BETWEEN_EVICTION_RUNS = Duration.ofMillis(-1);
+
+    /**
+     * The default value for the {@code minEvictableIdleTime} configuration attribute.
+     *
+     * @since 6.0
+     */
+    public static final Duration DEFAULT_MIN_EVICTABLE_IDLE_TIME = Duration.ofMinutes(30);
+
+    /**
+     * The default value for the {@code testWhileIdle} configuration attribute.
+     *
+     * @since 6.0
+     */
+    public static final boolean DEFAULT_TEST_WHILE_IDLE = false;
+
     private final int maxTotal;
     private final int maxIdle;
     private final int minIdle;
+    private final int maxWaiters;
+    private final Duration maxWait;
+    private final Duration timeBetweenEvictionRuns;
+    private final Duration minEvictableIdleTime;
+    private final boolean testWhileIdle;
 
     protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
             int minIdle) {
+        this(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, DEFAULT_MAX_WAITERS, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * @since 6.0
+     */
+    protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
+            int minIdle, int maxWaiters, Duration maxWait) {
+        this(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, maxWaiters, maxWait,
+                DEFAULT_TIME_BETWEEN_EVICTION_RUNS, DEFAULT_MIN_EVICTABLE_IDLE_TIME, DEFAULT_TEST_WHILE_IDLE);
+    }
+
+    /**
+     * @since 6.0
+     */
+    protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
+            int minIdle, int maxWaiters, Duration maxWait, Duration timeBetweenEvictionRuns, Duration minEvictableIdleTime,
+            boolean testWhileIdle) {
 
         super(testOnCreate, testOnAcquire, testOnRelease);
 
         this.maxTotal = maxTotal;
         this.maxIdle = maxIdle;
         this.minIdle = minIdle;
+        this.maxWaiters = maxWaiters;
+        this.maxWait = maxWait;
+        this.timeBetweenEvictionRuns = timeBetweenEvictionRuns;
+        this.minEvictableIdleTime = minEvictableIdleTime;
+        this.testWhileIdle = testWhileIdle;
     }
 
     /**
@@ -93,6 +161,58 @@ public class BoundedPoolConfig extends BasePoolConfig {
         return minIdle;
     }
 
+    /**
+     * Get the value for the {@code maxWaiters} configuration attribute for pools created with this configuration instance.
+     *
+     * @return the current setting of {@code maxWaiters} for this configuration instance.
+     * @since 6.0
+     */
+    public int getMaxWaiters() {
+        return maxWaiters;
+    }
+
+    /**
+     * Get the value for the {@code maxWait} configuration attribute for pools created with this configuration instance.
+     *
+     * @return the current setting of {@code maxWait} for this configuration instance.
+     * @since 6.0
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Get the value for the {@code timeBetweenEvictionRuns} configuration attribute for pools created with this configuration
+     * instance.
+     *
+     * @return the current setting of {@code timeBetweenEvictionRuns} for this configuration instance.
+     * @since 6.0
+     */
+    public Duration getTimeBetweenEvictionRuns() {
+        return timeBetweenEvictionRuns;
+    }
+
+    /**
+     * Get the value for the {@code minEvictableIdleTime} configuration attribute for pools created with this configuration
+     * instance.
+     *
+     * @return the current setting of {@code minEvictableIdleTime} for this configuration instance.
+     * @since 6.0
+     */
+    public Duration getMinEvictableIdleTime() {
+        return minEvictableIdleTime;
+    }
+
+    /**
+     * Get the value for the {@code testWhileIdle} configuration attribute for pools created with this configuration instance.
+     *
+     * @return the current setting of {@code testWhileIdle} for this configuration instance.
+     * @since 6.0
+     */
+    public boolean isTestWhileIdle() {
+        return testWhileIdle;
+    }
+
     /**
      * Builder for {@link BoundedPoolConfig}.
      */
@@ -101,6 +221,11 @@ public class BoundedPoolConfig extends BasePoolConfig {
         private int maxTotal = DEFAULT_MAX_TOTAL;
         private int maxIdle = DEFAULT_MAX_IDLE;
         private int minIdle = DEFAULT_MIN_IDLE;
+        private int maxWaiters = DEFAULT_MAX_WAITERS;
+        private Duration maxWait = DEFAULT_MAX_WAIT;
+        private Duration timeBetweenEvictionRuns = DEFAULT_TIME_BETWEEN_EVICTION_RUNS;
+        private Duration minEvictableIdleTime = DEFAULT_MIN_EVICTABLE_IDLE_TIME;
+        private boolean testWhileIdle = DEFAULT_TEST_WHILE_IDLE;
 
         protected Builder() {
         }
@@ -189,13 +314,108 @@ public class BoundedPoolConfig extends BasePoolConfig {
             return this;
         }
 
+        /**
+         * Configures the maximum number of {@link BoundedAsyncPool#acquire() acquire} requests that wait for an object when
+         * the pool is exhausted. Waiters are served in FIFO order when objects are released. Acquiring from an exhausted pool
+         * fails immediately if the waiter queue is full. Defaults to {@literal 0} (no waiting), see
+         * {@link #DEFAULT_MAX_WAITERS}.
+         *
+         * @param maxWaiters maximum number of waiting acquire requests. Must not be negative.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder maxWaiters(int maxWaiters) {
+
+            LettuceAssert.isTrue(maxWaiters >= 0, "Max waiters must not be negative");
+
+            this.maxWaiters = maxWaiters;
+            return this;
+        }
+
+        /**
+         * Configures the maximum time an {@link BoundedAsyncPool#acquire() acquire} request waits for an object when the pool
+         * is exhausted. A negative duration waits indefinitely, see {@link #DEFAULT_MAX_WAIT}. Only applies if
+         * {@link #maxWaiters(int)} is greater {@literal 0}.
+         *
+         * @param maxWait maximum wait time, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder maxWait(Duration maxWait) {
+
+            LettuceAssert.notNull(maxWait, "Max wait must not be null");
+
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Configures the period between runs of the pool maintenance task. The maintenance task evicts objects that were idle
+         * longer than {@link #minEvictableIdleTime(Duration)}, validates idle objects if {@link #testWhileIdle()} is enabled
+         * and creates idle objects up to {@link #minIdle(int)}. A zero or negative duration disables the maintenance task, see
+         * {@link #DEFAULT_TIME_BETWEEN_EVICTION_RUNS}.
+         *
+         * @param timeBetweenEvictionRuns period between maintenance runs, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder timeBetweenEvictionRuns(Duration timeBetweenEvictionRuns) {
+
+            LettuceAssert.notNull(timeBetweenEvictionRuns, "Time between eviction runs must not be null");
+
+            this.timeBetweenEvictionRuns = timeBetweenEvictionRuns;
+            return this;
+        }
+
+        /**
+         * Configures the minimum time an object must be idle before it is evicted by the maintenance task, see
+         * {@link #DEFAULT_MIN_EVICTABLE_IDLE_TIME}. A negative duration disables idle eviction.
+         *
+         * @param minEvictableIdleTime minimum idle time before eviction, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder minEvictableIdleTime(Duration minEvictableIdleTime) {
+
+            LettuceAssert.notNull(minEvictableIdleTime, "Min evictable idle time must not be null");
+
+            this.minEvictableIdleTime = minEvictableIdleTime;
+            return this;
+        }
+
+        /**
+         * Enables validation of idle objects by the maintenance task.
+         *
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         * @see AsyncObjectFactory#validateIdle(Object)
+         */
+        public Builder testWhileIdle() {
+            return testWhileIdle(true);
+        }
+
+        /**
+         * Configures whether idle objects are validated by the maintenance task, see {@link #DEFAULT_TEST_WHILE_IDLE}.
+         *
+         * @param testWhileIdle {@literal true} to validate idle objects.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         * @see AsyncObjectFactory#validateIdle(Object)
+         */
+        public Builder testWhileIdle(boolean testWhileIdle) {
+
+            this.testWhileIdle = testWhileIdle;
+            return this;
+        }
+
         /**
          * Build a new {@link BasePoolConfig} object.
          *
          * @return a new {@link BasePoolConfig} object.
          */
         public BoundedPoolConfig build() {
-            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle);
+            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, maxWaiters,
+                    maxWait, timeBetweenEvictionRuns, minEvictableIdleTime, testWhileIdle);
         }
     }
 }
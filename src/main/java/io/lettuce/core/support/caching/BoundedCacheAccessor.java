@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bounded {@link CacheAccessor} using least-recently used eviction and optional per-entry expiry. Access to the underlying
+ * {@link LinkedHashMap} is synchronized as reads update the access order. An optional eviction listener is notified about
+ * entries that are removed due to capacity or expiry while holding the cache lock.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class BoundedCacheAccessor<K, V> implements CacheAccessor<K, V> {
+
+    private final LinkedHashMap<K, Entry<V>> cache;
+
+    private final int maxSize;
+
+    private final long timeToLiveNanos;
+
+    private final Consumer<K> evictionListener;
+
+    BoundedCacheAccessor(int maxSize, long timeToLiveNanos) {
+        this(maxSize, timeToLiveNanos, key -> {
+        });
+    }
+
+    BoundedCacheAccessor(int maxSize, long timeToLiveNanos, Consumer<K> evictionListener) {
+
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.evictionListener = evictionListener;
+        this.cache = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+
+                if (size() > maxSize) {
+                    evictionListener.accept(eldest.getKey());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create a new {@link BoundedCacheAccessor} using the bounds of this accessor.
+     *
+     * @param evictionListener listener notified about entries removed due to capacity or expiry.
+     * @param <T> Key type.
+     * @param <R> Value type.
+     * @return a new, empty {@link BoundedCacheAccessor}.
+     */
+    <T, R> BoundedCacheAccessor<T, R> withSameBounds(Consumer<T> evictionListener) {
+        return new BoundedCacheAccessor<>(maxSize, timeToLiveNanos, evictionListener);
+    }
+
+    @Override
+    public V get(K key) {
+
+        synchronized (cache) {
+
+            Entry<V> entry = cache.get(key);
+
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.isExpired(System.nanoTime())) {
+                cache.remove(key);
+                evictionListener.accept(key);
+                return null;
+            }
+
+            return entry.value;
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+
+        long expiresAt = timeToLiveNanos > 0 ? System.nanoTime() + timeToLiveNanos : 0;
+
+        synchronized (cache) {
+            cache.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    @Override
+    public void evict(K key) {
+
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    int size() {
+
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    static class Entry<V> {
+
+        final V value;
+
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Interface defining common Cache operations used by {@link ClientSideCaching}. Implementations must be thread-safe as
+ * invalidation messages are processed on a different thread than the one accessing the cache.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public interface CacheAccessor<K, V> {
+
+    /**
+     * Obtain a {@link CacheAccessor} for a cache object implementing {@link Map}. The {@link Map} must be thread-safe, for
+     * example {@link java.util.concurrent.ConcurrentHashMap}.
+     *
+     * @param map the cache.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a {@link CacheAccessor} backed by a {@link Map} implementation.
+     */
+    static <K, V> CacheAccessor<K, V> forMap(Map<K, V> map) {
+
+        LettuceAssert.notNull(map, "Map must not be null");
+
+        return new MapCacheAccessor<>(map);
+    }
+
+    /**
+     * Obtain a bounded {@link CacheAccessor} holding at most {@code maxSize} entries. Entries are evicted in least-recently
+     * used order once the cache exceeds its capacity.
+     *
+     * @param maxSize maximum number of cache entries, must be greater than zero.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a bounded {@link CacheAccessor}.
+     */
+    static <K, V> CacheAccessor<K, V> bounded(int maxSize) {
+        return bounded(maxSize, Duration.ZERO);
+    }
+
+    /**
+     * Obtain a bounded {@link CacheAccessor} holding at most {@code maxSize} entries. Entries are evicted in least-recently
+     * used order once the cache exceeds its capacity and expire after {@code timeToLive} has elapsed since they were written.
+     *
+     * @param maxSize maximum number of cache entries, must be greater than zero.
+     * @param timeToLive time to live for cache entries. {@link Duration#ZERO} disables expiry.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a bounded {@link CacheAccessor}.
+     */
+    static <K, V> CacheAccessor<K, V> bounded(int maxSize, Duration timeToLive) {
+
+        LettuceAssert.isTrue(maxSize > 0, "Max size must be greater than zero");
+        LettuceAssert.notNull(timeToLive, "Time to live must not be null");
+        LettuceAssert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+
+        return new BoundedCacheAccessor<>(maxSize, timeToLive.toNanos());
+    }
+
+    /**
+     * Get the value to which the specified key is mapped, or {@literal null} if this cache contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which this cache maps the specified key (which may be {@literal null} itself), or also
+     *         {@literal null} if the cache contains no mapping for this key.
+     */
+    V get(K key);
+
+    /**
+     * Associate the specified value with the specified key in this cache.
+     *
+     * @param key the key with which the specified value is to be associated.
+     * @param value the value to be associated with the specified key.
+     */
+    void put(K key, V value);
+
+    /**
+     * Evict the mapping for this key from this cache if it is present.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     */
+    void evict(K key);
+
+    /**
+     * Evict all mappings from this cache.
+     */
+    void evictAll();
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisException;
+
+/**
+ * Interface defining a cache frontend for common cache retrieval operations using Redis server-assisted client-side caching.
+ * Values are served from the local cache if present and fetched from Redis otherwise. Cached entries are evicted when Redis
+ * sends an invalidation message for the key.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public interface CacheFrontend<K, V> extends Closeable {
+
+    /**
+     * Return the value to which this cache maps the specified key. The value is retrieved using {@code GET} if it is not
+     * cached locally.
+     * <p>
+     * Note: This method does not allow for differentiating between a cached {@literal null} value and no cache entry found
+     * at all.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which this cache maps the specified key (which may be {@literal null} itself), or also
+     *         {@literal null} if the cache contains no mapping for this key.
+     */
+    V get(K key);
+
+    /**
+     * Return the value to which this cache maps the specified key, obtaining that value from {@code valueLoader} if it is not
+     * cached locally. The value is cached under {@code key} so {@code valueLoader} must read a value that is determined by
+     * {@code key} alone, for example {@code GET} using a different codec or {@code GETRANGE} with fixed offsets. Use
+     * {@link #hget(Object, Object)} to cache hash fields.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @param valueLoader the value loader that reads the value of {@code key} from Redis if it is not cached locally.
+     * @return the value to which this cache maps the specified key.
+     * @throws ValueRetrievalException if the {@code valueLoader} throws an exception or returns a {@literal null} value.
+     */
+    V get(K key, Callable<V> valueLoader);
+
+    /**
+     * Return the value of the hash {@code field} stored at {@code key}. The value is retrieved using {@code HGET} if it is not
+     * cached locally. Cached fields are evicted together with {@code key} when Redis invalidates the key. Implementations may
+     * read fields from Redis without caching them if the client-side cache cannot bound the number of cached fields.
+     *
+     * @param key the key of the hash.
+     * @param field the field whose associated value is to be returned.
+     * @return the value of {@code field} or {@literal null} if the hash or the field does not exist.
+     */
+    V hget(K key, K field);
+
+    /**
+     * Return the values for the given {@code keys}. Locally cached values are served from the cache, missing values are
+     * retrieved with a single {@code MGET} command and cached afterwards.
+     *
+     * @param keys the keys whose associated values are to be returned.
+     * @return {@link List} of {@link KeyValue} in the order of {@code keys}.
+     */
+    List<KeyValue<K, V>> mget(K... keys);
+
+    /**
+     * Closes this client-side cache frontend and disables key tracking on the underlying connection. The connection remains
+     * open.
+     */
+    @Override
+    void close();
+
+    /**
+     * Wrapper exception to be thrown from {@link #get(Object, Callable)} in case of the value loader callback failing with an
+     * exception.
+     */
+    @SuppressWarnings("serial")
+    class ValueRetrievalException extends RedisException {
+
+        /**
+         * Create a {@code ValueRetrievalException} with the specified detail message.
+         *
+         * @param msg the detail message.
+         */
+        public ValueRetrievalException(String msg) {
+            super(msg);
+        }
+
+        /**
+         * Create a {@code ValueRetrievalException} with the specified detail message and nested exception.
+         *
+         * @param msg the detail message.
+         * @param cause the nested exception.
+         */
+        public ValueRetrievalException(String msg, Throwable cause) {
+            super(msg, cause);
+        }
+
+    }
+
+}
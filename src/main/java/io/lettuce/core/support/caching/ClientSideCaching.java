@@ -0,0 +1,447 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Utility to provide server-side assistance for client-side caches. This is a {@link CacheFrontend} that represents a
+ * two-level cache backed by a client-side and a Redis cache.
+ * <p>
+ * For example:
+ *
+ * <pre class="code">
+ * CacheFrontend&lt;String, String&gt; frontend = ClientSideCaching.enable(CacheAccessor.bounded(10_000, Duration.ofMinutes(5)),
+ *         connection, StringCodec.UTF8, TrackingArgs.Builder.enabled());
+ *
+ * String value = frontend.get(key);
+ * </pre>
+ *
+ * Key tracking requires a {@link io.lettuce.core.protocol.ProtocolVersion#RESP3 RESP3} connection so that invalidation
+ * messages are received as push messages on the same connection. Key tracking is restored when the connection reconnects.
+ * The local cache is cleared whenever the tracking connection is deactivated because invalidation messages for
+ * modifications performed during the disconnect are lost.
+ * <p>
+ * Cache keys are looked up with the keys that the codec decodes from invalidation messages. Therefore, the codec must decode
+ * keys into objects that implement value equality. Codecs with identity-based keys such as {@code byte[]} are rejected.
+ * <p>
+ * Hash fields read through {@link #hget(Object, Object)} are cached per key and field if the {@link CacheAccessor} is
+ * {@link CacheAccessor#bounded(int, java.time.Duration) bounded}. Hash fields are kept in a separate cache using the same
+ * size and time to live bounds. Redis invalidates per key so all cached fields of a hash are evicted together with the key.
+ * Other {@link CacheAccessor accessors} read hash fields from Redis without caching them.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
+
+    private static final byte[] PROBE = "probe".getBytes(StandardCharsets.US_ASCII);
+
+    private final CacheAccessor<K, V> cacheAccessor;
+
+    private final StatefulRedisConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final BoundedCacheAccessor<HashField, V> hashFields;
+
+    private final Map<ByteBuffer, Set<HashField>> hashFieldsByKey = new ConcurrentHashMap<>();
+
+    private final PushListener invalidationListener = new InvalidationListener();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private ClientSideCaching(CacheAccessor<K, V> cacheAccessor, StatefulRedisConnection<K, V> connection,
+            RedisCodec<K, V> codec) {
+
+        this.cacheAccessor = cacheAccessor;
+        this.connection = connection;
+        this.codec = codec;
+        this.hashFields = cacheAccessor instanceof BoundedCacheAccessor
+                ? ((BoundedCacheAccessor<K, V>) cacheAccessor).withSameBounds(this::removeFromIndex)
+                : null;
+
+        this.connection.addListener(invalidationListener);
+    }
+
+    /**
+     * Enable server-assisted Client side caching for the given {@link CacheAccessor} and {@link StatefulRedisConnection}.
+     * <p>
+     * Note that the {@link CacheFrontend} is associated with a Redis connection. Make sure to {@link CacheFrontend#close()
+     * close} the frontend object to release the Redis connection after use.
+     *
+     * @param cacheAccessor the accessor used to interact with the client-side cache.
+     * @param connection the Redis connection to use. The connection will be associated with {@link CacheFrontend} and must be
+     *        closed through {@link CacheFrontend#close()}.
+     * @param codec the codec used by {@code connection} to decode keys of invalidation messages.
+     * @param tracking the tracking parameters, must enable tracking.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link CacheFrontend} for value retrieval.
+     */
+    public static <K, V> CacheFrontend<K, V> enable(CacheAccessor<K, V> cacheAccessor, StatefulRedisConnection<K, V> connection,
+            RedisCodec<K, V> codec, TrackingArgs tracking) {
+
+        LettuceAssert.notNull(tracking, "TrackingArgs must not be null");
+        LettuceAssert.isTrue(tracking.isEnabled(), "TrackingArgs must enable key tracking");
+
+        CacheFrontend<K, V> frontend = create(cacheAccessor, connection, codec);
+
+        try {
+            connection.sync().clientTracking(tracking);
+        } catch (RuntimeException e) {
+            frontend.close();
+            throw e;
+        }
+
+        return frontend;
+    }
+
+    /**
+     * Create a server-assisted Client side caching for the given {@link CacheAccessor} and {@link StatefulRedisConnection}.
+     * This method expects that client key tracking is already configured.
+     *
+     * @param cacheAccessor the accessor used to interact with the client-side cache.
+     * @param connection the Redis connection to use. The connection will be associated with {@link CacheFrontend} and must be
+     *        closed through {@link CacheFrontend#close()}.
+     * @param codec the codec used by {@code connection} to decode keys of invalidation messages.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link CacheFrontend} for value retrieval.
+     */
+    public static <K, V> CacheFrontend<K, V> create(CacheAccessor<K, V> cacheAccessor, StatefulRedisConnection<K, V> connection,
+            RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(cacheAccessor, "CacheAccessor must not be null");
+        LettuceAssert.notNull(connection, "StatefulRedisConnection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.isTrue(hasValueEqualityKeys(codec),
+                "RedisCodec must decode keys with value equality; identity-based keys such as byte[] are not supported");
+
+        return new ClientSideCaching<>(cacheAccessor, connection, codec);
+    }
+
+    @Override
+    public V get(K key) {
+
+        V value = cacheAccessor.get(key);
+
+        if (value == null) {
+
+            long stamp = invalidations.get();
+            value = connection.sync().get(key);
+
+            if (value != null) {
+                put(key, value, stamp);
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    public V get(K key, Callable<V> valueLoader) {
+
+        V value = cacheAccessor.get(key);
+
+        if (value == null) {
+
+            long stamp = invalidations.get();
+
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(
+                        String.format("Value loader %s failed with an exception for key %s", valueLoader, key), e);
+            }
+
+            if (value == null) {
+                throw new ValueRetrievalException(
+                        String.format("Value loader %s returned a null value for key %s", valueLoader, key));
+            }
+
+            put(key, value, stamp);
+        }
+
+        return value;
+    }
+
+    @Override
+    public V hget(K key, K field) {
+
+        if (hashFields == null) {
+            return connection.sync().hget(key, field);
+        }
+
+        HashField hashField = new HashField(encode(key), encode(field));
+        V value = hashFields.get(hashField);
+
+        if (value == null) {
+
+            long stamp = invalidations.get();
+            value = connection.sync().hget(key, field);
+
+            if (value != null) {
+                putField(hashField, value, stamp);
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    @SafeVarargs
+    public final List<KeyValue<K, V>> mget(K... keys) {
+
+        LettuceAssert.notNull(keys, "Keys must not be null");
+
+        List<KeyValue<K, V>> result = new ArrayList<>(keys.length);
+        List<K> misses = null;
+        List<Integer> missIndexes = null;
+
+        for (int i = 0; i < keys.length; i++) {
+
+            V value = cacheAccessor.get(keys[i]);
+
+            if (value != null) {
+                result.add(KeyValue.just(keys[i], value));
+                continue;
+            }
+
+            if (misses == null) {
+                misses = new ArrayList<>();
+                missIndexes = new ArrayList<>();
+            }
+
+            misses.add(keys[i]);
+            missIndexes.add(i);
+            result.add(KeyValue.empty(keys[i]));
+        }
+
+        if (misses == null) {
+            return result;
+        }
+
+        long stamp = invalidations.get();
+
+        @SuppressWarnings("unchecked")
+        List<KeyValue<K, V>> fetched = connection.sync().mget(misses.toArray((K[]) new Object[misses.size()]));
+
+        for (int i = 0; i < fetched.size(); i++) {
+
+            KeyValue<K, V> keyValue = fetched.get(i);
+            result.set(missIndexes.get(i), keyValue);
+
+            if (keyValue.hasValue()) {
+                put(keyValue.getKey(), keyValue.getValue(), stamp);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void close() {
+
+        connection.removeListener(invalidationListener);
+        invalidateAll();
+
+        if (connection.isOpen()) {
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled(false));
+        }
+    }
+
+    /**
+     * Cache a value unless an invalidation was received since {@code stamp} was obtained. The value might have been
+     * modified between reading it from Redis and receiving the invalidation.
+     */
+    private void put(K key, V value, long stamp) {
+
+        cacheAccessor.put(key, value);
+
+        if (invalidations.get() != stamp) {
+            cacheAccessor.evict(key);
+        }
+    }
+
+    private void putField(HashField hashField, V value, long stamp) {
+
+        hashFieldsByKey.compute(hashField.key, (key, fields) -> {
+
+            Set<HashField> result = fields != null ? fields : ConcurrentHashMap.newKeySet();
+            result.add(hashField);
+            return result;
+        });
+
+        hashFields.put(hashField, value);
+
+        if (invalidations.get() != stamp) {
+            hashFields.evict(hashField);
+            removeFromIndex(hashField);
+        }
+    }
+
+    private void removeFromIndex(HashField hashField) {
+
+        hashFieldsByKey.computeIfPresent(hashField.key, (key, fields) -> {
+
+            fields.remove(hashField);
+            return fields.isEmpty() ? null : fields;
+        });
+    }
+
+    private void invalidate(byte[] key) {
+
+        cacheAccessor.evict(codec.decodeKey(ByteBuffer.wrap(key)));
+
+        if (hashFields != null) {
+
+            Set<HashField> fields = hashFieldsByKey.remove(ByteBuffer.wrap(key));
+
+            if (fields != null) {
+                fields.forEach(hashFields::evict);
+            }
+        }
+    }
+
+    private void invalidateAll() {
+
+        invalidations.incrementAndGet();
+        cacheAccessor.evictAll();
+
+        if (hashFields != null) {
+            hashFields.evictAll();
+            hashFieldsByKey.clear();
+        }
+    }
+
+    private ByteBuffer encode(K key) {
+
+        ByteBuffer encoded = codec.encodeKey(key);
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.duplicate().get(bytes);
+
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static <K> boolean hasValueEqualityKeys(RedisCodec<K, ?> codec) {
+
+        K key;
+        K other;
+
+        try {
+            key = codec.decodeKey(ByteBuffer.wrap(PROBE));
+            other = codec.decodeKey(ByteBuffer.wrap(PROBE));
+        } catch (RuntimeException e) {
+            // codec cannot decode the probe, assume value equality
+            return true;
+        }
+
+        return key == null || key.equals(other);
+    }
+
+    /**
+     * {@link PushListener} evicting cache entries on {@code invalidate} messages and clearing the cache when the tracking
+     * connection is disconnected.
+     */
+    private class InvalidationListener implements PushListener {
+
+        @Override
+        public void onPushMessage(PushMessage message) {
+
+            if (!message.getType().equals("invalidate")) {
+                return;
+            }
+
+            List<Object> content = message.getContent();
+            Object payload = content.size() > 1 ? content.get(1) : null;
+
+            if (!(payload instanceof List)) {
+                invalidateAll();
+                return;
+            }
+
+            invalidations.incrementAndGet();
+
+            for (Object key : (List<?>) payload) {
+                if (key instanceof byte[]) {
+                    invalidate((byte[]) key);
+                }
+            }
+        }
+
+        @Override
+        public void onDisconnected() {
+            invalidateAll();
+        }
+
+    }
+
+    /**
+     * Cache key of a hash field. Uses the encoded key and field to provide value equality independent of the key type.
+     */
+    static class HashField {
+
+        final ByteBuffer key;
+
+        final ByteBuffer field;
+
+        HashField(ByteBuffer key, ByteBuffer field) {
+            this.key = key;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof HashField)) {
+                return false;
+            }
+
+            HashField that = (HashField) o;
+            return key.equals(that.key) && field.equals(that.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + field.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.util.Map;
+
+/**
+ * {@link CacheAccessor} backed by a {@link Map}.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class MapCacheAccessor<K, V> implements CacheAccessor<K, V> {
+
+    private final Map<K, V> map;
+
+    MapCacheAccessor(Map<K, V> map) {
+        this.map = map;
+    }
+
+    @Override
+    public V get(K key) {
+        return map.get(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    @Override
+    public void evict(K key) {
+        map.remove(key);
+    }
+
+    @Override
+    public void evictAll() {
+        map.clear();
+    }
+
+}
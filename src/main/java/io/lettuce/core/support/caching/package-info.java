@@ -0,0 +1,4 @@
+/**
+ * Support for server-assisted client-side caching using Redis key tracking.
+ */
+package io.lettuce.core.support.caching;
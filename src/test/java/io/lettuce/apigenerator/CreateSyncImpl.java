@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.apigenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.*;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.MarkerAnnotationExpr;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.type.TypeParameter;
+
+import io.lettuce.core.internal.LettuceSets;
+
+/**
+ * Create the synchronous API implementation {@code RedisSyncCommandsImpl} based on the generated synchronous and asynchronous
+ * command interfaces. Methods returning a {@code RedisFuture} on the asynchronous API are awaited, other methods delegate
+ * directly.
+ *
+ * @author Mark Paluch
+ */
+public class CreateSyncImpl {
+
+    private static final Set<String> TRANSACTION_CONTROL_METHODS = LettuceSets.unmodifiableSet("multi", "exec", "discard");
+
+    private static final String TARGET_PACKAGE = "io.lettuce.core";
+
+    private static final String TARGET_NAME = "RedisSyncCommandsImpl";
+
+    private static final int MAX_LINE_LENGTH = 128;
+
+    private static final String CONTINUATION_INDENT = "        ";
+
+    private final Map<String, MethodDeclaration> asyncMethods = new HashMap<>();
+
+    private final Set<String> signatures = new HashSet<>();
+
+    private final Set<String> imports = new TreeSet<>();
+
+    private ClassOrInterfaceDeclaration resultType;
+
+    @Test
+    public void createImplementation() throws Exception {
+
+        CompilationUnit result = new CompilationUnit();
+        result.setPackageDeclaration(new PackageDeclaration(new Name(TARGET_PACKAGE)));
+
+        resultType = new ClassOrInterfaceDeclaration(EnumSet.of(Modifier.PUBLIC), false, TARGET_NAME);
+        resultType.setTypeParameters(new NodeList<>(new TypeParameter("K"), new TypeParameter("V")));
+        resultType.addExtendedType("AbstractRedisSyncCommands<K, V>");
+        resultType.addImplementedType("RedisCommands<K, V>");
+        resultType.setComment(new JavadocComment("\r\n"
+                + " * Synchronous executed commands that delegate to {@link RedisAsyncCommands} without reflection.\r\n"
+                + " *\r\n * @param <K> Key type.\r\n * @param <V> Value type.\r\n * @author Mark Paluch\r\n * @since 6.0\r\n"
+                + " * @generated by " + getClass().getName() + "\r\n "));
+
+        ConstructorDeclaration constructor = resultType.addConstructor(Modifier.PUBLIC);
+        constructor.addParameter("StatefulRedisConnection<K, V>", "connection");
+        constructor.addParameter("RedisAsyncCommands<K, V>", "async");
+        constructor.setComment(new JavadocComment("\r\n     * Initialize a new instance.\r\n     *\r\n"
+                + "     * @param connection the connection to operate on.\r\n"
+                + "     * @param async the asynchronous API to delegate to.\r\n     "));
+        constructor.setBody(new BlockStmt(
+                new NodeList<>(JavaParser.parseExplicitConstructorInvocationStmt("super(connection, async);"))));
+
+        imports.add("io.lettuce.core.api.StatefulRedisConnection");
+        imports.add("io.lettuce.core.api.async.RedisAsyncCommands");
+        imports.add("io.lettuce.core.api.sync.RedisCommands");
+
+        for (String templateName : Constants.TEMPLATE_NAMES) {
+
+            if (templateName.contains("RedisSentinel")) {
+                continue;
+            }
+
+            addMethods("io/lettuce/core/api/sync/" + templateName,
+                    "io/lettuce/core/api/async/" + templateName.replace("Commands", "AsyncCommands"));
+        }
+
+        addMethods("io/lettuce/core/cluster/api/sync/RedisClusterCommands",
+                "io/lettuce/core/cluster/api/async/RedisClusterAsyncCommands");
+        addMethods("io/lettuce/core/api/sync/RedisCommands", "io/lettuce/core/api/async/RedisAsyncCommands");
+
+        imports.stream().filter(it -> it.startsWith("java.")).forEach(it -> addImport(result, it));
+        imports.stream().filter(it -> !it.startsWith("java.")).forEach(it -> addImport(result, it));
+
+        result.setComment(JavaParser.parse(new File(Constants.SOURCES, "io/lettuce/core/AbstractRedisSyncCommands.java"))
+                .getComment().orElse(null));
+        result.addType(resultType);
+
+        File target = new File(Constants.SOURCES, TARGET_PACKAGE.replace('.', '/') + "/" + TARGET_NAME + ".java");
+
+        try (FileOutputStream fos = new FileOutputStream(target)) {
+            fos.write(wrapLongLines(result.toString()).getBytes());
+        }
+    }
+
+    private static void addImport(CompilationUnit result, String importName) {
+
+        if (importName.endsWith(".*")) {
+            result.addImport(importName.substring(0, importName.length() - 2), false, true);
+        } else {
+            result.addImport(importName);
+        }
+    }
+
+    private void addMethods(String syncType, String asyncType) throws Exception {
+
+        CompilationUnit sync = JavaParser.parse(new File(Constants.SOURCES, syncType + ".java"));
+        CompilationUnit async = JavaParser.parse(new File(Constants.SOURCES, asyncType + ".java"));
+
+        for (MethodDeclaration method : async.getType(0).getMethods()) {
+            asyncMethods.putIfAbsent(getSignature(method), method);
+        }
+
+        for (ImportDeclaration importDeclaration : sync.getImports()) {
+
+            String name = importDeclaration.getNameAsString();
+
+            if (name.equals(TARGET_PACKAGE) || name.startsWith("io.lettuce.core.api.sync")
+                    || name.startsWith("io.lettuce.core.cluster.api.sync")) {
+                continue;
+            }
+
+            if (!importDeclaration.isAsterisk() && name.lastIndexOf('.') == TARGET_PACKAGE.length()
+                    && name.startsWith(TARGET_PACKAGE)) {
+                continue;
+            }
+
+            imports.add(importDeclaration.isAsterisk() ? name + ".*" : name);
+        }
+
+        for (MethodDeclaration method : sync.getType(0).getMethods()) {
+
+            if (method.isDefault() || method.isStatic() || !signatures.add(getSignature(method))) {
+                continue;
+            }
+
+            MethodDeclaration asyncMethod = asyncMethods.get(getSignature(method));
+
+            if (asyncMethod == null) {
+                throw new IllegalStateException("Cannot find asynchronous method for " + getSignature(method));
+            }
+
+            resultType.addMember(createMethod(method, asyncMethod));
+        }
+    }
+
+    private static MethodDeclaration createMethod(MethodDeclaration method, MethodDeclaration asyncMethod) {
+
+        NodeList<AnnotationExpr> annotations = new NodeList<>();
+        annotations.add(new MarkerAnnotationExpr("Override"));
+        method.getAnnotations().forEach(it -> annotations.add(it.clone()));
+
+        NodeList<TypeParameter> typeParameters = new NodeList<>();
+        method.getTypeParameters().forEach(it -> typeParameters.add(it.clone()));
+
+        NodeList<Parameter> parameters = new NodeList<>();
+        method.getParameters().forEach(it -> parameters.add(it.clone()));
+
+        String invocation = String.format("async.%s(%s)", method.getNameAsString(),
+                method.getParameters().stream().map(Parameter::getNameAsString).collect(Collectors.joining(", ")));
+
+        boolean future = asyncMethod.getType().asString().startsWith("RedisFuture");
+        boolean isVoid = method.getType().isVoidType();
+
+        String body;
+        if (future) {
+
+            String await = TRANSACTION_CONTROL_METHODS.contains(method.getNameAsString()) ? "awaitTransactionControl"
+                    : "await";
+            body = String.format(isVoid ? "%s(%s);" : "return %s(%s);", await, invocation);
+        } else {
+            body = String.format(isVoid ? "%s;" : "return %s;", invocation);
+        }
+
+        return new MethodDeclaration(EnumSet.of(Modifier.PUBLIC), annotations, typeParameters, method.getType().clone(),
+                method.getName().clone(), parameters, new NodeList<>(), JavaParser.parseBlock("{" + body + "}"));
+    }
+
+    /**
+     * Wrap argument lists exceeding {@link #MAX_LINE_LENGTH} after the last argument that fits the line and indent continuation
+     * lines like the code formatter does.
+     */
+    static String wrapLongLines(String source) {
+
+        String lineSeparator = System.lineSeparator();
+        StringBuilder result = new StringBuilder(source.length());
+
+        for (String line : source.split(lineSeparator, -1)) {
+
+            if (result.length() != 0) {
+                result.append(lineSeparator);
+            }
+
+            int indentLength = 0;
+            while (indentLength < line.length() && line.charAt(indentLength) == ' ') {
+                indentLength++;
+            }
+
+            String indent = line.substring(0, indentLength);
+            String remainder = line;
+
+            while (remainder.length() > MAX_LINE_LENGTH) {
+
+                int split = remainder.lastIndexOf(", ", MAX_LINE_LENGTH - 1);
+
+                if (split < 0 || split < remainder.indexOf('(')) {
+                    break;
+                }
+
+                result.append(remainder, 0, split + 1).append(lineSeparator);
+                remainder = indent + CONTINUATION_INDENT + remainder.substring(split + 2);
+            }
+
+            result.append(remainder);
+        }
+
+        return result.toString();
+    }
+
+    private static String getSignature(MethodDeclaration method) {
+
+        return method.getNameAsString() + method.getParameters().stream()
+                .map(it -> it.getType().asString() + (it.isVarArgs() ? "..." : "")).collect(Collectors.joining(",", "(", ")"));
+    }
+}
@@ -55,6 +55,28 @@ class ClientOptionsUnitTests {
         assertThat(original.mutate()).isNotSameAs(copy.mutate());
     }
 
+    @Test
+    void shouldRetainFlushCoalescingOptions() {
+
+        ClientOptions original = ClientOptions.builder()
+                .flushCoalescingOptions(FlushCoalescingOptions.builder().enabled().maxCommands(16).build()).build();
+
+        assertThat(ClientOptions.copyOf(original).getFlushCoalescingOptions().isEnabled()).isTrue();
+        assertThat(original.mutate().build().getFlushCoalescingOptions().getMaxCommands()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldRetainPubSubDispatchOptions() {
+
+        ClientOptions original = ClientOptions.builder().pubSubDispatchOptions(PubSubDispatchOptions.builder().enabled()
+                .queueCapacity(16).overflowPolicy(PubSubDispatchOptions.OverflowPolicy.DROP_OLDEST).build()).build();
+
+        assertThat(ClientOptions.copyOf(original).getPubSubDispatchOptions().isEnabled()).isTrue();
+        assertThat(original.mutate().build().getPubSubDispatchOptions().getQueueCapacity()).isEqualTo(16);
+        assertThat(original.mutate().build().getPubSubDispatchOptions().getOverflowPolicy())
+                .isEqualTo(PubSubDispatchOptions.OverflowPolicy.DROP_OLDEST);
+    }
+
     void checkAssertions(ClientOptions sut) {
         assertThat(sut.isAutoReconnect()).isEqualTo(true);
         assertThat(sut.isCancelCommandsOnReconnectFailure()).isEqualTo(false);
@@ -62,5 +84,8 @@ class ClientOptionsUnitTests {
         assertThat(sut.isSuspendReconnectOnProtocolFailure()).isEqualTo(false);
         assertThat(sut.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.DEFAULT);
         assertThat(sut.getBufferUsageRatio()).isEqualTo(ClientOptions.DEFAULT_BUFFER_USAGE_RATIO);
+        assertThat(sut.getFlushCoalescingOptions().isEnabled()).isFalse();
+        assertThat(sut.getPubSubDispatchOptions().isEnabled()).isFalse();
+        assertThat(sut.getZeroCopyWriteThreshold()).isEqualTo(ClientOptions.DEFAULT_ZERO_COPY_WRITE_THRESHOLD);
     }
 }
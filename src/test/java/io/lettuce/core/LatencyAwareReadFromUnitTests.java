@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.metrics.ConnectionMetrics;
+import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Unit tests for {@link LatencyAwareReadFrom}.
+ *
+ * @author Mark Paluch
+ */
+class LatencyAwareReadFromUnitTests {
+
+    private final RedisClusterNode master = createNode(7379, RedisClusterNode.NodeFlag.MASTER);
+    private final RedisClusterNode replica1 = createNode(7380, RedisClusterNode.NodeFlag.SLAVE);
+    private final RedisClusterNode replica2 = createNode(7381, RedisClusterNode.NodeFlag.SLAVE);
+
+    @Test
+    void shouldSelectFasterNode() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create(ReadFrom.REPLICA);
+
+        record(sut, replica1, 2);
+        record(sut, replica2, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.select(getNodes(master, replica1, replica2))).containsExactly(replica2, replica1);
+        }
+    }
+
+    @Test
+    void shouldReactToSlowResponseImmediately() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.builder().outlierFactor(100).build();
+
+        record(sut, replica1, 1);
+        record(sut, replica2, 2);
+        record(sut, replica1, 5);
+
+        assertThat(sut.getLatency(replica1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(sut.select(getNodes(replica1, replica2))).containsExactly(replica2, replica1);
+    }
+
+    @Test
+    void shouldConsiderInFlightCommands() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        record(sut, replica1, 1);
+        record(sut, replica2, 2);
+
+        ConnectionMetrics connection = mock(ConnectionMetrics.class);
+        when(connection.remoteAddress()).thenReturn(getAddress(replica1));
+        when(connection.getInFlightCommands()).thenReturn(10);
+
+        sut.connectionActivated(connection);
+
+        assertThat(sut.select(getNodes(replica1, replica2))).containsExactly(replica2, replica1);
+
+        sut.connectionDeactivated(connection);
+
+        assertThat(sut.select(getNodes(replica1, replica2))).containsExactly(replica1, replica2);
+    }
+
+    @Test
+    void shouldEjectOutliers() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        record(sut, master, 1);
+        record(sut, replica1, 1);
+        record(sut, replica2, 10);
+
+        for (int i = 0; i < 10; i++) {
+
+            List<RedisNodeDescription> selection = sut.select(getNodes(master, replica1, replica2));
+
+            assertThat(selection).hasSize(3).endsWith(replica2);
+            assertThat(selection.get(0)).isNotEqualTo(replica2);
+        }
+    }
+
+    @Test
+    void shouldReturnEjectedNodesWithClearedStatistics() throws InterruptedException {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.builder().ejectionTime(Duration.ofMillis(1)).build();
+
+        record(sut, replica1, 1);
+        record(sut, replica2, 10);
+
+        assertThat(sut.select(getNodes(replica1, replica2))).containsExactly(replica1, replica2);
+
+        Thread.sleep(5);
+
+        assertThat(sut.select(getNodes(replica1, replica2))).containsExactly(replica2, replica1);
+        assertThat(sut.getLatency(replica2)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldProbeNodesWithoutLatency() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        record(sut, replica1, 1);
+
+        assertThat(sut.select(getNodes(replica1, replica2))).containsExactly(replica2, replica1);
+    }
+
+    @Test
+    void shouldIgnoreBlockingAndPubSubCommands() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        record(sut, replica1, 1);
+
+        for (CommandType commandType : Arrays.asList(CommandType.BLPOP, CommandType.XREAD, CommandType.WAIT,
+                CommandType.SUBSCRIBE)) {
+            sut.recordCommandLatency(null, getAddress(replica1), commandType, 0, TimeUnit.SECONDS.toNanos(10));
+        }
+
+        assertThat(sut.getLatency(replica1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void shouldBeDynamicAndOrderSensitive() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        assertThat(OrderingReadFromAccessor.isDynamic(sut)).isTrue();
+        assertThat(OrderingReadFromAccessor.isOrderSensitive(sut)).isTrue();
+        assertThat(OrderingReadFromAccessor.isDynamic(ReadFrom.NEAREST)).isFalse();
+    }
+
+    private static void record(LatencyAwareReadFrom sut, RedisNodeDescription node, long millis) {
+        sut.recordCommandLatency(null, getAddress(node), CommandType.GET, 0, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static InetSocketAddress getAddress(RedisNodeDescription node) {
+        return InetSocketAddress.createUnresolved(node.getUri().getHost(), node.getUri().getPort());
+    }
+
+    private static RedisClusterNode createNode(int port, RedisClusterNode.NodeFlag flag) {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setNodeId("node-" + port);
+        node.setUri(RedisURI.create("127.0.0.1", port));
+        node.setFlags(Collections.singleton(flag));
+        return node;
+    }
+
+    private static ReadFrom.Nodes getNodes(RedisNodeDescription... nodes) {
+
+        List<RedisNodeDescription> list = Arrays.asList(nodes);
+
+        return new ReadFrom.Nodes() {
+
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return list;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return list.iterator();
+            }
+        };
+    }
+}
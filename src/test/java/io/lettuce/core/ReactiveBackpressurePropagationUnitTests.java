@@ -34,6 +34,7 @@ import reactor.core.scheduler.Schedulers;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
 import io.lettuce.core.output.ValueListOutput;
 import io.lettuce.core.protocol.*;
 import io.lettuce.core.resource.ClientResources;
@@ -67,7 +68,8 @@ class ReactiveBackpressurePropagationUnitTests {
     @BeforeEach
     void before() {
 
-        when(clientResources.commandLatencyCollector()).thenReturn(latencyCollector);
+        when(clientResources.commandLatencyRecorder()).thenReturn(latencyCollector);
+        when(clientResources.connectionMetricsRecorder()).thenReturn(ConnectionMetricsRecorder.disabled());
         when(clientResources.tracing()).thenReturn(Tracing.disabled());
         when(statefulConnection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
 
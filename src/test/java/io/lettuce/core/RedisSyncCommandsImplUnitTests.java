@@ -0,0 +1,100 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Unit tests for {@link RedisSyncCommandsImpl}.
+ *
+ * @author Mark Paluch
+ */
+@SuppressWarnings("unchecked")
+class RedisSyncCommandsImplUnitTests {
+
+    private StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+    private RedisAsyncCommands<String, String> async = mock(RedisAsyncCommands.class);
+    private RedisSyncCommandsImpl<String, String> sut;
+
+    @BeforeEach
+    void before() {
+
+        when(connection.getOptions()).thenReturn(ClientOptions.create());
+        when(connection.getTimeout()).thenReturn(Duration.ofMillis(100));
+
+        sut = new RedisSyncCommandsImpl<>(connection, async);
+    }
+
+    @Test
+    void shouldAwaitCommandResult() {
+
+        AsyncCommand<String, String, String> command = command();
+        command.complete("value");
+        when(async.get("key")).thenReturn((RedisFuture) command);
+
+        assertThat(sut.get("key")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldReturnNullWithinTransaction() {
+
+        AsyncCommand<String, String, String> exec = command();
+        exec.complete("OK");
+
+        when(connection.isMulti()).thenReturn(true);
+        when(async.set("key", "value")).thenReturn(command());
+        when(async.discard()).thenReturn(exec);
+
+        assertThat(sut.set("key", "value")).isNull();
+        assertThat(sut.discard()).isEqualTo("OK");
+    }
+
+    @Test
+    void shouldDelegateMethodsWithoutFuture() {
+
+        when(async.isOpen()).thenReturn(true);
+
+        assertThat(sut.isOpen()).isTrue();
+    }
+
+    @Test
+    void shouldTimeOutCommand() {
+
+        when(async.ping()).thenReturn(command());
+
+        assertThatThrownBy(() -> sut.ping()).isInstanceOf(RedisCommandTimeoutException.class);
+    }
+
+    private static AsyncCommand<String, String, String> command() {
+        return new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+    }
+}
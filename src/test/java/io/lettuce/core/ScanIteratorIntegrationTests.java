@@ -100,6 +100,32 @@ class ScanIteratorIntegrationTests extends TestSupport {
         assertThat(keys).containsAll(KeysAndValues.KEYS);
     }
 
+    @Test
+    void keysMultiPassWithReadAhead() {
+
+        redis.mset(KeysAndValues.MAP);
+
+        ScanIterator<String> scan = ScanIterator.scan(redis, ScanArgs.Builder.limit(50), 200);
+
+        List<String> keys = scan.stream().collect(Collectors.toList());
+
+        assertThat(keys).hasSize(KeysAndValues.COUNT).containsAll(KeysAndValues.KEYS);
+    }
+
+    @Test
+    void readAheadShouldStopOnClose() {
+
+        redis.mset(KeysAndValues.MAP);
+
+        ScanIterator<String> scan = ScanIterator.scan(redis, ScanArgs.Builder.limit(10), 20);
+
+        assertThat(scan.next()).isNotNull();
+
+        scan.close();
+
+        assertThat(scan.hasNext()).isFalse();
+    }
+
     @Test
     void hscanShouldThrowNoSuchElementExceptionOnEmpty() {
 
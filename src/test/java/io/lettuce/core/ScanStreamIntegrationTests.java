@@ -71,6 +71,19 @@ class ScanStreamIntegrationTests extends TestSupport {
         StepVerifier.create(ScanStream.scan(reactive)).expectNextSequence(list).verifyComplete();
     }
 
+    @Test
+    void shouldScanWithReadAhead() {
+
+        for (int i = 0; i < 1000; i++) {
+            redis.set("key-" + i, value);
+        }
+
+        RedisReactiveCommands<String, String> reactive = redis.getStatefulConnection().reactive();
+
+        StepVerifier.create(ScanStream.scan(reactive, ScanArgs.Builder.limit(50), 200), 0).thenRequest(1).expectNextCount(1)
+                .thenRequest(Long.MAX_VALUE).expectNextCount(999).verifyComplete();
+    }
+
     @Test
     void shouldHscanIteratively() {
 
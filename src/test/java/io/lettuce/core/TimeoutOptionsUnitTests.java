@@ -58,4 +58,15 @@ class TimeoutOptionsUnitTests {
         assertThat(timeoutOptions.isApplyConnectionTimeout()).isFalse();
         assertThat(source.getTimeout(null)).isEqualTo(TimeUnit.MINUTES.toNanos(1));
     }
+
+    @Test
+    void scheduleOnTimer() {
+
+        assertThat(TimeoutOptions.enabled().isScheduleOnTimer()).isFalse();
+
+        TimeoutOptions timeoutOptions = TimeoutOptions.builder().fixedTimeout(Duration.ofSeconds(1)).scheduleOnTimer().build();
+
+        assertThat(timeoutOptions.isTimeoutCommands()).isTrue();
+        assertThat(timeoutOptions.isScheduleOnTimer()).isTrue();
+    }
 }
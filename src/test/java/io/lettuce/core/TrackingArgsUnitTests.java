@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandArgs;
+
+/**
+ * @author Mark Paluch
+ */
+class TrackingArgsUnitTests {
+
+    @Test
+    void shouldRenderBroadcastingWithPrefixes() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        TrackingArgs.Builder.enabled().bcast().prefixes("foo", "bar").noloop().build(args);
+
+        assertThat(args.count()).isEqualTo(7);
+        assertThat(args.toCommandString()).startsWith("ON PREFIX").endsWith("BCAST NOLOOP");
+    }
+
+    @Test
+    void shouldRenderRedirect() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        TrackingArgs.Builder.enabled().redirect(42).optin().build(args);
+
+        assertThat(args.toCommandString()).isEqualTo("ON REDIRECT 42 OPTIN");
+    }
+
+    @Test
+    void shouldRenderDisabled() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        TrackingArgs.Builder.enabled(false).build(args);
+
+        assertThat(args.toCommandString()).isEqualTo("OFF");
+    }
+}
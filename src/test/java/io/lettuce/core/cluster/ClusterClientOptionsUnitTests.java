@@ -36,7 +36,7 @@ class ClusterClientOptionsUnitTests {
 
         ClusterClientOptions options = ClusterClientOptions.builder().autoReconnect(false).requestQueueSize(100)
                 .suspendReconnectOnProtocolFailure(true).maxRedirects(1234).validateClusterNodeMembership(false)
-                .protocolVersion(ProtocolVersion.RESP2).build();
+                .groupMultiKeyCommandsByNode(true).shardPubSubSubscriptions(true).protocolVersion(ProtocolVersion.RESP2).build();
 
         ClusterClientOptions copy = ClusterClientOptions.copyOf(options);
 
@@ -50,6 +50,8 @@ class ClusterClientOptionsUnitTests {
         assertThat(copy.isCancelCommandsOnReconnectFailure()).isEqualTo(options.isCancelCommandsOnReconnectFailure());
         assertThat(copy.isSuspendReconnectOnProtocolFailure()).isEqualTo(options.isSuspendReconnectOnProtocolFailure());
         assertThat(copy.getMaxRedirects()).isEqualTo(options.getMaxRedirects());
+        assertThat(copy.isGroupMultiKeyCommandsByNode()).isTrue();
+        assertThat(copy.isShardPubSubSubscriptions()).isTrue();
         assertThat(copy.getScriptCharset()).isEqualTo(StandardCharsets.UTF_8);
     }
 
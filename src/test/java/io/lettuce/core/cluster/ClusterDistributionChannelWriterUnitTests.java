@@ -16,15 +16,25 @@
 package io.lettuce.core.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.StatefulRedisConnectionImpl;
 import io.lettuce.core.cluster.ClusterConnectionProvider.Intent;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.output.IntegerOutput;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.RedisCommand;
 
@@ -107,4 +117,31 @@ class ClusterDistributionChannelWriterUnitTests {
 
         assertThat(ClusterDistributionChannelWriter.getIntent(Collections.singletonList(set))).isEqualTo(Intent.WRITE);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteCommandsForSameNodeWithSingleWrite() {
+
+        RedisChannelWriter nodeWriter = mock(RedisChannelWriter.class);
+        StatefulRedisConnectionImpl<String, String> nodeConnection = mock(StatefulRedisConnectionImpl.class);
+        when(nodeConnection.getChannelWriter()).thenReturn(nodeWriter);
+
+        PooledClusterConnectionProvider<String, String> connectionProvider = mock(PooledClusterConnectionProvider.class);
+        when(connectionProvider.getConnection(any(Intent.class), anyInt())).thenReturn((StatefulRedisConnectionImpl) nodeConnection);
+
+        ClusterDistributionChannelWriter writer = new ClusterDistributionChannelWriter(ClientOptions.create(),
+                mock(RedisChannelWriter.class), mock(ClusterEventListener.class));
+        writer.setClusterConnectionProvider(connectionProvider);
+
+        writer.write(Arrays.asList(del("a"), del("b"), del("c")));
+
+        ArgumentCaptor<Collection<RedisCommand<String, String, ?>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(nodeWriter).write(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+    }
+
+    private static RedisCommand<String, String, Long> del(String key) {
+        return new Command<>(CommandType.DEL, new IntegerOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
 }
@@ -39,6 +39,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .refreshSourcesSampleSize(3)//
+                .incrementalRefresh(true)//
                 .build();
 
         assertThat(options.getRefreshPeriod()).isEqualTo(Duration.ofMinutes(10));
@@ -48,6 +50,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.getRefreshSourcesSampleSize()).isEqualTo(3);
+        assertThat(options.useIncrementalRefresh()).isTrue();
     }
 
     @Test
@@ -60,6 +64,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .refreshSourcesSampleSize(3)//
+                .incrementalRefresh(true)//
                 .build();
 
         ClusterTopologyRefreshOptions options = ClusterTopologyRefreshOptions.copyOf(master);
@@ -71,6 +77,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.getRefreshSourcesSampleSize()).isEqualTo(3);
+        assertThat(options.useIncrementalRefresh()).isTrue();
     }
 
     @Test
@@ -90,6 +98,10 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 ClusterTopologyRefreshOptions.DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(
                 ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS);
+        assertThat(options.getRefreshSourcesSampleSize())
+                .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE);
+        assertThat(options.useIncrementalRefresh()).isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_INCREMENTAL_REFRESH)
+                .isFalse();
     }
 
     @Test
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -220,6 +221,62 @@ class PooledClusterConnectionProviderUnitTests {
         assertThat(readCandidates).contains(nodeConnectionMock2).doesNotContain(nodeConnectionMock);
     }
 
+    @Test
+    void shouldCacheConnectionsAndReorderForDynamicReadFrom() {
+
+        StatefulRedisConnection<String, String> nodeConnectionMock2 = mock(StatefulRedisConnection.class);
+        when(nodeConnectionMock.isOpen()).thenReturn(true);
+        when(nodeConnectionMock2.isOpen()).thenReturn(true);
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock2)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.READONLY, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.readOnly()).thenReturn(async);
+        when(nodeConnectionMock2.async()).thenReturn(asyncCommandsMock);
+
+        AtomicBoolean replicaFirst = new AtomicBoolean();
+
+        sut.setReadFrom(new ReadFrom() {
+
+            @Override
+            public List<RedisNodeDescription> select(Nodes nodes) {
+
+                List<RedisNodeDescription> selection = new ArrayList<>(nodes.getNodes());
+                if (replicaFirst.get()) {
+                    Collections.reverse(selection);
+                }
+                return selection;
+            }
+
+            @Override
+            protected boolean isOrderSensitive() {
+                return true;
+            }
+
+            @Override
+            protected boolean isDynamic() {
+                return true;
+            }
+        });
+
+        assertThat(sut.getConnection(Intent.READ, 1)).isSameAs(nodeConnectionMock);
+
+        replicaFirst.set(true);
+        assertThat(sut.getConnection(Intent.READ, 1)).isSameAs(nodeConnectionMock2);
+
+        replicaFirst.set(false);
+        assertThat(sut.getConnection(Intent.READ, 1)).isSameAs(nodeConnectionMock);
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+    }
+
     @Test
     void shouldCloseConnectionOnConnectFailure() {
 
@@ -335,6 +392,36 @@ class PooledClusterConnectionProviderUnitTests {
         verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
     }
 
+    @Test
+    void shouldRetainConnectionsOfUnchangedNodesOnTopologyChange() {
+
+        StatefulRedisConnection<String, String> nodeConnectionMock2 = mock(StatefulRedisConnection.class);
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock2)));
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 8000)).isSameAs(nodeConnectionMock);
+
+        List<Integer> slots1 = IntStream.range(0, 4096).boxed().collect(Collectors.toList());
+        List<Integer> slots2 = IntStream.range(4096, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList());
+
+        Partitions resharded = new Partitions();
+        resharded.add(new RedisClusterNode(RedisURI.create("localhost", 1), "1", true, null, 0, 0, 0, slots1,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+        resharded.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, null, 0, 0, 0, slots2,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+
+        sut.setPartitions(resharded);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 8000)).isSameAs(nodeConnectionMock2);
+
+        verify(clientMock, times(1)).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+    }
+
     @Test
     void shouldNotifyListerOnUncoveredWriteSlot() {
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link RedisAdvancedClusterAsyncCommandsImpl}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisAdvancedClusterAsyncCommandsImplUnitTests {
+
+    private static final Pattern KEY = Pattern.compile("key<([^>]*)>");
+
+    // keys hash to different slots
+    private static final String[] KEYS = { "a", "b", "c", "d" };
+
+    @Mock
+    private StatefulRedisClusterConnection<String, String> connection;
+
+    private RedisAdvancedClusterAsyncCommandsImpl<String, String> sut;
+
+    @BeforeEach
+    void before() {
+
+        when(connection.dispatch(any(RedisCommand.class))).then(invocation -> complete(invocation.getArgument(0)));
+        when(connection.dispatch(anyCollection())).then(invocation -> {
+
+            Collection<RedisCommand<String, String, ?>> commands = invocation.getArgument(0);
+            commands.forEach(RedisAdvancedClusterAsyncCommandsImplUnitTests::complete);
+            return commands;
+        });
+
+        sut = new RedisAdvancedClusterAsyncCommandsImpl<>(connection, StringCodec.UTF8);
+    }
+
+    @Test
+    void shouldRetainKeyOrderOfMgetGroupedByNode() throws Exception {
+
+        groupMultiKeyCommandsByNode(true);
+
+        assertThat(sut.mget(KEYS).get()).containsExactly(KeyValue.just("a", "value-a"), KeyValue.just("b", "value-b"),
+                KeyValue.just("c", "value-c"), KeyValue.just("d", "value-d"));
+
+        verify(connection).dispatch(anyCollection());
+        verify(connection, never()).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldRetainKeyOrderOfMgetPerSlot() throws Exception {
+
+        groupMultiKeyCommandsByNode(false);
+
+        assertThat(sut.mget(KEYS).get()).containsExactly(KeyValue.just("a", "value-a"), KeyValue.just("b", "value-b"),
+                KeyValue.just("c", "value-c"), KeyValue.just("d", "value-d"));
+
+        verify(connection, never()).dispatch(anyCollection());
+        verify(connection, atLeast(2)).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldSumDelAndExistsGroupedByNode() throws Exception {
+
+        groupMultiKeyCommandsByNode(true);
+
+        assertThat(sut.del(KEYS).get()).isEqualTo(4);
+        assertThat(sut.exists(KEYS).get()).isEqualTo(4);
+
+        verify(connection, times(2)).dispatch(anyCollection());
+        verify(connection, never()).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldSumDelAndExistsPerSlot() throws Exception {
+
+        groupMultiKeyCommandsByNode(false);
+
+        assertThat(sut.del(KEYS).get()).isEqualTo(4);
+        assertThat(sut.exists(KEYS).get()).isEqualTo(4);
+
+        verify(connection, never()).dispatch(anyCollection());
+    }
+
+    private void groupMultiKeyCommandsByNode(boolean groupMultiKeyCommandsByNode) {
+        when(connection.getOptions())
+                .thenReturn(ClusterClientOptions.builder().groupMultiKeyCommandsByNode(groupMultiKeyCommandsByNode).build());
+    }
+
+    /**
+     * Complete {@code command} as if each of its keys existed with value {@code value-<key>}.
+     */
+    private static RedisCommand<String, String, ?> complete(RedisCommand<String, String, ?> command) {
+
+        List<String> keys = getKeys(command);
+
+        if (command.getType() == CommandType.MGET) {
+
+            command.getOutput().multi(keys.size());
+            for (String key : keys) {
+                command.getOutput().set(ByteBuffer.wrap(("value-" + key).getBytes(StandardCharsets.UTF_8)));
+            }
+        } else {
+            command.getOutput().set(keys.size());
+        }
+
+        command.complete();
+        return command;
+    }
+
+    private static List<String> getKeys(RedisCommand<String, String, ?> command) {
+
+        List<String> keys = new ArrayList<>();
+        Matcher matcher = KEY.matcher(command.getArgs().toCommandString());
+
+        while (matcher.find()) {
+            keys.add(matcher.group(1));
+        }
+
+        return keys;
+    }
+
+}
@@ -58,4 +58,18 @@ class ScanStreamIntegrationTests extends TestSupport {
                 .verifyComplete();
         StepVerifier.create(ScanStream.scan(reactive)).expectNextCount(1000).verifyComplete();
     }
+
+    @Test
+    void shouldScanNodesInParallel() {
+
+        for (int i = 0; i < 1000; i++) {
+            redis.set("key-" + i, value);
+        }
+
+        RedisAdvancedClusterReactiveCommands<String, String> reactive = connection.reactive();
+
+        StepVerifier.create(ScanStream.parallelScan(reactive, ScanArgs.Builder.limit(50), 4).take(250)).expectNextCount(250)
+                .verifyComplete();
+        StepVerifier.create(ScanStream.parallelScan(reactive, 2).distinct()).expectNextCount(1000).verifyComplete();
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+import io.lettuce.test.TestFutures;
+
+/**
+ * Unit tests for {@link ShardedPubSubSubscriptions}.
+ *
+ * @author Mark Paluch
+ */
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ShardedPubSubSubscriptionsUnitTests {
+
+    private static final String CHANNEL1 = "b"; // slot 3300
+    private static final String CHANNEL2 = "a"; // slot 15495
+
+    @Mock
+    private AsyncClusterConnectionProvider provider;
+
+    @Mock
+    private StatefulRedisPubSubConnection<String, String> connection1;
+
+    @Mock
+    private StatefulRedisPubSubConnection<String, String> connection2;
+
+    @Mock
+    private RedisPubSubAsyncCommands<String, String> commands1;
+
+    @Mock
+    private RedisPubSubAsyncCommands<String, String> commands2;
+
+    private ShardedPubSubSubscriptions<String, String> sut;
+
+    @BeforeEach
+    void before() {
+
+        when(provider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, "1"))
+                .thenReturn(CompletableFuture.completedFuture((StatefulRedisPubSubConnection) connection1));
+        when(provider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, "2"))
+                .thenReturn(CompletableFuture.completedFuture((StatefulRedisPubSubConnection) connection2));
+        when(connection1.async()).thenReturn(commands1);
+        when(connection2.async()).thenReturn(commands2);
+        when(commands1.subscribe(any())).thenReturn(new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null)));
+        when(commands2.subscribe(any())).thenReturn(new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null)));
+        when(commands1.unsubscribe(any())).thenReturn(new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null)));
+        when(commands2.unsubscribe(any())).thenReturn(new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null)));
+
+        sut = new ShardedPubSubSubscriptions<>(StringCodec.UTF8, provider);
+        sut.setPartitions(createPartitions(8192));
+    }
+
+    @Test
+    void shouldSubscribeOnSlotOwner() {
+
+        TestFutures.awaitOrTimeout(sut.subscribe(CHANNEL1, CHANNEL2));
+
+        verify(commands1).subscribe(CHANNEL1);
+        verify(commands2).subscribe(CHANNEL2);
+        assertThat(sut.getNodeId(CHANNEL1)).isEqualTo("1");
+        assertThat(sut.getNodeId(CHANNEL2)).isEqualTo("2");
+    }
+
+    @Test
+    void shouldUnsubscribeFromSubscribedNode() {
+
+        TestFutures.awaitOrTimeout(sut.subscribe(CHANNEL1, CHANNEL2));
+        TestFutures.awaitOrTimeout(sut.unsubscribe(CHANNEL2));
+
+        verify(commands2).unsubscribe(CHANNEL2);
+        verify(commands1, never()).unsubscribe(any());
+        assertThat(sut.getNodeId(CHANNEL2)).isNull();
+    }
+
+    @Test
+    void shouldUnsubscribeAllChannels() {
+
+        TestFutures.awaitOrTimeout(sut.subscribe(CHANNEL1, CHANNEL2));
+        TestFutures.awaitOrTimeout(sut.unsubscribe());
+
+        verify(commands1).unsubscribe(CHANNEL1);
+        verify(commands2).unsubscribe(CHANNEL2);
+        assertThat(sut.getNodeId(CHANNEL1)).isNull();
+    }
+
+    @Test
+    void shouldMoveSubscriptionsOnTopologyChange() {
+
+        TestFutures.awaitOrTimeout(sut.subscribe(CHANNEL1, CHANNEL2));
+
+        sut.setPartitions(createPartitions(SlotHash.SLOT_COUNT));
+
+        verify(commands2).unsubscribe(CHANNEL2);
+        verify(commands1).subscribe(CHANNEL2);
+        verify(commands1, never()).unsubscribe(any());
+        assertThat(sut.getNodeId(CHANNEL2)).isEqualTo("1");
+    }
+
+    @Test
+    void shouldNotMoveSubscriptionsIfOwnerUnchanged() {
+
+        TestFutures.awaitOrTimeout(sut.subscribe(CHANNEL1, CHANNEL2));
+
+        sut.setPartitions(createPartitions(8192));
+
+        verify(commands1, times(1)).subscribe(any());
+        verify(commands2, times(1)).subscribe(any());
+        verify(commands1, never()).unsubscribe(any());
+        verify(commands2, never()).unsubscribe(any());
+    }
+
+    @Test
+    void shouldFailForUncoveredSlot() {
+
+        sut.setPartitions(new Partitions());
+
+        assertThat(sut.subscribe(CHANNEL1).toCompletableFuture()).isCompletedExceptionally();
+        verify(provider, never()).getConnectionAsync(any(), eq("1"));
+    }
+
+    @Test
+    void shouldNotRecordSubscriptionsIfAnyChannelIsUncovered() {
+
+        sut.setPartitions(createPartitions(8192, 8192));
+
+        assertThat(sut.subscribe(CHANNEL1, CHANNEL2).toCompletableFuture()).isCompletedExceptionally();
+
+        verify(provider, never()).getConnectionAsync(any(), any());
+        assertThat(sut.getNodeId(CHANNEL1)).isNull();
+        assertThat(sut.getNodeId(CHANNEL2)).isNull();
+    }
+
+    @Test
+    void shouldRetainNodeIfMoveFails() {
+
+        TestFutures.awaitOrTimeout(sut.subscribe(CHANNEL1, CHANNEL2));
+
+        when(commands1.subscribe(any()))
+                .thenReturn(new PipelinedRedisFuture<>(Futures.failed(new RedisException("failed"))));
+
+        sut.setPartitions(createPartitions(SlotHash.SLOT_COUNT));
+
+        assertThat(sut.getNodeId(CHANNEL2)).isEqualTo("2");
+
+        when(commands1.subscribe(any())).thenReturn(new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null)));
+
+        sut.setPartitions(createPartitions(SlotHash.SLOT_COUNT));
+
+        verify(commands1, times(2)).subscribe(CHANNEL2);
+        assertThat(sut.getNodeId(CHANNEL2)).isEqualTo("1");
+    }
+
+    @Test
+    void shouldAssignNodeOnceMoveCompletes() {
+
+        TestFutures.awaitOrTimeout(sut.subscribe(CHANNEL1, CHANNEL2));
+
+        CompletableFuture<Void> subscribed = new CompletableFuture<>();
+        when(commands1.subscribe(any())).thenReturn(new PipelinedRedisFuture<>(subscribed));
+
+        sut.setPartitions(createPartitions(SlotHash.SLOT_COUNT));
+        sut.setPartitions(createPartitions(SlotHash.SLOT_COUNT));
+
+        verify(commands1, times(1)).subscribe(CHANNEL2);
+        assertThat(sut.getNodeId(CHANNEL2)).isEqualTo("2");
+
+        subscribed.complete(null);
+
+        assertThat(sut.getNodeId(CHANNEL2)).isEqualTo("1");
+    }
+
+    private static Partitions createPartitions(int split) {
+        return createPartitions(split, SlotHash.SLOT_COUNT);
+    }
+
+    private static Partitions createPartitions(int split, int end) {
+
+        List<Integer> slots1 = IntStream.range(0, split).boxed().collect(Collectors.toList());
+        List<Integer> slots2 = IntStream.range(split, end).boxed().collect(Collectors.toList());
+
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 1), "1", true, null, 0, 0, 0, slots1,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, null, 0, 0, 0, slots2,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+        partitions.updateCache();
+
+        return partitions;
+    }
+}
@@ -16,6 +16,7 @@
 package io.lettuce.core.cluster.models.partitions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.junit.Assert.assertThat;
 
@@ -25,6 +26,7 @@ import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.internal.LettuceLists;
 
@@ -91,6 +93,32 @@ class ClusterPartitionParserUnitTests {
         assertThat(p1.getUri().getPort()).isEqualTo(7381);
     }
 
+    @Test
+    void shouldParseNodesWithCarriageReturn() {
+
+        Partitions result = ClusterPartitionParser.parse(nodesWithBusPort.replace("\n", "\r\n") + "\r\n");
+
+        assertThat(result.getPartitions()).hasSize(4);
+
+        RedisClusterNode p1 = result.getPartitions().get(0);
+        RedisClusterNode p2 = result.getPartitions().get(1);
+
+        assertThat(p1.isConnected()).isTrue();
+        assertThat(p1.getSlots()).isEmpty();
+        assertThat(p1.getFlags()).containsOnly(RedisClusterNode.NodeFlag.SLAVE, RedisClusterNode.NodeFlag.REPLICA);
+        assertThat(p2.getSlots()).hasSize(4384).contains(12000, 16383);
+        assertThat(p2.getFlags()).containsOnly(RedisClusterNode.NodeFlag.MASTER);
+    }
+
+    @Test
+    void shouldRejectMalformedNodes() {
+        assertThatThrownBy(() -> ClusterPartitionParser.parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381"))
+                .isInstanceOf(RedisException.class);
+        assertThatThrownBy(() -> ClusterPartitionParser
+                .parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 0 0 1 connected 1-x"))
+                        .isInstanceOf(RedisException.class);
+    }
+
     @Test
     void shouldParseNodesIPv6Address() {
 
@@ -16,6 +16,7 @@
 package io.lettuce.core.cluster.topology;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -33,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -47,6 +49,8 @@ import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.ArrayOutput;
+import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.resource.ClientResources;
@@ -116,7 +120,12 @@ class ClusterTopologyRefreshUnitTests {
 
             TimedAsyncCommand command = (TimedAsyncCommand) invocation.getArguments()[0];
             if (command.getType() == CommandType.CLUSTER) {
-                command.getOutput().set(ByteBuffer.wrap(NODE_1_VIEW.getBytes()));
+
+                if (command.getOutput() instanceof ArrayOutput) {
+                    setSlots(command.getOutput());
+                } else {
+                    command.getOutput().set(ByteBuffer.wrap(NODE_1_VIEW.getBytes()));
+                }
                 command.complete();
             }
 
@@ -142,7 +151,12 @@ class ClusterTopologyRefreshUnitTests {
 
             TimedAsyncCommand command = (TimedAsyncCommand) invocation.getArguments()[0];
             if (command.getType() == CommandType.CLUSTER) {
-                command.getOutput().set(ByteBuffer.wrap(NODE_2_VIEW.getBytes()));
+
+                if (command.getOutput() instanceof ArrayOutput) {
+                    setSlots(command.getOutput());
+                } else {
+                    command.getOutput().set(ByteBuffer.wrap(NODE_2_VIEW.getBytes()));
+                }
                 command.complete();
             }
 
@@ -389,6 +403,174 @@ class ClusterTopologyRefreshUnitTests {
         verify(connection2).closeAsync();
     }
 
+    @Test
+    void shouldSkipTopologyRetrievalIfSlotsUnchanged() {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection2));
+
+        Map<RedisURI, Partitions> first = sut.loadViews(seed, Duration.ofSeconds(1), false, true).toCompletableFuture()
+                .join();
+        Map<RedisURI, Partitions> second = sut.loadViews(seed, Duration.ofSeconds(1), false, true).toCompletableFuture()
+                .join();
+
+        assertThat(second).hasSize(2).containsOnlyKeys(first.keySet());
+        assertThat(second.get(seed.get(0))).isNotSameAs(first.get(seed.get(0)));
+        assertThat(second.get(seed.get(0))).extracting(RedisClusterNode::getNodeId).containsExactly("2", "1");
+        assertThat(second.get(seed.get(0)).getPartitionBySlot(8000).getNodeId()).isEqualTo("1");
+
+        verify(connection1, times(1))
+                .dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterNodes));
+        verify(connection1, times(2)).dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterSlots));
+        verify(connection2, never()).dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterSlots));
+        verify(connection1, times(2)).closeAsync();
+    }
+
+    @Test
+    void shouldRefreshLatencyAndClientsIfSlotsUnchanged() {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection2));
+
+        Map<RedisURI, Partitions> first = sut.loadViews(seed, Duration.ofSeconds(1), false, true).toCompletableFuture()
+                .join();
+
+        assertThat(first.get(seed.get(0))).extracting(RedisClusterNode::getNodeId).containsExactly("2", "1");
+
+        doAnswer(invocation -> {
+
+            TimedAsyncCommand command = (TimedAsyncCommand) invocation.getArguments()[0];
+            if (command.getType() == CommandType.INFO) {
+                command.getOutput().set(ByteBuffer.wrap("# Clients\nconnected_clients:5\n".getBytes()));
+                command.complete();
+            }
+
+            command.encodedAtNs = 10;
+            command.completedAtNs = 100;
+
+            return command;
+        }).when(connection2).dispatch(any(RedisCommand.class));
+
+        Map<RedisURI, Partitions> second = sut.loadViews(seed, Duration.ofSeconds(1), false, true).toCompletableFuture()
+                .join();
+
+        Partitions partitions = second.get(seed.get(0));
+        assertThat(partitions).extracting(RedisClusterNode::getNodeId).containsExactly("1", "2");
+        assertThat(((RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("2")).getLatencyNs()).isEqualTo(90);
+        assertThat(((RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("2")).getConnectedClients()).isEqualTo(5);
+
+        verify(connection1, times(1))
+                .dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterNodes));
+    }
+
+    @Test
+    void shouldRefreshMetricsOfSampledNodesIfSlotsUnchanged() {
+
+        RedisURI uri1 = RedisURI.create("127.0.0.1", 7380);
+        RedisURI uri2 = RedisURI.create("127.0.0.1", 7381);
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection2));
+
+        sut.loadViews(Arrays.asList(uri1, uri2), Duration.ofSeconds(1), false, true).toCompletableFuture().join();
+
+        doAnswer(invocation -> {
+
+            TimedAsyncCommand command = (TimedAsyncCommand) invocation.getArguments()[0];
+            if (command.getType() == CommandType.CLUSTER) {
+                setSlots(command.getOutput());
+                command.complete();
+            }
+
+            if (command.getType() == CommandType.INFO) {
+                command.getOutput().set(ByteBuffer.wrap("# Clients\nconnected_clients:5\n".getBytes()));
+                command.complete();
+            }
+
+            command.encodedAtNs = 10;
+            command.completedAtNs = 100;
+
+            return command;
+        }).when(connection2).dispatch(any(RedisCommand.class));
+
+        Map<RedisURI, Partitions> second = sut
+                .loadViews(Collections.singletonList(uri2), Duration.ofSeconds(1), false, true).toCompletableFuture().join();
+
+        Partitions partitions = second.get(uri1);
+        assertThat(((RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("1")).getLatencyNs()).isEqualTo(40);
+        assertThat(((RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("2")).getLatencyNs()).isEqualTo(90);
+        assertThat(((RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("2")).getConnectedClients()).isEqualTo(5);
+
+        Map<RedisURI, Partitions> third = sut
+                .loadViews(Collections.singletonList(uri1), Duration.ofSeconds(1), false, true).toCompletableFuture().join();
+
+        assertThat(third).containsKeys(uri1, uri2);
+        verify(connection1, times(1))
+                .dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterNodes));
+        verify(connection2, times(1))
+                .dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterNodes));
+    }
+
+    @Test
+    void shouldCloseConnectionsIfSlotsCannotBeParsed() {
+
+        List<RedisURI> seed = Collections.singletonList(RedisURI.create("127.0.0.1", 7380));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+
+        doAnswer(invocation -> {
+
+            TimedAsyncCommand command = (TimedAsyncCommand) invocation.getArguments()[0];
+            CommandOutput<?, ?, ?> output = command.getOutput();
+
+            // host reported as integer
+            output.multi(1);
+            output.multi(3);
+            output.set(0);
+            output.set(16383);
+            output.multi(2);
+            output.set(7380);
+            output.set(7380);
+            output.complete(3);
+            output.complete(2);
+            output.complete(1);
+            command.complete();
+
+            return command;
+        }).when(connection1).dispatch(any(RedisCommand.class));
+
+        assertThatThrownBy(() -> sut.loadViews(seed, Duration.ofSeconds(1), false, true).toCompletableFuture().join())
+                .hasRootCauseInstanceOf(ClassCastException.class);
+
+        verify(connection1).closeAsync();
+    }
+
+    @Test
+    void shouldRetrieveTopologyIfNotIncremental() {
+
+        List<RedisURI> seed = Collections.singletonList(RedisURI.create("127.0.0.1", 7380));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+
+        sut.loadViews(seed, Duration.ofSeconds(1), false, true).toCompletableFuture().join();
+        sut.loadViews(seed, Duration.ofSeconds(1), false, false).toCompletableFuture().join();
+
+        verify(connection1, times(2)).dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterNodes));
+        verify(connection1, times(1)).dispatch(ArgumentMatchers.<RedisCommand<String, String, ?>> argThat(this::isClusterSlots));
+    }
+
     @Test
     void undiscoveredAdditionalNodesShouldBeLastUsingClientCount() {
 
@@ -544,6 +726,38 @@ class ClusterTopologyRefreshUnitTests {
         return requests;
     }
 
+    private boolean isClusterSlots(RedisCommand<?, ?, ?> command) {
+        return command.getType() == CommandType.CLUSTER && command.getOutput() instanceof ArrayOutput;
+    }
+
+    private boolean isClusterNodes(RedisCommand<?, ?, ?> command) {
+        return command.getType() == CommandType.CLUSTER && !(command.getOutput() instanceof ArrayOutput);
+    }
+
+    /**
+     * Emit a {@code CLUSTER SLOTS} reply matching {@link #NODE_1_VIEW} and {@link #NODE_2_VIEW}.
+     */
+    private static void setSlots(CommandOutput<?, ?, ?> output) {
+
+        output.multi(2);
+        setSlotRange(output, 8000, 11999, 7380, "1");
+        setSlotRange(output, 12002, 16383, 7381, "2");
+        output.complete(1);
+    }
+
+    private static void setSlotRange(CommandOutput<?, ?, ?> output, long from, long to, long port, String nodeId) {
+
+        output.multi(3);
+        output.set(from);
+        output.set(to);
+        output.multi(3);
+        output.set(ByteBuffer.wrap("127.0.0.1".getBytes()));
+        output.set(port);
+        output.set(ByteBuffer.wrap(nodeId.getBytes()));
+        output.complete(3);
+        output.complete(2);
+    }
+
     private static <T> ConnectionFuture<T> completedFuture(T value) {
 
         return ConnectionFuture.from(InetSocketAddress.createUnresolved(TestSettings.host(), TestSettings.port()),
@@ -18,11 +18,17 @@ package io.lettuce.core.codec;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.Test;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * @author Mark Paluch
  */
@@ -76,6 +82,132 @@ class CompressionCodecUnitTests {
                 .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void shouldRoundtripLargeValues() {
+
+        String largeValue = repeat("value", 10000);
+
+        for (CompressionCodec.CompressionType type : CompressionCodec.CompressionType.values()) {
+
+            RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, type);
+            ByteBuffer encoded = sut.encodeValue(largeValue);
+
+            assertThat(encoded.remaining()).isLessThan(largeValue.length());
+            assertThat(sut.decodeValue(encoded)).isEqualTo(largeValue);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompressIntoByteBuf() {
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(ByteArrayCodec.INSTANCE,
+                CompressionCodec.CompressionType.GZIP);
+        byte[] largeValue = repeat("value", 1000).getBytes();
+
+        ByteBuf heap = Unpooled.buffer(1);
+        ByteBuf direct = Unpooled.directBuffer(1);
+
+        ((ToByteBufEncoder<byte[], byte[]>) sut).encodeValue(largeValue, heap);
+        ((ToByteBufEncoder<byte[], byte[]>) sut).encodeValue(largeValue, direct);
+
+        assertThat(heap).isEqualTo(direct);
+        assertThat(heap.nioBuffer()).isEqualTo(sut.encodeValue(largeValue));
+        assertThat(sut.decodeValue(direct.nioBuffer())).isEqualTo(largeValue);
+
+        heap.release();
+        direct.release();
+    }
+
+    @Test
+    void shouldDecodeGzipFromStreams() throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(value.getBytes());
+        }
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+
+        assertThat(sut.decodeValue(ByteBuffer.wrap(out.toByteArray()))).isEqualTo(value);
+    }
+
+    @Test
+    void shouldRejectCorruptGzip() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+        byte[] corrupt = keyGzipBytes.clone();
+        corrupt[corrupt.length - 6]++;
+
+        assertThatThrownBy(() -> sut.decodeValue(ByteBuffer.wrap(corrupt))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldDecodeMultiMemberGzip() throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String part : new String[] { "val", "ue" }) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(part.getBytes());
+            }
+        }
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+
+        assertThat(sut.decodeValue(ByteBuffer.wrap(out.toByteArray()))).isEqualTo(value);
+    }
+
+    @Test
+    void shouldRejectGzipWithMismatchingSize() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+        byte[] corrupt = keyGzipBytes.clone();
+        corrupt[corrupt.length - 1] = 0x7f;
+
+        assertThatThrownBy(() -> sut.decodeValue(ByteBuffer.wrap(corrupt))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void estimateShouldNotBeExact() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+
+        assertThat(((ToByteBufEncoder<String, String>) sut).isEstimateExact()).isFalse();
+    }
+
+    @Test
+    void shouldStoreSmallValuesUncompressed() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.DEFLATE, 16);
+
+        ByteBuffer small = sut.encodeValue(value);
+
+        assertThat(small.get(small.position())).isEqualTo(CompressionCodec.UNCOMPRESSED);
+        assertThat(sut.decodeValue(small)).isEqualTo(value);
+
+        String largeValue = repeat(value, 100);
+        ByteBuffer large = sut.encodeValue(largeValue);
+
+        assertThat(large.get(large.position())).isEqualTo(CompressionCodec.COMPRESSED);
+        assertThat(large.remaining()).isLessThan(largeValue.length());
+        assertThat(sut.decodeValue(large)).isEqualTo(largeValue);
+    }
+
+    private static String repeat(String value, int times) {
+
+        StringBuilder builder = new StringBuilder(value.length() * times);
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
     private String toString(ByteBuffer buffer) {
         byte[] bytes = toBytes(buffer);
         return new String(bytes, StandardCharsets.UTF_8);
@@ -86,6 +86,19 @@ class StringCodecUnitTests {
         assertThat(codec.decodeKey(byteBuffer)).isEqualTo(teststring);
     }
 
+    @Test
+    void decodeUtf8FromByteBuf() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8);
+
+        ByteBuf buffer = Unpooled.buffer(1234);
+        buffer.writeByte('x');
+        codec.encodeValue(teststring, buffer);
+
+        assertThat(codec.decodeValue(buffer.slice(1, buffer.readableBytes() - 1))).isEqualTo(teststring);
+        assertThat(buffer.readerIndex()).isZero();
+    }
+
     @Test
     void encodeAndDecodeAsciiBuf() {
 
@@ -112,8 +125,10 @@ class StringCodecUnitTests {
     void estimateSize() {
 
         assertThat(new StringCodec(StandardCharsets.UTF_8).estimateSize(teststring))
-                .isEqualTo((int) (teststring.length() * 1.1));
+                .isEqualTo(teststring.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(new StringCodec(StandardCharsets.UTF_8).isEstimateExact()).isTrue();
         assertThat(new StringCodec(StandardCharsets.US_ASCII).estimateSize(teststring)).isEqualTo(teststring.length());
         assertThat(new StringCodec(StandardCharsets.ISO_8859_1).estimateSize(teststring)).isEqualTo(teststring.length());
+        assertThat(new StringCodec(StandardCharsets.UTF_16).isEstimateExact()).isFalse();
     }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MpscArrayQueue}.
+ *
+ * @author Mark Paluch
+ */
+class MpscArrayQueueUnitTests {
+
+    @Test
+    void shouldRetainFifoOrder() {
+
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(3);
+
+        queue.add("a");
+        queue.add("b");
+
+        assertThat(queue.peek()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("b");
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldApplyExactCapacity() {
+
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(3);
+
+        assertThat(queue.offer("a")).isTrue();
+        assertThat(queue.offer("b")).isTrue();
+        assertThat(queue.offer("c")).isTrue();
+        assertThat(queue.offer("d")).isFalse();
+        assertThat(queue).hasSize(3);
+
+        assertThatThrownBy(() -> queue.add("d")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldWrapAround() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(3);
+
+        for (int i = 0; i < 10; i++) {
+            queue.add(i);
+            queue.add(i + 100);
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(i + 100);
+        }
+
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    void shouldIterateAndClear() {
+
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(4);
+        queue.addAll(Arrays.asList("a", "b", "c"));
+        queue.poll();
+        queue.add("d");
+
+        assertThat(queue).containsExactly("b", "c", "d");
+        assertThat(queue.contains("c")).isTrue();
+
+        queue.clear();
+
+        assertThat(queue).isEmpty();
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void shouldAcceptConcurrentProducers() throws Exception {
+
+        int producers = 4;
+        int perProducer = 10000;
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(128);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+
+        try {
+            for (int p = 0; p < producers; p++) {
+
+                int offset = p * perProducer;
+                executor.execute(() -> {
+
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!queue.offer(offset + i)) {
+                            Thread.yield();
+                        }
+                    }
+                    latch.countDown();
+                });
+            }
+
+            List<Integer> received = new ArrayList<>();
+            while (received.size() < producers * perProducer) {
+
+                Integer element = queue.poll();
+                if (element != null) {
+                    received.add(element);
+                }
+            }
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Set<Integer> unique = new HashSet<>(received);
+            assertThat(unique).hasSize(producers * perProducer);
+            assertThat(queue.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void newMpscQueueShouldUseRingBufferForBoundedQueues() {
+
+        assertThat(LettuceFactories.newMpscQueue(100)).isInstanceOf(MpscArrayQueue.class);
+        assertThat(LettuceFactories.newMpscQueue(Integer.MAX_VALUE)).isNotInstanceOf(MpscArrayQueue.class);
+    }
+}
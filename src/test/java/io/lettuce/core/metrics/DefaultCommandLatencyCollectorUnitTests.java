@@ -138,6 +138,55 @@ class DefaultCommandLatencyCollectorUnitTests {
         sut.shutdown();
     }
 
+    @Test
+    void shouldDisableDetailedLatenciesByDefault() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        assertThat(sut.isDetailedLatenciesEnabled()).isFalse();
+    }
+
+    @Test
+    void verifyDetailedMetrics() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.builder().detailedLatencies(true)
+                .build());
+
+        assertThat(sut.isDetailedLatenciesEnabled()).isTrue();
+
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(5),
+                MICROSECONDS.toNanos(20), 0, MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(1000));
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, -1, -1, MILLISECONDS.toNanos(50),
+                MILLISECONDS.toNanos(200), MILLISECONDS.toNanos(1000));
+
+        CommandMetrics metrics = sut.retrieveMetrics().values().iterator().next();
+
+        assertThat(metrics.getCount()).isEqualTo(2);
+        assertThat(metrics.getQueue().getMax()).isBetween(4900L, 5100L);
+        assertThat(metrics.getEncode().getMax()).isBetween(19L, 21L);
+        assertThat(metrics.getHeadOfLine().getMin()).isEqualTo(0);
+        assertThat(metrics.getHeadOfLine().getMax()).isBetween(49000L, 51000L);
+
+        sut.shutdown();
+    }
+
+    @Test
+    void shouldNotRetainDetailedMetricsByDefault() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(5),
+                MICROSECONDS.toNanos(20), 0, MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(1000));
+
+        CommandMetrics metrics = sut.retrieveMetrics().values().iterator().next();
+
+        assertThat(metrics.getQueue()).isNull();
+        assertThat(metrics.getEncode()).isNull();
+        assertThat(metrics.getHeadOfLine()).isNull();
+
+        sut.shutdown();
+    }
+
     private void setupData() {
         sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
                 MILLISECONDS.toNanos(1000));
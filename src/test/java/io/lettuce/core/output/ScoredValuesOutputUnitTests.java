@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.ScoredValues;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * @author Mark Paluch
+ */
+class ScoredValuesOutputUnitTests {
+
+    private ScoredValuesOutput<String, String> sut = new ScoredValuesOutput<>(StringCodec.UTF8);
+
+    @Test
+    void shouldDecodeFlatResponse() {
+
+        sut.multi(6);
+        sut.set(ByteBuffer.wrap("a".getBytes()));
+        sut.set(ByteBuffer.wrap("4.567".getBytes()));
+        sut.set(ByteBuffer.wrap("b".getBytes()));
+        sut.set(ByteBuffer.wrap("-12".getBytes()));
+        sut.set(ByteBuffer.wrap("c".getBytes()));
+        sut.set(ByteBuffer.wrap("inf".getBytes()));
+
+        ScoredValues<String> result = sut.get();
+
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.getValues()).containsExactly("a", "b", "c");
+        assertThat(result.getScores()).containsExactly(4.567, -12, Double.POSITIVE_INFINITY);
+        assertThat(result.toList()).contains(ScoredValue.fromNullable(-12, "b"));
+    }
+
+    @Test
+    void shouldDecodeNestedResp3Response() {
+
+        sut.multi(2);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("a".getBytes()));
+        sut.set(1.5);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("b".getBytes()));
+        sut.set(2.5);
+
+        ScoredValues<String> result = sut.get();
+
+        assertThat(result.getValues()).containsExactly("a", "b");
+        assertThat(result.getScores()).containsExactly(1.5, 2.5);
+    }
+
+    @Test
+    void shouldReturnEmptyResult() {
+
+        sut.multi(0);
+
+        assertThat(sut.get().isEmpty()).isTrue();
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -191,6 +192,54 @@ public class AsyncCommandUnitTests {
         assertThatThrownBy(() -> sut.await(5, TimeUnit.MILLISECONDS)).isInstanceOf(RedisCommandInterruptedException.class);
     }
 
+    @Test
+    void awaitCompletionFromOtherThread() {
+
+        Thread thread = new Thread(() -> {
+            sleep(20);
+            sut.getOutput().set(StandardCharsets.US_ASCII.encode("one"));
+            sut.complete();
+        });
+        thread.start();
+
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sut.getNow(null)).isEqualTo("one");
+    }
+
+    @Test
+    void awaitCancellationFromOtherThread() {
+
+        Thread thread = new Thread(() -> {
+            sleep(20);
+            sut.cancel();
+        });
+        thread.start();
+
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sut.isCancelled()).isTrue();
+    }
+
+    @Test
+    void awaitWithConcurrentWaiters() throws Exception {
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> sut.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> sut.await(5, TimeUnit.SECONDS));
+
+        sleep(20);
+        sut.complete();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     void outputSubclassOverride1() {
         CommandOutput<String, String, String> output = new CommandOutput<String, String, String>(codec, null) {
@@ -26,7 +26,9 @@ import org.junit.jupiter.api.Test;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 
 /**
  * @author Mark Paluch
@@ -175,4 +177,61 @@ class CommandArgsUnitTests {
 
         assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
     }
+
+    @Test
+    void encodedLengthShouldMatchEncodedArguments() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue("v\u00e4lue").add(0)
+                .add(-129).add(Long.MIN_VALUE).add(1.5).add("string").add("chars".toCharArray()).add("bytes".getBytes())
+                .add(CommandKeyword.LIMIT);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.encodedLength()).isEqualTo(buffer.readableBytes());
+
+        buffer.release();
+    }
+
+    @Test
+    void encodedLengthShouldMatchEncodedCommand() {
+
+        Command<byte[], byte[], String> command = new Command<>(CommandType.SET, null,
+                new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes()).addValue(new byte[1000]));
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(command.encodedLength()).isEqualTo(buffer.readableBytes());
+        assertThat(new AsyncCommand<>(command).encodedLength()).isEqualTo(buffer.readableBytes());
+
+        buffer.release();
+    }
+
+    @Test
+    void zeroCopyShouldWrapByteArrayCodecValues() {
+
+        byte[] value = new byte[2048];
+        Arrays.fill(value, (byte) 'x');
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+                .addValue(value);
+
+        ByteBuf buffer = Unpooled.buffer();
+        ZeroCopyWriteContext context = ZeroCopyWriteContext.open(buffer, ZeroCopyWriteContext.MINIMUM_THRESHOLD);
+
+        try {
+            args.encode(buffer);
+
+            CompositeByteBuf composite = (CompositeByteBuf) context.toByteBuf(UnpooledByteBufAllocator.DEFAULT);
+
+            assertThat(composite.numComponents()).isEqualTo(3);
+            assertThat(composite.component(1).array()).isSameAs(value);
+            assertThat(composite.toString(StandardCharsets.US_ASCII))
+                    .isEqualTo("$3\r\nkey\r\n$2048\r\n" + new String(value, StandardCharsets.US_ASCII) + "\r\n");
+
+            composite.release();
+        } finally {
+            context.close();
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Unit tests for {@link CommandEncoder}.
+ *
+ * @author Mark Paluch
+ */
+class CommandEncoderUnitTests {
+
+    private final byte[] value = new byte[4096];
+
+    {
+        Arrays.fill(value, (byte) 'x');
+    }
+
+    @Test
+    void shouldCopyArgumentsWithoutThreshold() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false, false, 0));
+
+        channel.writeOutbound(set(ByteArrayCodec.INSTANCE, "key".getBytes(), value));
+
+        ByteBuf buffer = channel.readOutbound();
+
+        assertThat(buffer).isNotInstanceOf(CompositeByteBuf.class);
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected());
+
+        buffer.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldWriteLargeArgumentsWithoutCopying() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false, false, 2048));
+
+        channel.writeOutbound(set(ByteArrayCodec.INSTANCE, "key".getBytes(), value));
+
+        ByteBuf buffer = channel.readOutbound();
+
+        assertThat(buffer).isInstanceOf(CompositeByteBuf.class);
+        assertThat(((CompositeByteBuf) buffer).numComponents()).isEqualTo(3);
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected());
+
+        buffer.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldWriteLargeArgumentsOfBatchesWithoutCopying() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false, false, 2048));
+
+        channel.writeOutbound(Arrays.asList(set(StringCodec.ASCII, "key", new String(value, StandardCharsets.US_ASCII)),
+                set(ByteArrayCodec.INSTANCE, "key".getBytes(), value)));
+
+        ByteBuf buffer = channel.readOutbound();
+
+        assertThat(buffer).isInstanceOf(CompositeByteBuf.class);
+        assertThat(((CompositeByteBuf) buffer).numComponents()).isEqualTo(5);
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected() + expected());
+        assertThat(buffer.refCnt()).isEqualTo(1);
+
+        buffer.release();
+        channel.finishAndReleaseAll();
+    }
+
+    private String expected() {
+        return "*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$4096\r\n" + new String(value, StandardCharsets.US_ASCII) + "\r\n";
+    }
+
+    private static <K, V> Command<K, V, String> set(RedisCodec<K, V> codec, K key, V value) {
+        return new Command<>(CommandType.SET, new StatusOutput<>(codec), new CommandArgs<>(codec).addKey(key).addValue(value));
+    }
+}
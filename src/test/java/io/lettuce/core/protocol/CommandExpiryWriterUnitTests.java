@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Unit tests for {@link CommandExpiryWriter}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommandExpiryWriterUnitTests {
+
+    @Mock
+    private RedisChannelWriter writer;
+
+    @Mock
+    private ClientResources clientResources;
+
+    private EventExecutorGroup executorGroup;
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void before() {
+
+        executorGroup = new DefaultEventExecutorGroup(1);
+        timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
+
+        when(clientResources.eventExecutorGroup()).thenReturn(executorGroup);
+        when(clientResources.timer()).thenReturn(timer);
+        when(writer.write(any(RedisCommand.class))).then(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void after() {
+
+        executorGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        timer.stop();
+    }
+
+    @Test
+    void shouldExpireCommandOnExecutor() {
+
+        CommandExpiryWriter sut = new CommandExpiryWriter(writer, getOptions(false), clientResources);
+        AsyncCommand<String, String, String> command = createCommand();
+
+        sut.write(command);
+
+        assertThatThrownBy(() -> command.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RedisCommandTimeoutException.class);
+    }
+
+    @Test
+    void shouldCancelExpiryOnExecutorWhenCommandCompletes() {
+
+        EventExecutorGroup executorGroup = mock(EventExecutorGroup.class);
+        ScheduledFuture<?> schedule = mock(ScheduledFuture.class);
+
+        when(clientResources.eventExecutorGroup()).thenReturn(executorGroup);
+        doReturn(schedule).when(executorGroup).schedule(any(Runnable.class), anyLong(), any());
+
+        CommandExpiryWriter sut = new CommandExpiryWriter(writer, getOptions(false), clientResources);
+        AsyncCommand<String, String, String> command = createCommand();
+
+        sut.write(command);
+        command.complete();
+
+        verify(schedule).cancel(false);
+    }
+
+    @Test
+    void shouldExpireCommandOnTimer() {
+
+        CommandExpiryWriter sut = new CommandExpiryWriter(writer, getOptions(true), clientResources);
+        AsyncCommand<String, String, String> command = createCommand();
+
+        sut.write(command);
+
+        assertThatThrownBy(() -> command.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void shouldCancelExpiryOnTimerWhenCommandCompletes() {
+
+        Timer timer = mock(Timer.class);
+        Timeout timeout = mock(Timeout.class);
+
+        when(clientResources.timer()).thenReturn(timer);
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+
+        CommandExpiryWriter sut = new CommandExpiryWriter(writer, getOptions(true), clientResources);
+        AsyncCommand<String, String, String> command = createCommand();
+
+        sut.write(command);
+        verify(timer).newTimeout(any(), anyLong(), any());
+
+        command.complete();
+
+        verify(timeout).cancel();
+    }
+
+    private static ClientOptions getOptions(boolean scheduleOnTimer) {
+
+        return ClientOptions.builder().timeoutOptions(TimeoutOptions.builder().fixedTimeout(Duration.ofMillis(50))
+                .scheduleOnTimer(scheduleOnTimer).build()).build();
+    }
+
+    private static AsyncCommand<String, String, String> createCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+    }
+
+}
@@ -46,8 +46,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.ConnectionMetrics;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.tracing.Tracing;
@@ -101,6 +105,9 @@ class CommandHandlerUnitTests {
     @Mock
     private CommandLatencyCollector latencyCollector;
 
+    @Mock
+    private ConnectionMetricsRecorder connectionMetricsRecorder;
+
     @BeforeAll
     static void beforeClass() {
         LoggerContext ctx = (LoggerContext) LogManager.getContext();
@@ -134,7 +141,8 @@ class CommandHandlerUnitTests {
         });
 
         when(latencyCollector.isEnabled()).thenReturn(true);
-        when(clientResources.commandLatencyCollector()).thenReturn(latencyCollector);
+        when(clientResources.commandLatencyRecorder()).thenReturn(latencyCollector);
+        when(clientResources.connectionMetricsRecorder()).thenReturn(connectionMetricsRecorder);
         when(clientResources.tracing()).thenReturn(Tracing.disabled());
 
         sut = new CommandHandler(ClientOptions.create(), clientResources, endpoint);
@@ -157,6 +165,28 @@ class CommandHandlerUnitTests {
         sut.exceptionCaught(context, new IOException("Connection timed out"));
     }
 
+    @Test
+    void shouldNotifyConnectionMetricsRecorder() throws Exception {
+
+        when(connectionMetricsRecorder.isEnabled()).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        ArgumentCaptor<ConnectionMetrics> captor = ArgumentCaptor.forClass(ConnectionMetrics.class);
+        verify(connectionMetricsRecorder).connectionActivated(captor.capture());
+
+        ConnectionMetrics metrics = captor.getValue();
+        stack.add(command);
+
+        assertThat(metrics.getInFlightCommands()).isEqualTo(1);
+        assertThat(metrics.remoteAddress()).isEqualTo(channel.remoteAddress());
+
+        sut.channelInactive(context);
+
+        verify(connectionMetricsRecorder).connectionDeactivated(metrics);
+    }
+
     @Test
     void testExceptionChannelInactive() throws Exception {
         sut.setState(CommandHandler.LifecycleState.DISCONNECTED);
@@ -406,7 +436,35 @@ class CommandHandlerUnitTests {
 
         sut.channelRead(context, Unpooled.wrappedBuffer("*1\r\n+OK\r\n".getBytes()));
 
-        verify(latencyCollector).recordCommandLatency(any(), any(), eq(CommandType.APPEND), gt(0L), gt(0L));
+        verify(latencyCollector).recordCommandLatency(any(), any(), eq(CommandType.APPEND), eq(-1L), eq(-1L), eq(0L), gt(0L),
+                gt(0L));
+
+        sut.channelUnregistered(context);
+    }
+
+    @Test
+    void shouldDispatchPushMessagesToPushListeners() throws Exception {
+
+        Endpoint pushEndpoint = mock(Endpoint.class, withSettings().extraInterfaces(PushHandler.class));
+        PushListener listener = mock(PushListener.class);
+        when(((PushHandler) pushEndpoint).getPushListeners()).thenReturn(Collections.singletonList(listener));
+
+        sut = new CommandHandler(ClientOptions.create(), clientResources, pushEndpoint);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+        sut.getStack().add(command);
+
+        sut.channelRead(context, Unpooled.wrappedBuffer(">2\r\n$10\r\ninvalidate\r\n*1\r\n$3\r\nkey\r\n+OK\r\n".getBytes()));
+
+        ArgumentCaptor<PushMessage> captor = ArgumentCaptor.forClass(PushMessage.class);
+        verify(listener).onPushMessage(captor.capture());
+
+        PushMessage message = captor.getValue();
+        assertThat(message.getType()).isEqualTo("invalidate");
+        assertThat((List<Object>) message.getContent().get(1)).hasSize(1);
+        assertThat((byte[]) ((List<Object>) message.getContent().get(1)).get(0)).isEqualTo("key".getBytes());
+        assertThat(command.get()).isEqualTo("OK");
+        assertThat(sut.getStack()).isEmpty();
 
         sut.channelUnregistered(context);
     }
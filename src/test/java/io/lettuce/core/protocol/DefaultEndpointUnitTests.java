@@ -46,8 +46,10 @@ import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.LettuceFactories;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.test.ConnectionTestUtil;
@@ -125,6 +127,8 @@ class DefaultEndpointUnitTests {
             return promise;
         });
 
+        when(clientResources.commandLatencyRecorder()).thenReturn(CommandLatencyRecorder.disabled());
+
         sut = new DefaultEndpoint(ClientOptions.create(), clientResources);
         sut.setConnectionFacade(connectionFacade);
     }
@@ -177,6 +181,18 @@ class DefaultEndpointUnitTests {
         verify(connectionFacade).deactivated();
     }
 
+    @Test
+    void notifyChannelInactiveNotifiesPushListeners() {
+
+        PushListener listener = mock(PushListener.class);
+        sut.addListener(listener);
+
+        sut.notifyChannelInactive(channel);
+
+        verify(listener).onDisconnected();
+        verify(listener, never()).onPushMessage(any());
+    }
+
     @Test
     void notifyExceptionShouldStoreException() {
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.FlushCoalescingOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Unit tests for {@link FlushCoalescingHandler}.
+ *
+ * @author Mark Paluch
+ */
+class FlushCoalescingHandlerUnitTests {
+
+    @Test
+    void shouldDeferFlushToEndOfEventLoopCycle() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false),
+                new FlushCoalescingHandler(FlushCoalescingOptions.enabled()));
+
+        channel.pipeline().writeAndFlush(command());
+
+        assertThat((Object) channel.readOutbound()).isNull();
+
+        channel.runPendingTasks();
+
+        assertThat(readOutbound(channel)).isEqualTo("*1\r\n$4\r\nPING\r\n");
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldFlushImmediatelyWhenCommandThresholdIsReached() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false),
+                new FlushCoalescingHandler(FlushCoalescingOptions.builder().enabled().maxCommands(2).build()));
+
+        channel.pipeline().writeAndFlush(command());
+        assertThat((Object) channel.readOutbound()).isNull();
+
+        channel.pipeline().writeAndFlush(Arrays.asList(command(), command()));
+
+        assertThat(readOutbound(channel)).isEqualTo("*1\r\n$4\r\nPING\r\n");
+        assertThat(readOutbound(channel)).isEqualTo("*1\r\n$4\r\nPING\r\n*1\r\n$4\r\nPING\r\n");
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldFlushImmediatelyWhenByteThresholdIsReached() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false),
+                new FlushCoalescingHandler(FlushCoalescingOptions.builder().enabled().maxBytes(10).build()));
+
+        channel.pipeline().writeAndFlush(command());
+
+        assertThat(readOutbound(channel)).isEqualTo("*1\r\n$4\r\nPING\r\n");
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldFlushPendingWritesOnClose() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false),
+                new FlushCoalescingHandler(FlushCoalescingOptions.enabled()));
+
+        channel.pipeline().writeAndFlush(command());
+        channel.close();
+
+        assertThat(readOutbound(channel)).isEqualTo("*1\r\n$4\r\nPING\r\n");
+        channel.finishAndReleaseAll();
+    }
+
+    private static Command<String, String, String> command() {
+        return new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+    }
+
+    private static String readOutbound(EmbeddedChannel channel) {
+
+        ByteBuf buffer = channel.readOutbound();
+        try {
+            return buffer.toString(StandardCharsets.US_ASCII);
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -19,8 +19,10 @@ import static io.lettuce.core.protocol.RedisStateMachine.State;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -132,6 +134,74 @@ class RedisStateMachineResp2UnitTests {
         assertThat(buffer.readerIndex()).isEqualTo(9);
     }
 
+    @Test
+    void partialBulk() {
+        CommandOutput<String, String, String> output = new ValueOutput<>(codec);
+        ByteBuf buffer = buffer("$6\r\nfoo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        buffer.writeBytes("bar\r\n".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foobar");
+        assertThat(buffer.readerIndex()).isEqualTo(12);
+    }
+
+    @Test
+    void bulkWithByteBufferCodec() {
+        CommandOutput<String, String, String> output = new ValueOutput<>(new ByteBufferStringCodec());
+        ByteBuf buffer = buffer("$3\r\nfoo\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foo");
+    }
+
+    @Test
+    void streamBulkInChunks() {
+
+        List<String> chunks = new ArrayList<>();
+        List<Boolean> last = new ArrayList<>();
+        CommandOutput<String, String, Long> output = new BulkStreamingOutput<>(codec, (chunk, isLast) -> {
+            chunks.add(codec.decodeValue(chunk));
+            last.add(isLast);
+        });
+
+        ByteBuf buffer = buffer("$6\r\nfoo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(chunks).containsExactly("foo");
+
+        buffer.writeBytes("bar\r".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isFalse();
+
+        buffer.writeBytes("\n".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isTrue();
+
+        assertThat(chunks).containsExactly("foo", "bar", "");
+        assertThat(last).containsExactly(false, false, true);
+        assertThat(output.get()).isEqualTo(6);
+        assertThat(buffer.isReadable()).isFalse();
+    }
+
+    @Test
+    void streamCompleteBulk() {
+
+        List<String> chunks = new ArrayList<>();
+        CommandOutput<String, String, Long> output = new BulkStreamingOutput<>(codec,
+                (chunk, isLast) -> chunks.add(codec.decodeValue(chunk)));
+
+        assertThat(rsm.decode(buffer("$6\r\nfoobar\r\n"), output)).isTrue();
+        assertThat(chunks).containsExactly("foobar");
+        assertThat(output.get()).isEqualTo(6);
+    }
+
+    @Test
+    void streamNullBulk() {
+
+        CommandOutput<String, String, Long> output = new BulkStreamingOutput<>(codec, (chunk, isLast) -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+    }
+
     @Test
     void multi() {
         CommandOutput<String, String, List<String>> output = new ValueListOutput<>(codec);
@@ -192,4 +262,27 @@ class RedisStateMachineResp2UnitTests {
     ByteBuf buffer(String content) {
         return Unpooled.copiedBuffer(content, charset);
     }
+
+    static class ByteBufferStringCodec implements RedisCodec<String, String> {
+
+        @Override
+        public String decodeKey(ByteBuffer bytes) {
+            return StringCodec.UTF8.decodeKey(bytes);
+        }
+
+        @Override
+        public String decodeValue(ByteBuffer bytes) {
+            return StringCodec.UTF8.decodeValue(bytes);
+        }
+
+        @Override
+        public ByteBuffer encodeKey(String key) {
+            return StringCodec.UTF8.encodeKey(key);
+        }
+
+        @Override
+        public ByteBuffer encodeValue(String value) {
+            return StringCodec.UTF8.encodeValue(value);
+        }
+    }
 }
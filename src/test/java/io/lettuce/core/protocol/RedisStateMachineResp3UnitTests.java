@@ -208,6 +208,29 @@ class RedisStateMachineResp3UnitTests {
         assertThat(output.get().size()).isEqualTo(2);
     }
 
+    @Test
+    void pushMessage() {
+
+        ByteBuf buffer = buffer(">2\r\n$10\r\ninvalidate\r\n*2\r\n$3\r\nfoo\r\n$3\r\nbar\r\n");
+        assertThat(rsm.isPushMessage(buffer)).isTrue();
+
+        PushOutput<String, String> output = new PushOutput<>(codec);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(rsm.isEmpty()).isTrue();
+        assertThat(output.getType()).isEqualTo("invalidate");
+        assertThat(output.getContent()).hasSize(2);
+        assertThat((List<Object>) output.getContent().get(1)).hasSize(2);
+    }
+
+    @Test
+    void pushMessageWithNullPayload() {
+
+        PushOutput<String, String> output = new PushOutput<>(codec);
+        assertThat(rsm.decode(buffer(">2\r\n$10\r\ninvalidate\r\n_\r\n"), output)).isTrue();
+        assertThat(output.getType()).isEqualTo("invalidate");
+        assertThat(output.getContent()).hasSize(2).containsNull();
+    }
+
     @Test
     void partialFirstLine() {
         assertThat(rsm.decode(buffer("+"), output)).isFalse();
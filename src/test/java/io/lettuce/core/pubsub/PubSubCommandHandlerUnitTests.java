@@ -37,6 +37,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollector;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
 import io.lettuce.core.output.StatusOutput;
@@ -101,7 +102,8 @@ class PubSubCommandHandlerUnitTests {
             return null;
         });
 
-        when(clientResources.commandLatencyCollector())
+        when(clientResources.connectionMetricsRecorder()).thenReturn(ConnectionMetricsRecorder.disabled());
+        when(clientResources.commandLatencyRecorder())
                 .thenReturn(new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create()));
         when(clientResources.tracing()).thenReturn(Tracing.disabled());
 
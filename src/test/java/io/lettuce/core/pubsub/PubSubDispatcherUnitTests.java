@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+
+/**
+ * Unit tests for {@link PubSubDispatcher}.
+ *
+ * @author Mark Paluch
+ */
+class PubSubDispatcherUnitTests {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<String> received = new ArrayList<>();
+    private final List<Boolean> reads = new ArrayList<>();
+
+    @Test
+    void shouldDeliverInOrder() {
+
+        PubSubDispatcher<String> sut = create(OverflowPolicy.PAUSE_READING, 10);
+
+        sut.dispatch("1");
+        sut.dispatch("2");
+        sut.dispatch("3");
+
+        assertThat(tasks).hasSize(1);
+        runTasks();
+
+        assertThat(received).containsExactly("1", "2", "3");
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    void shouldContinueAfterListenerFailure() {
+
+        PubSubDispatcher<String> sut = new PubSubDispatcher<>(options(OverflowPolicy.PAUSE_READING, 10), tasks::add, s -> {
+            received.add(s);
+            throw new IllegalStateException();
+        }, reads::add);
+
+        sut.dispatch("1");
+        sut.dispatch("2");
+        runTasks();
+
+        assertThat(received).containsExactly("1", "2");
+    }
+
+    @Test
+    void shouldDropNewest() {
+
+        PubSubDispatcher<String> sut = create(OverflowPolicy.DROP_NEWEST, 2);
+
+        sut.dispatch("1");
+        sut.dispatch("2");
+        sut.dispatch("3");
+        runTasks();
+
+        assertThat(received).containsExactly("1", "2");
+        assertThat(reads).isEmpty();
+    }
+
+    @Test
+    void shouldDropOldest() {
+
+        PubSubDispatcher<String> sut = create(OverflowPolicy.DROP_OLDEST, 2);
+
+        sut.dispatch("1");
+        sut.dispatch("2");
+        sut.dispatch("3");
+        runTasks();
+
+        assertThat(received).containsExactly("2", "3");
+        assertThat(reads).isEmpty();
+    }
+
+    @Test
+    void shouldPauseAndResumeReading() {
+
+        PubSubDispatcher<String> sut = create(OverflowPolicy.PAUSE_READING, 2);
+
+        sut.dispatch("1");
+        assertThat(sut.isPaused()).isFalse();
+
+        sut.dispatch("2");
+        sut.dispatch("3");
+
+        assertThat(sut.isPaused()).isTrue();
+        assertThat(reads).containsExactly(false);
+
+        runTasks();
+
+        assertThat(received).containsExactly("1", "2", "3");
+        assertThat(sut.isPaused()).isFalse();
+        assertThat(reads).containsExactly(false, true);
+    }
+
+    private PubSubDispatcher<String> create(OverflowPolicy policy, int capacity) {
+        return new PubSubDispatcher<>(options(policy, capacity), tasks::add, received::add, reads::add);
+    }
+
+    private static PubSubDispatchOptions options(OverflowPolicy policy, int capacity) {
+        return PubSubDispatchOptions.builder().enabled().queueCapacity(capacity).overflowPolicy(policy).build();
+    }
+
+    private void runTasks() {
+
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -18,12 +18,17 @@ package io.lettuce.core.pubsub;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.ByteBufferCodec;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
@@ -115,6 +120,35 @@ class PubSubEndpointUnitTests {
         assertThat(notified).hasValue(1);
     }
 
+    @Test
+    void shouldDispatchNotificationsInOrder() throws InterruptedException {
+
+        ClientOptions options = ClientOptions.builder().pubSubDispatchOptions(PubSubDispatchOptions.enabled()).build();
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(options, TestClientResources.get());
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+
+        sut.addListener(new RedisPubSubAdapter<String, String>() {
+            @Override
+            public void subscribed(String channel, long count) {
+                received.add(channel);
+                latch.countDown();
+            }
+        });
+
+        for (int i = 0; i < 100; i++) {
+            sut.notifyMessage(createMessage("subscribe", "channel" + i, StringCodec.UTF8));
+        }
+
+        assertThat(sut.getChannels()).hasSize(100);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(received.get(i)).isEqualTo("channel" + i);
+        }
+    }
+
     private static <K, V> PubSubOutput<K, V, V> createMessage(String action, String channel, RedisCodec<K, V> codec) {
 
         PubSubOutput<K, V, V> output = new PubSubOutput<>(codec);
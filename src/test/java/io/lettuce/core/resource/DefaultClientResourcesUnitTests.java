@@ -31,6 +31,8 @@ import reactor.test.StepVerifier;
 import io.lettuce.core.event.Event;
 import io.lettuce.core.event.EventBus;
 import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.ConnectionMetricsRecorder;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
 import io.lettuce.test.TestFutures;
 import io.lettuce.test.resource.FastShutdown;
@@ -156,6 +158,40 @@ class DefaultClientResourcesUnitTests {
         verifyZeroInteractions(timerMock);
     }
 
+    @Test
+    void shouldConfigureMetricsRecorders() {
+
+        CommandLatencyRecorder recorder = (local, remote, commandType, firstResponseLatency, completionLatency) -> {
+        };
+        ConnectionMetricsRecorder connectionMetricsRecorder = mock(ConnectionMetricsRecorder.class);
+
+        ClientResources sut = ClientResources.builder().commandLatencyRecorder(recorder)
+                .connectionMetricsRecorder(connectionMetricsRecorder).build();
+
+        assertThat(sut.commandLatencyRecorder()).isSameAs(recorder);
+        assertThat(sut.commandLatencyCollector().isEnabled()).isFalse();
+        assertThat(sut.connectionMetricsRecorder()).isSameAs(connectionMetricsRecorder);
+
+        ClientResources copy = sut.mutate().build();
+
+        assertThat(copy.commandLatencyRecorder()).isSameAs(recorder);
+        assertThat(copy.connectionMetricsRecorder()).isSameAs(connectionMetricsRecorder);
+
+        FastShutdown.shutdown(copy);
+        FastShutdown.shutdown(sut);
+    }
+
+    @Test
+    void shouldDefaultCommandLatencyRecorderToCollector() {
+
+        ClientResources sut = ClientResources.create();
+
+        assertThat(sut.commandLatencyRecorder()).isSameAs(sut.commandLatencyCollector());
+        assertThat(sut.connectionMetricsRecorder().isEnabled()).isFalse();
+
+        FastShutdown.shutdown(sut);
+    }
+
     @Test
     void testSmallPoolSize() {
 
@@ -16,9 +16,12 @@
 package io.lettuce.core.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -290,4 +293,315 @@ class BoundedAsyncPoolUnitTests {
         assertThat(pool.getObjectCount()).isZero();
         assertThat(pool.getCreationInProgress()).isZero();
     }
+
+    @Test
+    void shouldServeWaitersInOrder() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).maxWaiters(2).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+
+        CompletableFuture<String> waiter1 = pool.acquire();
+        CompletableFuture<String> waiter2 = pool.acquire();
+
+        assertThat(pool.getWaiters()).isEqualTo(2);
+        assertThat(pool.acquire()).isCompletedExceptionally();
+
+        pool.release(object);
+
+        assertThat(waiter1).isCompletedWithValue("1");
+        assertThat(waiter2).isNotDone();
+
+        pool.release(TestFutures.getOrTimeout(waiter1));
+
+        assertThat(waiter2).isCompletedWithValue("1");
+        assertThat(pool.getWaiters()).isZero();
+        assertThat(pool.getWaitCount()).isEqualTo(2);
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotBargeAheadOfWaiters() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).maxWaiters(2).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.release(object);
+        CompletableFuture<String> late = pool.acquire();
+
+        assertThat(waiter).isCompletedWithValue("1");
+        assertThat(late).isNotDone();
+    }
+
+    @Test
+    void shouldExpireWaiters() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).maxWaiters(1).maxWait(Duration.ofMillis(10)).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        assertThatThrownBy(() -> TestFutures.awaitOrTimeout(waiter)).hasRootCauseInstanceOf(NoSuchElementException.class);
+        assertThat(pool.getWaiters()).isZero();
+        assertThat(pool.getWaitTimeoutCount()).isEqualTo(1);
+
+        pool.release(object);
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnObjectOfCancelledWaiter() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).maxWaiters(1).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        waiter.cancel(true);
+        assertThat(pool.getWaiters()).isZero();
+
+        pool.release(object);
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWaitersOnClose() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).maxWaiters(1).build());
+
+        TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.close();
+
+        assertThat(waiter).isCompletedExceptionally();
+        assertThat(pool.getWaiters()).isZero();
+    }
+
+    @Test
+    void shouldServeWaiterIfCreateValidationFails() {
+
+        List<CompletableFuture<String>> progress = new ArrayList<>();
+        AsyncObjectFactory<String> factory = new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+
+                CompletableFuture<String> future = new CompletableFuture<>();
+                progress.add(future);
+
+                return future;
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(!object.equals("invalid"));
+            }
+        };
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory,
+                BoundedPoolConfig.builder().maxTotal(1).maxWaiters(1).testOnCreate().build());
+
+        CompletableFuture<String> first = pool.acquire();
+        CompletableFuture<String> waiter = pool.acquire();
+
+        assertThat(pool.getWaiters()).isEqualTo(1);
+
+        progress.get(0).complete("invalid");
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(destroyed).containsOnly("invalid");
+        assertThat(progress).hasSize(2);
+
+        progress.get(1).complete("valid");
+
+        assertThat(waiter).isCompletedWithValue("valid");
+        assertThat(pool.getWaiters()).isZero();
+        assertThat(pool.getCreationInProgress()).isZero();
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeWaiterIfCreateFails() {
+
+        List<CompletableFuture<String>> progress = new ArrayList<>();
+        AsyncObjectFactory<String> factory = new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+
+                CompletableFuture<String> future = new CompletableFuture<>();
+                progress.add(future);
+
+                return future;
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(true);
+            }
+        };
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory,
+                BoundedPoolConfig.builder().maxTotal(1).maxWaiters(1).build());
+
+        CompletableFuture<String> first = pool.acquire();
+        CompletableFuture<String> waiter = pool.acquire();
+
+        progress.get(0).completeExceptionally(new IllegalStateException());
+        progress.get(1).complete("valid");
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(waiter).isCompletedWithValue("valid");
+        assertThat(pool.getCreationInProgress()).isZero();
+    }
+
+    @Test
+    void shouldEvictIdleObjects() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().minEvictableIdleTime(Duration.ZERO).build());
+
+        String object1 = TestFutures.getOrTimeout(pool.acquire());
+        String object2 = TestFutures.getOrTimeout(pool.acquire());
+        pool.release(object1);
+
+        TestFutures.awaitOrTimeout(pool.runMaintenance());
+
+        assertThat(destroyed).containsOnly("1");
+        assertThat(pool.getIdle()).isZero();
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+
+        pool.release(object2);
+    }
+
+    @Test
+    void shouldRetainObjectsIdleShorterThanThreshold() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().minEvictableIdleTime(Duration.ofMinutes(1)).build());
+
+        pool.release(TestFutures.getOrTimeout(pool.acquire()));
+
+        TestFutures.awaitOrTimeout(pool.runMaintenance());
+
+        assertThat(destroyed).isEmpty();
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetainMinIdleObjectsOnEviction() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().minIdle(2).minEvictableIdleTime(Duration.ZERO).build());
+
+        TestFutures.awaitOrTimeout(pool.runMaintenance());
+
+        assertThat(destroyed).isEmpty();
+        assertThat(pool.getIdle()).isEqualTo(2);
+        assertThat(pool.getObjectCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictIdleObjectsDownToMinIdle() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().minIdle(1).minEvictableIdleTime(Duration.ZERO).build());
+
+        String object1 = TestFutures.getOrTimeout(pool.acquire());
+        String object2 = TestFutures.getOrTimeout(pool.acquire());
+        pool.release(object1);
+        pool.release(object2);
+
+        assertThat(pool.getIdle()).isEqualTo(3);
+
+        TestFutures.awaitOrTimeout(pool.runMaintenance());
+
+        assertThat(destroyed).hasSize(2);
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldValidateIdleObjects() {
+
+        List<String> validated = new ArrayList<>();
+
+        AsyncObjectFactory<String> factory = new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+                return STRING_OBJECT_FACTORY.create();
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(true);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validateIdle(String object) {
+                validated.add(object);
+                return CompletableFuture.completedFuture(!object.equals("1"));
+            }
+        };
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory,
+                BoundedPoolConfig.builder().testWhileIdle().minEvictableIdleTime(Duration.ofMinutes(1)).build());
+
+        String object1 = TestFutures.getOrTimeout(pool.acquire());
+        String object2 = TestFutures.getOrTimeout(pool.acquire());
+        pool.release(object1);
+        pool.release(object2);
+
+        TestFutures.awaitOrTimeout(pool.runMaintenance());
+
+        assertThat(validated).containsExactly("1", "2");
+        assertThat(destroyed).containsOnly("1");
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(TestFutures.getOrTimeout(pool.acquire())).isEqualTo("2");
+    }
+
+    @Test
+    void shouldRunMaintenancePeriodically() throws InterruptedException {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder()
+                .timeBetweenEvictionRuns(Duration.ofMillis(10)).minEvictableIdleTime(Duration.ZERO).build());
+
+        pool.release(TestFutures.getOrTimeout(pool.acquire()));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getIdle() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(pool.getIdle()).isZero();
+        assertThat(pool.getObjectCount()).isZero();
+
+        pool.close();
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedCacheAccessor}.
+ *
+ * @author Mark Paluch
+ */
+class BoundedCacheAccessorUnitTests {
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() {
+
+        BoundedCacheAccessor<String, String> cache = new BoundedCacheAccessor<>(2, 0);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("3");
+    }
+
+    @Test
+    void shouldNotifyEvictionListener() throws InterruptedException {
+
+        List<String> evicted = new ArrayList<>();
+        BoundedCacheAccessor<String, String> cache = new BoundedCacheAccessor<>(2, Duration.ofMillis(50).toNanos(),
+                evicted::add);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        cache.evict("b");
+
+        assertThat(evicted).containsExactly("a");
+
+        Thread.sleep(60);
+
+        assertThat(cache.get("c")).isNull();
+        assertThat(evicted).containsExactly("a", "c");
+    }
+
+    @Test
+    void shouldExpireEntries() throws InterruptedException {
+
+        CacheAccessor<String, String> cache = CacheAccessor.bounded(10, Duration.ofMillis(10));
+
+        cache.put("a", "1");
+        Thread.sleep(20);
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void shouldEvict() {
+
+        CacheAccessor<String, String> cache = CacheAccessor.bounded(10);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.evict("a");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("2");
+
+        cache.evictAll();
+
+        assertThat(cache.get("b")).isNull();
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link ClientSideCaching}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClientSideCachingUnitTests {
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection;
+
+    @Mock
+    private RedisCommands<String, String> commands;
+
+    private CacheFrontend<String, String> frontend;
+
+    private PushListener listener;
+
+    @BeforeEach
+    void before() {
+
+        when(connection.sync()).thenReturn(commands);
+
+        frontend = ClientSideCaching.create(CacheAccessor.bounded(100), connection, StringCodec.UTF8);
+        listener = captureListener();
+    }
+
+    @Test
+    void shouldCacheGet() {
+
+        when(commands.get("key")).thenReturn("value");
+
+        assertThat(frontend.get("key")).isEqualTo("value");
+        assertThat(frontend.get("key")).isEqualTo("value");
+
+        verify(commands, times(1)).get("key");
+    }
+
+    @Test
+    void shouldEvictOnInvalidation() {
+
+        when(commands.get("key")).thenReturn("value", "updated");
+
+        assertThat(frontend.get("key")).isEqualTo("value");
+
+        listener.onPushMessage(invalidate("key"));
+
+        assertThat(frontend.get("key")).isEqualTo("updated");
+    }
+
+    @Test
+    void shouldLoadValueThroughValueLoaderOnly() {
+
+        assertThat(frontend.get("key", () -> "loaded")).isEqualTo("loaded");
+        assertThat(frontend.get("key", () -> "other")).isEqualTo("loaded");
+
+        verify(commands, never()).get("key");
+    }
+
+    @Test
+    void shouldRejectNullFromValueLoader() {
+
+        assertThatThrownBy(() -> frontend.get("key", () -> null))
+                .isInstanceOf(CacheFrontend.ValueRetrievalException.class);
+    }
+
+    @Test
+    void shouldCacheHashFieldsPerField() {
+
+        when(commands.hget("hash", "f1")).thenReturn("v1");
+        when(commands.hget("hash", "f2")).thenReturn("v2");
+
+        assertThat(frontend.hget("hash", "f1")).isEqualTo("v1");
+        assertThat(frontend.hget("hash", "f2")).isEqualTo("v2");
+        assertThat(frontend.hget("hash", "f1")).isEqualTo("v1");
+        assertThat(frontend.get("hash", () -> "string")).isEqualTo("string");
+
+        verify(commands, times(1)).hget("hash", "f1");
+        verify(commands, never()).get("hash");
+    }
+
+    @Test
+    void shouldEvictHashFieldsOnInvalidation() {
+
+        when(commands.hget("hash", "f1")).thenReturn("v1", "updated");
+
+        assertThat(frontend.hget("hash", "f1")).isEqualTo("v1");
+
+        listener.onPushMessage(invalidate("hash"));
+
+        assertThat(frontend.hget("hash", "f1")).isEqualTo("updated");
+    }
+
+    @Test
+    void shouldBoundCachedHashFields() {
+
+        reset(connection);
+        when(connection.sync()).thenReturn(commands);
+        frontend = ClientSideCaching.create(CacheAccessor.bounded(2), connection, StringCodec.UTF8);
+        listener = captureListener();
+
+        when(commands.hget("hash", "f1")).thenReturn("v1");
+        when(commands.hget("hash", "f2")).thenReturn("v2");
+        when(commands.hget("hash", "f3")).thenReturn("v3");
+
+        frontend.hget("hash", "f1");
+        frontend.hget("hash", "f2");
+        frontend.hget("hash", "f3");
+        frontend.hget("hash", "f1");
+
+        verify(commands, times(2)).hget("hash", "f1");
+    }
+
+    @Test
+    void shouldNotCacheHashFieldsWithUnboundedAccessor() {
+
+        reset(connection);
+        when(connection.sync()).thenReturn(commands);
+        frontend = ClientSideCaching.create(CacheAccessor.forMap(new ConcurrentHashMap<>()), connection, StringCodec.UTF8);
+
+        when(commands.hget("hash", "f1")).thenReturn("v1");
+
+        assertThat(frontend.hget("hash", "f1")).isEqualTo("v1");
+        assertThat(frontend.hget("hash", "f1")).isEqualTo("v1");
+
+        verify(commands, times(2)).hget("hash", "f1");
+    }
+
+    @Test
+    void shouldRejectCodecWithIdentityBasedKeys() {
+
+        StatefulRedisConnection<byte[], byte[]> binaryConnection = mock(StatefulRedisConnection.class);
+
+        assertThatThrownBy(
+                () -> ClientSideCaching.create(CacheAccessor.bounded(100), binaryConnection, ByteArrayCodec.INSTANCE))
+                        .isInstanceOf(IllegalArgumentException.class);
+        verify(binaryConnection, never()).addListener(any(PushListener.class));
+    }
+
+    @Test
+    void shouldClearCacheOnDisconnect() {
+
+        when(commands.get("key")).thenReturn("value", "updated");
+        when(commands.hget("hash", "f1")).thenReturn("v1", "updated");
+
+        frontend.get("key");
+        frontend.hget("hash", "f1");
+
+        listener.onDisconnected();
+
+        assertThat(frontend.get("key")).isEqualTo("updated");
+        assertThat(frontend.hget("hash", "f1")).isEqualTo("updated");
+    }
+
+    @Test
+    void shouldDiscardValueLoadedDuringInvalidation() {
+
+        when(commands.get("key")).thenAnswer(invocation -> {
+            listener.onPushMessage(invalidate("key"));
+            return "stale";
+        }).thenReturn("fresh");
+
+        assertThat(frontend.get("key")).isEqualTo("stale");
+        assertThat(frontend.get("key")).isEqualTo("fresh");
+    }
+
+    private PushListener captureListener() {
+
+        ArgumentCaptor<PushListener> captor = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(captor.capture());
+        return captor.getValue();
+    }
+
+    private static PushMessage invalidate(String... keys) {
+
+        List<Object> payload = Arrays.asList(Arrays.stream(keys).map(String::getBytes).toArray());
+
+        return new PushMessage() {
+
+            @Override
+            public String getType() {
+                return "invalidate";
+            }
+
+            @Override
+            public List<Object> getContent() {
+                return Arrays.asList("invalidate".getBytes(), payload);
+            }
+        };
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.protocol.ConnectionFacade;
@@ -43,6 +44,14 @@ public class EmptyStatefulRedisConnection extends RedisChannelHandler implements
         return false;
     }
 
+    @Override
+    public void addListener(PushListener listener) {
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+    }
+
     @Override
     public RedisCommands sync() {
         return null;
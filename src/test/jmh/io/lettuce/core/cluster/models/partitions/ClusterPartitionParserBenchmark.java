@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster.models.partitions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Benchmark for {@link ClusterPartitionParser} using {@code CLUSTER NODES} output of clusters with one replica per master.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterPartitionParserBenchmark {
+
+    @Param({ "100", "1000" })
+    int nodes;
+
+    private String clusterNodes;
+
+    @Setup
+    public void setup() {
+
+        int masters = nodes / 2;
+        int slotsPerMaster = SlotHash.SLOT_COUNT / masters;
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < masters; i++) {
+
+            int from = i * slotsPerMaster;
+            int to = i == masters - 1 ? SlotHash.SLOT_COUNT - 1 : from + slotsPerMaster - 1;
+
+            builder.append(nodeId(i)).append(" 10.0.").append(i / 256).append('.').append(i % 256).append(":6379@16379 ");
+            builder.append(i == 0 ? "myself,master" : "master").append(" - 0 1592815582000 ").append(i + 1)
+                    .append(" connected ");
+
+            // split the slot range to reflect resharding
+            int split = from + (to - from) / 2;
+            builder.append(from).append('-').append(split).append(' ').append(split + 1).append('-').append(to).append('\n');
+        }
+
+        for (int i = 0; i < nodes - masters; i++) {
+
+            builder.append(nodeId(masters + i)).append(" 10.1.").append(i / 256).append('.').append(i % 256)
+                    .append(":6379@16379 slave ").append(nodeId(i)).append(" 0 1592815582000 ").append(i + 1)
+                    .append(" connected\n");
+        }
+
+        clusterNodes = builder.toString();
+    }
+
+    @Benchmark
+    public Partitions parse() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    private static String nodeId(int index) {
+        return String.format("%040x", index);
+    }
+}
@@ -33,6 +33,7 @@ public class JmhMain {
 
     public static void main(String... args) throws Exception {
         runClusterNodeBenchmark();
+        runClusterPartitionParserBenchmark();
     }
 
     private static void runClusterNodeBenchmark() throws RunnerException {
@@ -43,6 +44,14 @@ public class JmhMain {
                 .build()).run();
     }
 
+    private static void runClusterPartitionParserBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.MICROSECONDS) //
+                .include(".*ClusterPartitionParserBenchmark.*") //
+                .build()).run();
+    }
+
     private static ChainedOptionsBuilder prepareOptions() {
         return new OptionsBuilder()//
                 .forks(1) //
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link CompressionCodec}. Test cases:
+ * <ul>
+ * <li>Compress and decompress values using GZIP and Deflate</li>
+ * <li>Compress values into a pooled {@link ByteBuf} through {@link ToByteBufEncoder}</li>
+ * <li>Compress and decompress values using {@link GZIPOutputStream} and {@link GZIPInputStream} as baseline</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+public class CompressionCodecBenchmark {
+
+    @Benchmark
+    public ByteBuffer encodeGzip(Input input) {
+        return input.gzipCodec.encodeValue(input.value);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDeflate(Input input) {
+        return input.deflateCodec.encodeValue(input.value);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void encodeGzipToBuf(Input input) {
+
+        ByteBuf target = PooledByteBufAllocator.DEFAULT.buffer(input.value.length);
+        ((ToByteBufEncoder<byte[], byte[]>) input.gzipCodec).encodeValue(input.value, target);
+        target.release();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeGzipUsingStreams(Input input) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.value.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(input.value);
+        }
+
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    @Benchmark
+    public byte[] decodeGzip(Input input) {
+        return input.gzipCodec.decodeValue(input.gzip.duplicate());
+    }
+
+    @Benchmark
+    public byte[] decodeDeflate(Input input) {
+        return input.deflateCodec.decodeValue(input.deflate.duplicate());
+    }
+
+    @Benchmark
+    public byte[] decodeGzipUsingStreams(Input input) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.value.length);
+        byte[] buffer = new byte[4096];
+
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(input.gzip.array()))) {
+
+            int read;
+            while ((read = gzip.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+
+        return out.toByteArray();
+    }
+
+    @State(Scope.Thread)
+    public static class Input {
+
+        @Param({ "64", "1024", "65536" })
+        int size;
+
+        RedisCodec<byte[], byte[]> gzipCodec = CompressionCodec.valueCompressor(ByteArrayCodec.INSTANCE,
+                CompressionCodec.CompressionType.GZIP);
+
+        RedisCodec<byte[], byte[]> deflateCodec = CompressionCodec.valueCompressor(ByteArrayCodec.INSTANCE,
+                CompressionCodec.CompressionType.DEFLATE);
+
+        byte[] value;
+
+        ByteBuffer gzip;
+
+        ByteBuffer deflate;
+
+        @Setup
+        public void setup() {
+
+            value = new byte[size];
+
+            for (int i = 0; i < size; i++) {
+                value[i] = (byte) ('a' + (i % 7) + (i % 13));
+            }
+
+            gzip = toHeapBuffer(gzipCodec.encodeValue(value));
+            deflate = toHeapBuffer(deflateCodec.encodeValue(value));
+        }
+
+        private static ByteBuffer toHeapBuffer(ByteBuffer buffer) {
+
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return ByteBuffer.wrap(bytes);
+        }
+    }
+}
@@ -16,6 +16,8 @@
 package io.lettuce.core.protocol;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
@@ -26,13 +28,19 @@ import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.Utf8StringCodec;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.output.ValueOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 
 /**
  * Benchmark for {@link Command}. Test cases:
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Encode single and pipelined commands into buffers allocated with their exact {@link RedisCommand#encodedLength()
+ * encoded length} compared to buffers growing on demand</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -47,6 +55,18 @@ public class CommandBenchmark {
 
     private static final String KEY = "key";
     private static final byte[] BYTE_KEY = "key".getBytes();
+    private static final byte[] LARGE_VALUE = new byte[64 * 1024];
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+    private final Command<String, String, String> stringSet = createSet(KEY, "value", NEW_STRING_CODEC);
+    private final Command<byte[], byte[], String> largeSet = createSet(BYTE_KEY, LARGE_VALUE, BYTE_ARRAY_CODEC);
+    private final List<Command<String, String, String>> batch = new ArrayList<>();
+
+    {
+        for (int i = 0; i < 100; i++) {
+            batch.add(createSet(KEY + i, "value" + i, NEW_STRING_CODEC));
+        }
+    }
 
     @Benchmark
     public void createCommandUsingByteArrayCodec(Blackhole blackhole) {
@@ -78,6 +98,59 @@ public class CommandBenchmark {
         createCommand(KEY, NEW_STRING_CODEC).encode(DUMMY_BYTE_BUF);
     }
 
+    @Benchmark
+    public void encodeStringCommandIntoDefaultBuffer() {
+        encode(stringSet, ALLOCATOR.ioBuffer());
+    }
+
+    @Benchmark
+    public void encodeStringCommandIntoExactlySizedBuffer() {
+        encode(stringSet, ALLOCATOR.ioBuffer(stringSet.encodedLength()));
+    }
+
+    @Benchmark
+    public void encodeLargeValueIntoDefaultBuffer() {
+        encode(largeSet, ALLOCATOR.ioBuffer());
+    }
+
+    @Benchmark
+    public void encodeLargeValueIntoExactlySizedBuffer() {
+        encode(largeSet, ALLOCATOR.ioBuffer(largeSet.encodedLength()));
+    }
+
+    @Benchmark
+    public void encodeBatchIntoEstimatedBuffer() {
+        encode(batch, ALLOCATOR.ioBuffer(batch.size() * 16));
+    }
+
+    @Benchmark
+    public void encodeBatchIntoExactlySizedBuffer() {
+
+        int length = 0;
+        for (Command<String, String, String> command : batch) {
+            length += command.encodedLength();
+        }
+
+        encode(batch, ALLOCATOR.ioBuffer(length));
+    }
+
+    private static void encode(RedisCommand<?, ?, ?> command, ByteBuf buffer) {
+        command.encode(buffer);
+        buffer.release();
+    }
+
+    private static void encode(List<? extends RedisCommand<?, ?, ?>> commands, ByteBuf buffer) {
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            command.encode(buffer);
+        }
+        buffer.release();
+    }
+
+    private static <K, V> Command<K, V, String> createSet(K key, V value, RedisCodec<K, V> codec) {
+        return new Command<>(CommandType.SET, new StatusOutput<>(codec), new CommandArgs<>(codec).addKey(key).addValue(value));
+    }
+
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
         Command command = new Command(CommandType.GET, new ValueOutput<>(codec), new CommandArgs(codec).addKey(key));
         return command;
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.EmptyRedisChannelWriter;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Benchmark for {@link CommandExpiryWriter} comparing timeout scheduling on the computation pool with scheduling on the
+ * {@link ClientResources#timer() timer}.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>write and complete a command with executor-scheduled timeout</li>
+ * <li>write and complete a command with timer-scheduled timeout</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandExpiryWriterBenchmark {
+
+    private static final ByteArrayCodec CODEC = new ByteArrayCodec();
+    private static final byte[] KEY = "key".getBytes();
+
+    private ClientResources clientResources;
+    private CommandExpiryWriter executorWriter;
+    private CommandExpiryWriter timerWriter;
+
+    @Setup
+    public void setup() {
+
+        clientResources = ClientResources.create();
+
+        executorWriter = new CommandExpiryWriter(EmptyRedisChannelWriter.INSTANCE, ClientOptions.builder()
+                .timeoutOptions(TimeoutOptions.builder().fixedTimeout(Duration.ofSeconds(10)).build()).build(),
+                clientResources);
+
+        timerWriter = new CommandExpiryWriter(EmptyRedisChannelWriter.INSTANCE,
+                ClientOptions.builder()
+                        .timeoutOptions(
+                                TimeoutOptions.builder().fixedTimeout(Duration.ofSeconds(10)).scheduleOnTimer().build())
+                        .build(),
+                clientResources);
+    }
+
+    @TearDown
+    public void tearDown() {
+        clientResources.shutdown();
+    }
+
+    @Benchmark
+    public void measureExecutorScheduling() {
+        writeAndComplete(executorWriter);
+    }
+
+    @Benchmark
+    public void measureTimerScheduling() {
+        writeAndComplete(timerWriter);
+    }
+
+    private static void writeAndComplete(CommandExpiryWriter writer) {
+
+        AsyncCommand<byte[], byte[], byte[]> command = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs<>(CODEC).addKey(KEY)));
+
+        writer.write(command);
+        command.complete();
+    }
+}
@@ -39,6 +39,7 @@ public class JmhMain {
         // runRedisEndpointBenchmark();
         // runRedisStateMachineBenchmark();
         // runCommandEncoderBenchmark();
+        // runCommandExpiryWriterBenchmark();
 
         // or all
         // runBenchmarks();
@@ -81,6 +82,14 @@ public class JmhMain {
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runCommandExpiryWriterBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
+                .include(".*CommandExpiryWriterBenchmark.*").build()).run();
+        new Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS)
+                .include(".*CommandExpiryWriterBenchmark.*").build()).run();
+    }
+
     private static void runRedisStateMachineBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
@@ -31,6 +31,7 @@ import io.netty.channel.embedded.EmbeddedChannel;
  * Test cases:
  * <ul>
  * <li>user command writes</li>
+ * <li>concurrent user command writes into the disconnected buffer</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -42,8 +43,12 @@ public class RedisEndpointBenchmark {
     private static final ClientOptions CLIENT_OPTIONS = ClientOptions.create();
     private static final byte[] KEY = "key".getBytes();
     private static final ChannelFuture EMPTY = new EmptyFuture();
+    private static final int BUFFER_SIZE = 65536;
+    private static final int DRAIN_INTERVAL = 256;
+    private static final ClientOptions BOUNDED_CLIENT_OPTIONS = ClientOptions.builder().requestQueueSize(BUFFER_SIZE).build();
 
     private DefaultEndpoint defaultEndpoint;
+    private DefaultEndpoint disconnectedEndpoint;
     private Command command;
 
     @Setup
@@ -54,11 +59,15 @@ public class RedisEndpointBenchmark {
 
         defaultEndpoint.setConnectionFacade(EmptyStatefulRedisConnection.INSTANCE);
         defaultEndpoint.notifyChannelActive(new MyLocalChannel());
+
+        disconnectedEndpoint = new DefaultEndpoint(BOUNDED_CLIENT_OPTIONS, EmptyClientResources.INSTANCE);
+        disconnectedEndpoint.setConnectionFacade(EmptyStatefulRedisConnection.INSTANCE);
     }
 
     @TearDown(Level.Iteration)
     public void tearDown() {
         defaultEndpoint.reset();
+        disconnectedEndpoint.doExclusive(disconnectedEndpoint::drainCommands);
     }
 
     @Benchmark
@@ -66,6 +75,23 @@ public class RedisEndpointBenchmark {
         defaultEndpoint.write(command);
     }
 
+    @Benchmark
+    @Threads(4)
+    public void measureConcurrentBufferedWrite(WriterState writer) {
+
+        disconnectedEndpoint.write(command);
+
+        if (++writer.writes % DRAIN_INTERVAL == 0) {
+            disconnectedEndpoint.doExclusive(disconnectedEndpoint::drainCommands);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class WriterState {
+
+        long writes;
+    }
+
     private static final class MyLocalChannel extends EmbeddedChannel {
         @Override
         public boolean isActive() {
@@ -22,6 +22,8 @@ import org.openjdk.jmh.annotations.*;
 
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.output.ArrayOutput;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ValueOutput;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -58,8 +60,24 @@ public class RedisStateMachineBenchmark {
                 }
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
+    private static final ValueOutput<byte[], byte[]> byteBufOutput = new ValueOutput<>(BYTE_ARRAY_CODEC);
+
+    private static final CommandOutput<byte[], byte[], byte[]> byteBufferOutput = new CommandOutput<byte[], byte[], byte[]>(
+            BYTE_ARRAY_CODEC, null) {
+
+        @Override
+        public void set(ByteBuffer bytes) {
+            output = bytes == null ? null : codec.decodeValue(bytes);
+        }
+    };
+
+    private static final Command<byte[], byte[], byte[]> valueCommand = new Command<>(CommandType.GET, byteBufOutput,
+            new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
+
     private ByteBuf masterBuffer;
 
+    private ByteBuf bulkBuffer;
+
     private final RedisStateMachine stateMachine = new RedisStateMachine(ByteBufAllocator.DEFAULT);
     private final byte[] payload = ("*3\r\n" + //
             "$4\r\n" + //
@@ -73,11 +91,18 @@ public class RedisStateMachineBenchmark {
     public void setup() {
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+
+        byte[] value = new byte[1024 * 1024];
+        bulkBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(value.length + 16);
+        bulkBuffer.writeBytes(("$" + value.length + "\r\n").getBytes());
+        bulkBuffer.writeBytes(value);
+        bulkBuffer.writeBytes("\r\n".getBytes());
     }
 
     @TearDown
     public void tearDown() {
         masterBuffer.release();
+        bulkBuffer.release();
     }
 
     @Benchmark
@@ -86,6 +111,18 @@ public class RedisStateMachineBenchmark {
         masterBuffer.readerIndex(0);
     }
 
+    @Benchmark
+    public void measureDecodeLargeBulkByteBuf() {
+        stateMachine.decode(bulkBuffer, valueCommand, byteBufOutput);
+        bulkBuffer.readerIndex(0);
+    }
+
+    @Benchmark
+    public void measureDecodeLargeBulkByteBuffer() {
+        stateMachine.decode(bulkBuffer, valueCommand, byteBufferOutput);
+        bulkBuffer.readerIndex(0);
+    }
+
     public static void main(String[] args) {
 
         RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();